@@ -0,0 +1,43 @@
+package com.back.benchmark;
+
+import com.back.global.util.HtmlEntityDecoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HtmlEntityDecoder 비교
+ * - legacy: 엔티티별 String.replace 20여 회 + replaceAll 2회 + 유니코드 이스케이프 패스
+ * - singlePass: 트라이 기반 단일 패스 디코더
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HtmlEntityDecoderBenchmark {
+
+    @Param({"title", "description", "pubDate"})
+    public String field;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = switch (field) {
+            case "title" -> "&quot;<b>정부</b>&quot;, 기준금리 동결 결정&hellip; 시장 반응";
+            case "description" -> "한국은행 금융통화위원회는 29일 <b>기준금리</b>를 연 3.50%로 동결했다고 밝혔다. "
+                    + "&lt;b&gt;물가&lt;/b&gt; 상승세가 둔화되고 있지만 가계부채 증가세가 여전히 부담으로 "
+                    + "작용했다는 분석이다. \\u003Cb\\u003E한은\\u003C/b\\u003E은 &lsquo;신중한&rsquo; 입장을 유지했다.";
+            default -> "Tue, 29 Jul 2025 18:48:00 +0900";
+        };
+    }
+
+    @Benchmark
+    public String legacy() {
+        return LegacyHtmlEntityDecoder.decode(input);
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return HtmlEntityDecoder.decode(input);
+    }
+}
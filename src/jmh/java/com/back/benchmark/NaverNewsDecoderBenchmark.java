@@ -0,0 +1,81 @@
+package com.back.benchmark;
+
+import com.back.domain.news.common.dto.NaverNewsDto;
+import com.back.domain.news.real.naver.NaverNewsResponseDecoder;
+import com.back.global.util.HtmlEntityDecoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 네이버 검색 API 응답(display=50) 디코딩 비교
+ * - tree: 기존 방식 (String 본문 → readTree → items 순회 → 네이버 뉴스 필터)
+ * - streaming: NaverNewsResponseDecoder (InputStream → JsonParser)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NaverNewsDecoderBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final NaverNewsResponseDecoder decoder = new NaverNewsResponseDecoder(objectMapper);
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("""
+                {"lastBuildDate":"Tue, 29 Jul 2025 18:48:00 +0900","total":12345,"start":1,"display":50,"items":[""");
+        for (int i = 0; i < 50; i++) {
+            if (i > 0) json.append(',');
+            String link = i % 5 == 0
+                    ? "https://www.example.com/news/" + i
+                    : "https://n.news.naver.com/mnews/article/001/00" + (1000000 + i) + "?sid=101";
+            json.append("""
+                    {"title":"&quot;<b>정부</b>&quot;, 기준금리 동결 결정&hellip; 시장 반응 %d",
+                    "originallink":"https://www.example.com/original/%d",
+                    "link":"%s",
+                    "description":"한국은행 금융통화위원회는 29일 <b>기준금리</b>를 연 3.50%%로 동결했다고 밝혔다. &lt;b&gt;물가&lt;/b&gt; 상승세가 둔화되고 있지만 가계부채 증가세가 여전히 부담으로 작용했다는 분석이다.",
+                    "pubDate":"Tue, 29 Jul 2025 18:48:00 +0900"}""".formatted(i, i, link));
+        }
+        json.append("]}");
+        body = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<NaverNewsDto> tree() throws IOException {
+        String response = new String(body, StandardCharsets.UTF_8); // RestTemplate String 응답과 동일
+        JsonNode items = objectMapper.readTree(response).get("items");
+
+        List<NaverNewsDto> newsMetaDataList = new ArrayList<>();
+        for (JsonNode item : items) {
+            String rawTitle = item.get("title").asText("");
+            String originallink = item.get("originallink").asText("");
+            String link = item.get("link").asText("");
+            String rawDescription = item.get("description").asText("");
+            String pubDate = item.get("pubDate").asText("");
+
+            String cleanedTitle = HtmlEntityDecoder.decode(rawTitle);
+            String cleanDescription = HtmlEntityDecoder.decode(rawDescription);
+
+            if (cleanedTitle.isEmpty() || originallink.isEmpty() || link.isEmpty() || cleanDescription.isEmpty() || pubDate.isEmpty())
+                continue;
+            newsMetaDataList.add(NaverNewsDto.of(cleanedTitle, originallink, link, cleanDescription, pubDate));
+        }
+
+        return newsMetaDataList.stream()
+                .filter(dto -> dto.link().contains("n.news.naver.com"))
+                .toList();
+    }
+
+    @Benchmark
+    public List<NaverNewsDto> streaming() throws IOException {
+        return decoder.decode(new ByteArrayInputStream(body));
+    }
+}
@@ -0,0 +1,20 @@
+package com.back.domain.news.batch.dto;
+
+import com.back.domain.news.batch.enums.NewsBatchItemStatus;
+import com.back.domain.news.common.dto.AnalyzedNewsDto;
+import com.back.domain.news.common.dto.NaverNewsDto;
+import com.back.domain.news.real.dto.RealNewsDto;
+
+// 체크포인트에 저장된 뉴스 한 건. 진행된 단계까지의 결과만 채워짐
+public record CheckpointedNews(
+        Long itemId,
+        NewsBatchItemStatus status,
+        Integer keywordIndex,
+        NaverNewsDto metaData,
+        RealNewsDto realNews,
+        AnalyzedNewsDto analysis
+) {
+    public CheckpointedNews withRealNews(RealNewsDto realNews) {
+        return new CheckpointedNews(itemId, NewsBatchItemStatus.CRAWLED, keywordIndex, metaData, realNews, null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.back.domain.news.batch.dto;
+
+import java.time.LocalDateTime;
+
+// 중단된 배치 실행과, 이전 실행 인스턴스의 점유가 끝나 이어서 실행할 수 있는 시각
+public record InterruptedNewsBatch(
+        Long runId,
+        LocalDateTime resumableAt
+) {
+}
@@ -0,0 +1,27 @@
+package com.back.domain.news.batch.dto;
+
+import com.back.domain.news.batch.enums.NewsBatchItemStatus;
+import com.back.domain.news.batch.enums.NewsBatchStage;
+import com.back.domain.news.batch.enums.NewsBatchStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// 관리자용 배치 진행 상황
+public record NewsBatchStatusDto(
+        Long runId,
+        LocalDate runDate,
+        NewsBatchStatus status,
+        NewsBatchStage stage,
+        int attempt,
+        int keywordCount,
+        int collectedKeywordCount,
+        Map<NewsBatchItemStatus, Long> itemCounts,
+        String currentItemTitle,
+        NewsBatchItemStatus currentItemStatus,
+        String lastError,
+        LocalDateTime startedAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,88 @@
+package com.back.domain.news.batch.entity;
+
+import com.back.domain.news.batch.enums.NewsBatchItemStatus;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+// 배치에서 처리 중인 뉴스 한 건의 체크포인트 (메타데이터 → 크롤링 결과 → 분석 결과)
+@Entity
+@Getter
+@Table(name = "news_batch_item", indexes = {
+        @Index(name = "idx_news_batch_item_run_seq", columnList = "run_id, seq"),
+        @Index(name = "idx_news_batch_item_run_modified", columnList = "run_id, modified_date")
+})
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor
+public class NewsBatchItem {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id")
+    private Long runId;
+
+    private int seq; // 수집 순서 (중복 제거 순서 재현용)
+
+    private Integer keywordIndex; // 이 뉴스를 찾은 키워드의 순번 (NewsBatchRun.keywords 기준)
+
+    private String title;
+
+    private String link;
+
+    @Enumerated(EnumType.STRING)
+    private NewsBatchItemStatus status;
+
+    @Lob
+    private String metaData; // 네이버 검색 결과 (JSON)
+
+    @Lob
+    private String realNews; // 크롤링 결과 (JSON)
+
+    @Lob
+    private String analysis; // AI 분석 결과 (JSON), 분석에서 제외되면 null
+
+    @LastModifiedDate
+    private LocalDateTime modifiedDate;
+
+    @Builder
+    public NewsBatchItem(Long runId, int seq, Integer keywordIndex, String title, String link, String metaData) {
+        this.runId = runId;
+        this.seq = seq;
+        this.keywordIndex = keywordIndex;
+        this.title = title;
+        this.link = link;
+        this.metaData = metaData;
+        this.status = NewsBatchItemStatus.COLLECTED;
+    }
+
+    public void crawled(String realNews) {
+        this.realNews = realNews;
+        this.status = NewsBatchItemStatus.CRAWLED;
+    }
+
+    public void crawlFailed() {
+        this.status = NewsBatchItemStatus.CRAWL_FAILED;
+    }
+
+    public void analyzed(String analysis) {
+        this.analysis = analysis;
+        this.status = NewsBatchItemStatus.ANALYZED;
+    }
+
+    public void analysisFailed() {
+        this.status = NewsBatchItemStatus.ANALYSIS_FAILED;
+    }
+
+    public void rankedOut() {
+        this.status = NewsBatchItemStatus.RANKED_OUT;
+    }
+}
@@ -0,0 +1,127 @@
+package com.back.domain.news.batch.entity;
+
+import com.back.domain.news.batch.enums.NewsBatchStage;
+import com.back.domain.news.batch.enums.NewsBatchStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+// 일일 뉴스 배치 1회 실행의 진행 상태 (재시작 시 이어서 처리하기 위한 체크포인트)
+@Entity
+@Getter
+@Table(name = "news_batch_run", indexes = {
+        @Index(name = "idx_news_batch_run_run_date", columnList = "run_date")
+})
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor
+public class NewsBatchRun {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    private NewsBatchStatus status;
+
+    @Enumerated(EnumType.STRING)
+    private NewsBatchStage stage;
+
+    @Lob
+    private String keywords; // 생성된 키워드 목록 (JSON)
+
+    @Lob
+    private String keywordCategories; // 생성된 키워드별 카테고리 (JSON), 고정 키워드는 없음
+
+    private int collectedKeywordCount; // 검색 결과까지 저장된 키워드 수 (키워드 순서 기준)
+
+    private int attempt; // 실행/재개 횟수
+
+    @Column(name = "active_date", unique = true)
+    private LocalDate activeDate; // 끝나지 않은 실행의 날짜 (같은 날짜의 실행이 동시에 두 개 생기지 않도록 유니크), 완료 시 비움
+
+    @Column(length = 100)
+    private String leaseOwner; // 실행 중인 인스턴스
+
+    private LocalDateTime leaseUntil; // 실행 중인 인스턴스가 연장하지 않으면 이 시각 이후 다른 인스턴스가 이어서 실행
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdDate;
+
+    @LastModifiedDate
+    private LocalDateTime modifiedDate;
+
+    public NewsBatchRun(LocalDate runDate) {
+        this.runDate = runDate;
+        this.status = NewsBatchStatus.RUNNING;
+        this.stage = NewsBatchStage.KEYWORDS;
+        this.attempt = 1;
+        this.activeDate = runDate;
+    }
+
+    public void resume() {
+        this.status = NewsBatchStatus.RUNNING;
+        this.lastError = null;
+        this.attempt++;
+        this.activeDate = runDate;
+    }
+
+    // 다른 인스턴스가 기한 안에서 실행 중인지 확인
+    public boolean isLeasedByOther(String owner, LocalDateTime now) {
+        return leaseOwner != null && !leaseOwner.equals(owner) && leaseUntil != null && leaseUntil.isAfter(now);
+    }
+
+    public boolean isLeasedBy(String owner) {
+        return owner.equals(leaseOwner);
+    }
+
+    public void lease(String owner, LocalDateTime until) {
+        this.leaseOwner = owner;
+        this.leaseUntil = until;
+    }
+
+    public void saveKeywords(String keywords, String keywordCategories) {
+        this.keywords = keywords;
+        this.keywordCategories = keywordCategories;
+        this.stage = NewsBatchStage.PROCESSING;
+    }
+
+    public void keywordCollected(int keywordIndex) {
+        this.collectedKeywordCount = Math.max(collectedKeywordCount, keywordIndex + 1);
+    }
+
+    public void advance(NewsBatchStage stage) {
+        this.stage = stage;
+    }
+
+    public void complete() {
+        this.stage = NewsBatchStage.DONE;
+        this.status = NewsBatchStatus.COMPLETED;
+        this.activeDate = null;
+        releaseLease();
+    }
+
+    public void fail(String message) {
+        this.status = NewsBatchStatus.FAILED;
+        this.lastError = message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+        releaseLease();
+    }
+
+    private void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.back.domain.news.batch.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum NewsBatchItemStatus {
+    COLLECTED("수집됨"),
+    CRAWLED("크롤링 완료"),
+    CRAWL_FAILED("크롤링 실패"),
+    ANALYZED("분석 완료"),
+    ANALYSIS_FAILED("분석 실패"),
+    RANKED_OUT("사전 순위 제외");
+
+    private final String description;
+
+    NewsBatchItemStatus(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,17 @@
+package com.back.domain.news.batch.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum NewsBatchStage {
+    KEYWORDS("키워드 생성"),
+    PROCESSING("수집/크롤링/분석"),
+    SAVING("선정 및 저장"),
+    DONE("완료");
+
+    private final String description;
+
+    NewsBatchStage(String description) {
+        this.description = description;
+    }
+}
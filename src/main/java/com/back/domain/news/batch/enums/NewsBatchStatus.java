@@ -0,0 +1,7 @@
+package com.back.domain.news.batch.enums;
+
+public enum NewsBatchStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,20 @@
+package com.back.domain.news.batch.repository;
+
+import com.back.domain.news.batch.entity.NewsBatchItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface NewsBatchItemRepository extends JpaRepository<NewsBatchItem, Long> {
+
+    List<NewsBatchItem> findByRunIdOrderBySeqAsc(Long runId);
+
+    Optional<NewsBatchItem> findFirstByRunIdOrderByModifiedDateDesc(Long runId);
+
+    // [상태, 건수] 목록
+    @Query("SELECT i.status, COUNT(i) FROM NewsBatchItem i WHERE i.runId = :runId GROUP BY i.status")
+    List<Object[]> countByStatus(@Param("runId") Long runId);
+}
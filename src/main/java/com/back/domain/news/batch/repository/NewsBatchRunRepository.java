@@ -0,0 +1,37 @@
+package com.back.domain.news.batch.repository;
+
+import com.back.domain.news.batch.entity.NewsBatchRun;
+import com.back.domain.news.batch.enums.NewsBatchStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface NewsBatchRunRepository extends JpaRepository<NewsBatchRun, Long> {
+
+    Optional<NewsBatchRun> findFirstByRunDateAndStatusNotOrderByIdDesc(LocalDate runDate, NewsBatchStatus status);
+
+    // 이어서 실행할 실행을 잠그고 조회 (점유 확인과 점유를 한 번에 하기 위해, SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM NewsBatchRun r WHERE r.runDate = :runDate AND r.status <> :status ORDER BY r.id DESC")
+    List<NewsBatchRun> findUnfinishedForUpdate(@Param("runDate") LocalDate runDate,
+                                               @Param("status") NewsBatchStatus status,
+                                               Pageable pageable);
+
+    Optional<NewsBatchRun> findFirstByOrderByIdDesc();
+
+    @Modifying
+    @Query("UPDATE NewsBatchRun r SET r.leaseUntil = :leaseUntil WHERE r.id IN :ids AND r.leaseOwner = :owner")
+    int extendLeases(@Param("ids") Collection<Long> ids,
+                     @Param("owner") String owner,
+                     @Param("leaseUntil") LocalDateTime leaseUntil);
+}
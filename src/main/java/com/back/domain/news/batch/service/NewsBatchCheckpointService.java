@@ -0,0 +1,320 @@
+package com.back.domain.news.batch.service;
+
+import com.back.domain.news.batch.dto.CheckpointedNews;
+import com.back.domain.news.batch.dto.InterruptedNewsBatch;
+import com.back.domain.news.batch.dto.NewsBatchStatusDto;
+import com.back.domain.news.batch.entity.NewsBatchItem;
+import com.back.domain.news.batch.entity.NewsBatchRun;
+import com.back.domain.news.batch.enums.NewsBatchItemStatus;
+import com.back.domain.news.batch.enums.NewsBatchStage;
+import com.back.domain.news.batch.enums.NewsBatchStatus;
+import com.back.domain.news.batch.repository.NewsBatchItemRepository;
+import com.back.domain.news.batch.repository.NewsBatchRunRepository;
+import com.back.domain.news.common.dto.AnalyzedNewsDto;
+import com.back.domain.news.common.dto.NaverNewsDto;
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.dedup.NewsUrlCanonicalizer;
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일일 뉴스 배치의 단계별 체크포인트를 저장/조회하는 서비스입니다.
+ * - 키워드, 키워드별 검색 결과, 기사별 크롤링 결과와 분석 결과를 작업 단위마다 커밋합니다.
+ * - 배치 트랜잭션이 롤백되어도 체크포인트는 남도록 쓰기는 모두 별도 트랜잭션(REQUIRES_NEW)으로 수행합니다.
+ * - 실행은 한 인스턴스만 점유합니다. 점유 기한은 실행 중에 주기적으로 연장하고,
+ *   인스턴스가 중단되어 기한이 지나면 다른 인스턴스(또는 재시작한 인스턴스)가 이어서 실행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsBatchCheckpointService {
+
+    private final NewsBatchRunRepository newsBatchRunRepository;
+    private final NewsBatchItemRepository newsBatchItemRepository;
+    private final ObjectMapper objectMapper;
+    private final Set<Long> leasedRunIds = ConcurrentHashMap.newKeySet();
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Value("${news.batch.lease-duration:PT5M}") // 실행 점유 기한. 실행 중에는 주기적으로 연장
+    private Duration leaseDuration;
+
+    @Value("${news.batch.lease-renew-interval:PT1M}")
+    private Duration leaseRenewInterval;
+
+    @PostConstruct
+    public void validateConfig() {
+        if (leaseRenewInterval.isNegative() || leaseRenewInterval.isZero() || leaseRenewInterval.compareTo(leaseDuration) >= 0) {
+            throw new IllegalArgumentException("news.batch.lease-renew-interval은 0보다 크고 news.batch.lease-duration보다 작아야 합니다.");
+        }
+    }
+
+    /**
+     * 해당 날짜에 끝나지 않은 실행이 있으면 이어서, 없으면 새로 시작하고 실행을 점유합니다.
+     * 다른 인스턴스(또는 이 인스턴스의 다른 스레드)가 실행 중이면 비어 있습니다.
+     * 같은 날짜의 실행을 두 인스턴스가 동시에 새로 만들면 active_date 유니크 제약으로 한쪽이 DataIntegrityViolationException으로 실패합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Long> startOrResume(LocalDate runDate) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<NewsBatchRun> unfinished = newsBatchRunRepository
+                .findUnfinishedForUpdate(runDate, NewsBatchStatus.COMPLETED, PageRequest.of(0, 1))
+                .stream()
+                .findFirst();
+
+        if (unfinished.isPresent()) {
+            NewsBatchRun run = unfinished.get();
+            if (leasedRunIds.contains(run.getId()) || run.isLeasedByOther(owner, now)) {
+                log.info("이미 실행 중인 뉴스 배치 - 실행 ID: {}, 실행 중: {}, 기한: {}", run.getId(), run.getLeaseOwner(), run.getLeaseUntil());
+                return Optional.empty();
+            }
+            run.resume();
+            run.lease(owner, now.plus(leaseDuration));
+            leasedRunIds.add(run.getId());
+            log.info("뉴스 배치 재개 - 실행 ID: {}, 단계: {}, 시도: {}회", run.getId(), run.getStage(), run.getAttempt());
+            return Optional.of(run.getId());
+        }
+
+        NewsBatchRun run = newsBatchRunRepository.save(new NewsBatchRun(runDate));
+        run.lease(owner, now.plus(leaseDuration));
+        leasedRunIds.add(run.getId());
+        log.info("뉴스 배치 시작 - 실행 ID: {}", run.getId());
+        return Optional.of(run.getId());
+    }
+
+    // 점유 중인 실행의 기한 연장 (실행이 기한보다 오래 걸려도 다른 인스턴스가 가져가지 않도록)
+    @Scheduled(fixedDelayString = "${news.batch.lease-renew-interval:PT1M}")
+    @Transactional
+    public void renewLeases() {
+        if (leasedRunIds.isEmpty()) {
+            return;
+        }
+        newsBatchRunRepository.extendLeases(Set.copyOf(leasedRunIds), owner, LocalDateTime.now().plus(leaseDuration));
+    }
+
+    // 재시작 시 이어서 처리할, 비정상 종료된 실행 (RUNNING 상태로 남아있는 실행)
+    @Transactional(readOnly = true)
+    public Optional<InterruptedNewsBatch> findInterruptedRun(LocalDate runDate) {
+        LocalDateTime now = LocalDateTime.now();
+        return newsBatchRunRepository.findFirstByRunDateAndStatusNotOrderByIdDesc(runDate, NewsBatchStatus.COMPLETED)
+                .filter(run -> run.getStatus() == NewsBatchStatus.RUNNING)
+                .map(run -> new InterruptedNewsBatch(run.getId(),
+                        run.isLeasedByOther(owner, now) ? run.getLeaseUntil() : now));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<List<String>> findKeywords(Long runId) {
+        return Optional.ofNullable(getRun(runId).getKeywords())
+                .map(json -> fromJson(json, new TypeReference<List<String>>() {}));
+    }
+
+    // 생성된 키워드의 카테고리 (사전 순위 계산 시 뉴스의 잠정 카테고리로 사용)
+    @Transactional(readOnly = true)
+    public Map<String, NewsCategory> findKeywordCategories(Long runId) {
+        return Optional.ofNullable(getRun(runId).getKeywordCategories())
+                .map(json -> fromJson(json, new TypeReference<Map<String, NewsCategory>>() {}))
+                .orElse(Map.of());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveKeywords(Long runId, List<String> keywords, Map<String, NewsCategory> keywordCategories) {
+        getRun(runId).saveKeywords(toJson(keywords), toJson(keywordCategories));
+    }
+
+    @Transactional(readOnly = true)
+    public int getCollectedKeywordCount(Long runId) {
+        return getRun(runId).getCollectedKeywordCount();
+    }
+
+    // 수집 순서대로 저장된 뉴스 목록
+    @Transactional(readOnly = true)
+    public List<CheckpointedNews> findItems(Long runId) {
+        return newsBatchItemRepository.findByRunIdOrderBySeqAsc(runId).stream()
+                .map(this::toCheckpointedNews)
+                .toList();
+    }
+
+    // 키워드 하나의 중복 제거된 검색 결과를 저장하고, 그 키워드까지 수집 완료로 기록
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<CheckpointedNews> saveCollected(Long runId, int keywordIndex, int startSeq, List<NaverNewsDto> news) {
+        List<NewsBatchItem> items = new ArrayList<>();
+        for (int i = 0; i < news.size(); i++) {
+            NaverNewsDto metaData = news.get(i);
+            items.add(NewsBatchItem.builder()
+                    .runId(runId)
+                    .seq(startSeq + i)
+                    .keywordIndex(keywordIndex)
+                    .title(metaData.title())
+                    .link(NewsUrlCanonicalizer.canonicalize(metaData.link()))
+                    .metaData(toJson(metaData))
+                    .build());
+        }
+
+        List<NewsBatchItem> saved = newsBatchItemRepository.saveAll(items);
+        getRun(runId).keywordCollected(keywordIndex);
+
+        return saved.stream().map(this::toCheckpointedNews).toList();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markCrawled(Long itemId, RealNewsDto realNews) {
+        getItem(itemId).crawled(toJson(realNews));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markCrawlFailed(Long itemId) {
+        getItem(itemId).crawlFailed();
+    }
+
+    // 스트리밍 응답에서 기사 하나의 분석이 끝나는 즉시 저장
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markItemAnalyzed(Long itemId, AnalyzedNewsDto result) {
+        getItem(itemId).analyzed(toJson(result));
+    }
+
+    // 분석 결과를 기사 링크로 매칭해 저장. 결과에 없는 기사(응답 누락/잘림)는 다음 실행에서 재시도하도록 실패로 기록
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markAnalyzed(List<CheckpointedNews> batch, List<AnalyzedNewsDto> results) {
+        Map<String, AnalyzedNewsDto> resultByLink = new HashMap<>();
+        for (AnalyzedNewsDto result : results) {
+            resultByLink.put(result.realNewsDto().link(), result);
+        }
+
+        for (CheckpointedNews news : batch) {
+            AnalyzedNewsDto result = resultByLink.get(news.realNews().link());
+            NewsBatchItem item = getItem(news.itemId());
+            if (result != null) {
+                item.analyzed(toJson(result));
+            } else {
+                item.analysisFailed();
+            }
+        }
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markAnalysisFailed(List<CheckpointedNews> batch) {
+        batch.forEach(news -> getItem(news.itemId()).analysisFailed());
+    }
+
+    // 사전 순위에서 밀려 AI 분석을 생략한 기사
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markRankedOut(List<CheckpointedNews> news) {
+        news.forEach(item -> getItem(item.itemId()).rankedOut());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void advance(Long runId, NewsBatchStage stage) {
+        getRun(runId).advance(stage);
+    }
+
+    // 점유 기한이 지나 다른 인스턴스가 이어받은 실행이면 기록하지 않음
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void complete(Long runId) {
+        leasedRunIds.remove(runId);
+        NewsBatchRun run = getRun(runId);
+        if (!run.isLeasedBy(owner)) {
+            log.warn("다른 인스턴스가 이어받은 뉴스 배치라 완료를 기록하지 않습니다. 실행 ID: {}", runId);
+            return;
+        }
+        run.complete();
+        log.info("뉴스 배치 완료 - 실행 ID: {}", runId);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fail(Long runId, String message) {
+        leasedRunIds.remove(runId);
+        NewsBatchRun run = getRun(runId);
+        if (!run.isLeasedBy(owner)) {
+            log.warn("다른 인스턴스가 이어받은 뉴스 배치라 실패를 기록하지 않습니다. 실행 ID: {}, 사유: {}", runId, message);
+            return;
+        }
+        run.fail(message);
+        log.warn("뉴스 배치 실패 기록 - 실행 ID: {}, 사유: {}", runId, message);
+    }
+
+    // 가장 최근 실행의 진행 상황
+    @Transactional(readOnly = true)
+    public Optional<NewsBatchStatusDto> getLatestStatus() {
+        return newsBatchRunRepository.findFirstByOrderByIdDesc().map(run -> {
+            Map<NewsBatchItemStatus, Long> itemCounts = new EnumMap<>(NewsBatchItemStatus.class);
+            for (Object[] row : newsBatchItemRepository.countByStatus(run.getId())) {
+                itemCounts.put((NewsBatchItemStatus) row[0], (Long) row[1]);
+            }
+
+            Optional<NewsBatchItem> current = newsBatchItemRepository.findFirstByRunIdOrderByModifiedDateDesc(run.getId());
+            int keywordCount = run.getKeywords() == null
+                    ? 0
+                    : fromJson(run.getKeywords(), new TypeReference<List<String>>() {}).size();
+
+            return new NewsBatchStatusDto(
+                    run.getId(),
+                    run.getRunDate(),
+                    run.getStatus(),
+                    run.getStage(),
+                    run.getAttempt(),
+                    keywordCount,
+                    run.getCollectedKeywordCount(),
+                    itemCounts,
+                    current.map(NewsBatchItem::getTitle).orElse(null),
+                    current.map(NewsBatchItem::getStatus).orElse(null),
+                    run.getLastError(),
+                    run.getCreatedDate(),
+                    run.getModifiedDate()
+            );
+        });
+    }
+
+    private CheckpointedNews toCheckpointedNews(NewsBatchItem item) {
+        return new CheckpointedNews(
+                item.getId(),
+                item.getStatus(),
+                item.getKeywordIndex(),
+                fromJson(item.getMetaData(), new TypeReference<NaverNewsDto>() {}),
+                item.getRealNews() == null ? null : fromJson(item.getRealNews(), new TypeReference<RealNewsDto>() {}),
+                item.getAnalysis() == null ? null : fromJson(item.getAnalysis(), new TypeReference<AnalyzedNewsDto>() {})
+        );
+    }
+
+    private NewsBatchRun getRun(Long runId) {
+        return newsBatchRunRepository.findById(runId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 배치 실행이 존재하지 않습니다. ID: " + runId));
+    }
+
+    private NewsBatchItem getItem(Long itemId) {
+        return newsBatchItemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 배치 항목이 존재하지 않습니다. ID: " + itemId));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("체크포인트 직렬화 실패", e);
+        }
+    }
+
+    private <T> T fromJson(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("체크포인트 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.back.domain.news.batch.service;
+
+import com.back.domain.news.real.service.AdminNewsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 기동 시 오늘 배치가 RUNNING 상태로 남아 있으면(프로세스 재시작 등으로 중단된 경우)
+ * 체크포인트에서 이어서 실행합니다.
+ * 중단된 인스턴스의 점유 기한이 남아 있으면 기한이 지난 뒤 실행하고, 그 사이 다른 인스턴스가 이어받았으면 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsBatchRecovery {
+
+    private final NewsBatchCheckpointService newsBatchCheckpointService;
+    private final AdminNewsService adminNewsService;
+
+    @Value("${news.batch.resume-on-startup:true}")
+    private boolean resumeOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRun() {
+        if (!resumeOnStartup) {
+            return;
+        }
+
+        newsBatchCheckpointService.findInterruptedRun(LocalDate.now(ZoneId.of("Asia/Seoul")))
+                .ifPresent(interrupted -> {
+                    Duration wait = Duration.between(LocalDateTime.now(), interrupted.resumableAt());
+                    log.info("중단된 뉴스 배치 발견 - 실행 ID: {}, 체크포인트에서 재개 (점유 기한까지 {}초 대기)",
+                            interrupted.runId(), Math.max(wait.toSeconds(), 0));
+                    // 기동을 막지 않도록 별도 스레드에서 실행
+                    Thread.ofVirtual().name("news-batch-resume").start(() -> {
+                        try {
+                            if (wait.isPositive()) {
+                                Thread.sleep(wait);
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        adminNewsService.dailyNewsProcess();
+                    });
+                });
+    }
+}
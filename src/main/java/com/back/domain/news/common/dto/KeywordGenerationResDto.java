@@ -1,6 +1,10 @@
 package com.back.domain.news.common.dto;
 
+import com.back.domain.news.common.enums.NewsCategory;
+
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 public record KeywordGenerationResDto(
@@ -16,4 +20,19 @@ public record KeywordGenerationResDto(
                 .map(KeywordWithType::keyword)
                 .toList();
     }
+
+    // 키워드별 카테고리 (여러 카테고리에 있으면 먼저 나온 카테고리)
+    public Map<String, NewsCategory> getKeywordCategories() {
+        Map<String, NewsCategory> categories = new LinkedHashMap<>();
+        putAll(categories, society, NewsCategory.SOCIETY);
+        putAll(categories, economy, NewsCategory.ECONOMY);
+        putAll(categories, politics, NewsCategory.POLITICS);
+        putAll(categories, culture, NewsCategory.CULTURE);
+        putAll(categories, it, NewsCategory.IT);
+        return categories;
+    }
+
+    private static void putAll(Map<String, NewsCategory> categories, List<KeywordWithType> keywords, NewsCategory category) {
+        keywords.forEach(keyword -> categories.putIfAbsent(keyword.keyword(), category));
+    }
 }
@@ -1,5 +1,6 @@
 package com.back.domain.news.common.dto;
 
+import com.back.domain.news.common.enums.NewsCategory;
 import com.fasterxml.jackson.databind.JsonNode;
 
 //네이버 뉴스 API 응답을 매핑하기 위한 DTO
@@ -8,10 +9,11 @@ public record NaverNewsDto(
         String originallink,
         String link,
         String description,
-        String pubDate
+        String pubDate,
+        NewsCategory keywordCategory // 이 뉴스를 찾은 키워드의 카테고리 (고정 키워드면 null)
 ) {
     public static NaverNewsDto of(String title, String originallink, String link, String description, String pubDate) {
-        return new NaverNewsDto(title, originallink, link, description, pubDate);
+        return new NaverNewsDto(title, originallink, link, description, pubDate, null);
     }
 
     public static NaverNewsDto from(JsonNode item) {
@@ -20,8 +22,13 @@ public record NaverNewsDto(
                 item.get("originallink").asText(""),
                 item.get("link").asText(""),
                 item.get("description").asText(""),
-                item.get("pubDate").asText("")
+                item.get("pubDate").asText(""),
+                null
         );
     }
 
-}
\ No newline at end of file
+    public NaverNewsDto withKeywordCategory(NewsCategory keywordCategory) {
+        return new NaverNewsDto(title, originallink, link, description, pubDate, keywordCategory);
+    }
+
+}
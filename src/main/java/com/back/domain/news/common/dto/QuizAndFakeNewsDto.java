@@ -0,0 +1,21 @@
+package com.back.domain.news.common.dto;
+
+import com.back.domain.news.fake.dto.FakeNewsDto;
+import com.back.domain.quiz.detail.dto.DetailQuizDto;
+
+import java.util.List;
+
+// 뉴스 한 건에 대해 한 번의 AI 호출로 만든 상세 퀴즈와 가짜 뉴스 (파싱에 실패한 쪽은 null)
+public record QuizAndFakeNewsDto(
+        Long realNewsId,
+        List<DetailQuizDto> quizzes,
+        FakeNewsDto fakeNews
+) {
+    public boolean hasQuizzes() {
+        return quizzes != null;
+    }
+
+    public boolean hasFakeNews() {
+        return fakeNews != null;
+    }
+}
@@ -6,6 +6,9 @@ import com.back.domain.news.common.dto.KeywordWithType;
 import com.back.domain.news.common.enums.KeywordType;
 import com.back.global.ai.AiService;
 import com.back.global.ai.processor.KeywordGeneratorProcessor;
+import com.back.global.rateLimiter.AiPriority;
+import com.back.global.rateLimiter.AiWorkload;
+import com.back.global.rateLimiter.RateLimiter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +28,7 @@ public class KeywordGenerationService {
     private final ObjectMapper objectMapper;
     private final KeywordHistoryService keywordHistoryService;
     private final KeywordCleanupService keywordCleanupService;
+    private final RateLimiter rateLimiter;
     @Value("${keyword.overuse.days}")
     private int overuseDays;
 
@@ -54,8 +58,9 @@ public class KeywordGenerationService {
         log.info("키워드 생성 요청 - 날짜 :  {} , 제외 키워드 : {}", today, excludeKeywords);
 
         try{
-
             KeywordGeneratorProcessor processor = new KeywordGeneratorProcessor(keywordGenerationReqDto, objectMapper);
+            rateLimiter.waitForRateLimit(AiPriority.ANALYSIS, AiWorkload.KEYWORD_GENERATION, aiService.estimateTokens(processor));
+
             KeywordGenerationResDto result = aiService.process(processor);
 
             log.info("키워드 생성 결과 - {}", result);
@@ -2,17 +2,19 @@ package com.back.domain.news.fake.service;
 
 import com.back.domain.news.common.service.KeepAliveMonitoringService;
 import com.back.domain.news.fake.dto.FakeNewsDto;
-import com.back.domain.news.fake.event.FakeNewsCreatedEvent;
 import com.back.domain.news.real.dto.RealNewsDto;
 import com.back.domain.news.real.service.RealNewsService;
 import com.back.global.exception.ServiceException;
+import com.back.global.jobqueue.GenerationJobQueue;
+import com.back.global.jobqueue.GenerationJobType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -21,7 +23,7 @@ public class AdminFakeNewsService {
 
     private final FakeNewsService fakeNewsService;
     private final RealNewsService realNewsService;
-    private final ApplicationEventPublisher publisher;
+    private final GenerationJobQueue generationJobQueue;
     private final KeepAliveMonitoringService keepAliveMonitoringService;
 
     @Scheduled(cron = "0 0 1 * * *", zone = "Asia/Seoul") // 매일 새벽 1시에 실행
@@ -36,21 +38,31 @@ public class AdminFakeNewsService {
                 log.warn("오늘 생성된 실제 뉴스가 없습니다.");
                 return;
             }
-            log.info("처리 대상 실제 뉴스: {}개", realNewsDtos.size());
+            // 상세 퀴즈와 함께 이미 생성된 가짜뉴스는 다시 만들지 않음
+            Set<Long> alreadyGenerated = fakeNewsService.findRealNewsIdsWithFakeNews(
+                    realNewsDtos.stream().map(RealNewsDto::id).toList());
+            List<RealNewsDto> targets = realNewsDtos.stream()
+                    .filter(dto -> !alreadyGenerated.contains(dto.id()))
+                    .toList();
+            log.info("처리 대상 실제 뉴스: {}개 (가짜뉴스 생성 완료 {}개 제외)", targets.size(), alreadyGenerated.size());
 
-            List<FakeNewsDto> fakeNewsDtos = fakeNewsService.generateAndSaveAllFakeNews(realNewsDtos);
+            List<FakeNewsDto> fakeNewsDtos = targets.isEmpty()
+                    ? List.of()
+                    : fakeNewsService.generateAndSaveAllFakeNews(targets);
 
-            List<Long> successRealNewsIds = fakeNewsDtos.stream()
-                    .map(FakeNewsDto::realNewsId)
+            List<Long> successRealNewsIds = Stream.concat(
+                            alreadyGenerated.stream(),
+                            fakeNewsDtos.stream().map(FakeNewsDto::realNewsId))
                     .toList();
 
-            publisher.publishEvent(new FakeNewsCreatedEvent(successRealNewsIds));
+            // 팩트 퀴즈는 생성 작업 큐에서 뉴스별로 생성
+            generationJobQueue.enqueue(GenerationJobType.FACT_QUIZ, successRealNewsIds);
 
             log.info("=== 일일 가짜뉴스 생성 배치 완료 ===");
             log.info("요청: {}개, 성공: {}개, 실패: {}개",
-                    realNewsDtos.size(),
+                    targets.size(),
                     fakeNewsDtos.size(),
-                    realNewsDtos.size() - fakeNewsDtos.size());
+                    targets.size() - fakeNewsDtos.size());
 
         } catch (ServiceException e) {
             log.error("가짜 뉴스 생성 중 오류 발생: {}", e.getMessage());
@@ -8,7 +8,9 @@ import com.back.domain.news.real.entity.RealNews;
 import com.back.domain.news.real.repository.RealNewsRepository;
 import com.back.global.ai.AiService;
 import com.back.global.ai.processor.FakeNewsGeneratorProcessor;
-import com.back.global.rateLimiter.RateLimiter;
+import com.back.global.rateLimiter.AiAdmissionScheduler;
+import com.back.global.rateLimiter.AiPriority;
+import com.back.global.rateLimiter.AiWorkload;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
@@ -41,7 +43,7 @@ public class FakeNewsService {
     private final ObjectMapper objectMapper;
     private final FakeNewsRepository fakeNewsRepository;
     private final RealNewsRepository realNewsRepository;
-    private final RateLimiter rateLimiter;
+    private final AiAdmissionScheduler admissionScheduler;
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -61,22 +63,7 @@ public class FakeNewsService {
 
         // 모든 뉴스를 비동기로 처리
         List<CompletableFuture<FakeNewsDto>> futures = realNewsDtos.stream()
-                .map(realNewsDto -> supplyAsync(() -> {
-                    try {
-                        rateLimiter.waitForRateLimit(); // Rate limiting은 여기서
-                        log.debug("가짜뉴스 생성 시작 - 실제뉴스 ID: {}", realNewsDto.id());
-
-                        FakeNewsGeneratorProcessor processor = new FakeNewsGeneratorProcessor(realNewsDto, objectMapper);
-                        FakeNewsDto result = aiService.process(processor);
-
-                        log.debug("가짜뉴스 생성 완료 - 실제뉴스 ID: {}", realNewsDto.id());
-                        return result;
-
-                    } catch (Exception e) {
-                        log.error("가짜뉴스 생성 실패 - 실제뉴스 ID: {}", realNewsDto.id(), e);
-                        return null;
-                    }
-                }, executor)) // ← executor 사용
+                .map(this::generateFakeNewsAsync)
                 .toList();
 
         // null 아닌 성공 결과 수집
@@ -88,6 +75,36 @@ public class FakeNewsService {
         return completedFuture(results);
     }
 
+    // 단건 가짜뉴스 생성. 호출 허가를 기다리는 동안 스레드를 점유하지 않고, 허가되면 executor에서 AI 호출. 실패 시 null
+    public CompletableFuture<FakeNewsDto> generateFakeNewsAsync(RealNewsDto realNewsDto) {
+        FakeNewsGeneratorProcessor processor = new FakeNewsGeneratorProcessor(realNewsDto, objectMapper);
+        return admissionScheduler.acquire(AiPriority.BACKFILL, AiWorkload.FAKE_NEWS, aiService.estimateTokens(processor))
+                .thenApplyAsync(granted -> generateFakeNews(realNewsDto, processor), executor); // ← executor 사용
+    }
+
+    private FakeNewsDto generateFakeNews(RealNewsDto realNewsDto, FakeNewsGeneratorProcessor processor) {
+        try {
+            log.debug("가짜뉴스 생성 시작 - 실제뉴스 ID: {}", realNewsDto.id());
+
+            FakeNewsDto result = aiService.process(processor);
+
+            log.debug("가짜뉴스 생성 완료 - 실제뉴스 ID: {}", realNewsDto.id());
+            return result;
+
+        } catch (Exception e) {
+            log.error("가짜뉴스 생성 실패 - 실제뉴스 ID: {}", realNewsDto.id(), e);
+            return null;
+        }
+    }
+
+    // 이미 가짜뉴스가 있는 실제뉴스 ID (가짜뉴스 ID = 실제뉴스 ID)
+    @Transactional(readOnly = true)
+    public Set<Long> findRealNewsIdsWithFakeNews(List<Long> realNewsIds) {
+        return fakeNewsRepository.findAllById(realNewsIds).stream()
+                .map(FakeNews::getId)
+                .collect(Collectors.toSet());
+    }
+
     @Transactional
     public List<FakeNewsDto> generateAndSaveAllFakeNews(List<RealNewsDto> realNewsDtos){
         try{
@@ -0,0 +1,18 @@
+package com.back.domain.news.real.analysis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class NewsAnalysisConfig {
+
+    @Bean
+    public NewsBatchPacker newsBatchPacker(
+            @Value("${news.filter.batch.max-items:8}") int maxItems, // 요청 한 번에 담을 최대 기사 수
+            @Value("${news.filter.batch.max-input-tokens:16000}") int maxInputTokens, // 프롬프트 포함 입력 토큰 예산
+            @Value("${news.filter.batch.max-output-tokens:6000}") int maxOutputTokens // 응답 토큰 예산 (기사당 점수/카테고리만 반환)
+    ) {
+        return new NewsBatchPacker(maxItems, maxInputTokens, maxOutputTokens);
+    }
+}
@@ -0,0 +1,105 @@
+package com.back.domain.news.real.analysis;
+
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.global.util.TokenEstimator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 뉴스 분석 요청(NewsAnalysisProcessor) 한 번에 담을 기사들을 토큰 예산에 맞춰 묶습니다.
+ * - 입력 토큰: 프롬프트 고정 분량 + 기사 본문
+ * - 출력 토큰: 기사마다 점수와 카테고리만 돌아오므로 기사 수에 비례 (본문은 NewsContentCleaner가 로컬에서 정제)
+ * - 긴 기사부터 배치에 채워(first-fit decreasing) 요청 수를 줄이고 배치별 소요 시간을 고르게 합니다.
+ */
+public class NewsBatchPacker {
+
+    static final int PROMPT_OVERHEAD_TOKENS = 1000; // 분석 프롬프트의 고정 지시문 분량
+    static final int INPUT_OVERHEAD_PER_ITEM = 10;   // "뉴스 n:\n\n내용: ... ---"
+    static final int OUTPUT_OVERHEAD_PER_ITEM = 30;  // newsIndex, qualityScore, category JSON 필드
+
+    private final int maxItems;
+    private final int maxInputTokens;
+    private final int maxOutputTokens;
+
+    public NewsBatchPacker(int maxItems, int maxInputTokens, int maxOutputTokens) {
+        if (maxItems < 1 || maxInputTokens <= PROMPT_OVERHEAD_TOKENS || maxOutputTokens < 1) {
+            throw new IllegalArgumentException("배치 최대 개수는 1 이상, 입력 토큰 예산은 프롬프트 고정 분량보다 커야 합니다.");
+        }
+        this.maxItems = maxItems;
+        this.maxInputTokens = maxInputTokens;
+        this.maxOutputTokens = maxOutputTokens;
+    }
+
+    public int estimateInputTokens(RealNewsDto news) {
+        return TokenEstimator.estimate(news.content()) + INPUT_OVERHEAD_PER_ITEM;
+    }
+
+    public int estimateOutputTokens(RealNewsDto news) {
+        return OUTPUT_OVERHEAD_PER_ITEM;
+    }
+
+    // 전체 기사를 긴 순서로 정렬해 예산 안에서 묶음. 반환 순서도 무거운 배치부터
+    public List<List<RealNewsDto>> pack(List<RealNewsDto> newsList) {
+        List<RealNewsDto> sorted = new ArrayList<>(newsList);
+        sorted.sort(Comparator.comparingInt(this::estimateInputTokens).reversed());
+
+        List<Bin> bins = new ArrayList<>();
+        for (RealNewsDto news : sorted) {
+            int input = estimateInputTokens(news);
+            int output = estimateOutputTokens(news);
+
+            Bin target = null;
+            for (Bin bin : bins) {
+                if (bin.fits(input, output)) {
+                    target = bin;
+                    break;
+                }
+            }
+            if (target == null) {
+                // 혼자서도 예산을 넘는 기사는 단독 배치
+                target = new Bin();
+                bins.add(target);
+            }
+            target.add(news, input, output);
+        }
+
+        return bins.stream().map(bin -> bin.items).toList();
+    }
+
+    // 도착 순서대로 채우는 경우(파이프라인): 현재 배치에 다음 기사를 더해도 예산 안인지
+    public boolean fits(List<RealNewsDto> batch, RealNewsDto next) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        Bin bin = new Bin();
+        for (RealNewsDto news : batch) {
+            bin.add(news, estimateInputTokens(news), estimateOutputTokens(news));
+        }
+        return bin.fits(estimateInputTokens(next), estimateOutputTokens(next));
+    }
+
+    // 현재 배치가 더 채울 여지가 없으면 바로 보냄
+    public boolean isFull(List<RealNewsDto> batch) {
+        return batch.size() >= maxItems;
+    }
+
+    private class Bin {
+        private final List<RealNewsDto> items = new ArrayList<>();
+        private int inputTokens = PROMPT_OVERHEAD_TOKENS;
+        private int outputTokens = 0;
+
+        boolean fits(int input, int output) {
+            return items.size() < maxItems
+                    && inputTokens + input <= maxInputTokens
+                    && outputTokens + output <= maxOutputTokens;
+        }
+
+        void add(RealNewsDto news, int input, int output) {
+            items.add(news);
+            inputTokens += input;
+            outputTokens += output;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.back.domain.news.real.analysis;
+
+import com.back.domain.news.common.enums.NewsCategory;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이미 카테고리가 정해진 뉴스로 학습한 다항 나이브 베이즈 분류기입니다.
+ * - 특징은 제목/요약에서 추출한 키워드 집합(KeywordExtractor)이며, 라플라스 스무딩을 적용합니다.
+ * - 기사를 찾은 키워드의 카테고리가 있으면 그 카테고리의 사전확률을 PROVENANCE_BOOST배로 높입니다.
+ * - 학습에 없던 단어는 무시하고, 확신도는 카테고리별 사후확률 중 최댓값입니다.
+ * 학습 후에는 변경되지 않으므로 여러 스레드에서 함께 사용할 수 있습니다.
+ */
+public class NewsCategoryClassifier {
+
+    static final double SMOOTHING = 1.0;         // 라플라스 스무딩
+    static final double PROVENANCE_BOOST = 3.0;  // 출처 키워드 카테고리의 사전확률 배수
+
+    private static final List<NewsCategory> CATEGORIES = List.of(
+            NewsCategory.SOCIETY, NewsCategory.ECONOMY, NewsCategory.POLITICS, NewsCategory.CULTURE, NewsCategory.IT);
+
+    /**
+     * 학습용 문서
+     *
+     * @param tokens   제목/요약 키워드 집합
+     * @param category 확정된 카테고리 (NOT_FILTERED면 학습에서 제외)
+     */
+    public record Sample(Set<String> tokens, NewsCategory category) {
+    }
+
+    /**
+     * 분류 결과
+     *
+     * @param category   가장 가능성이 높은 카테고리
+     * @param confidence 해당 카테고리의 사후확률 (0~1, 학습 문서가 없으면 0)
+     */
+    public record Prediction(NewsCategory category, double confidence) {
+    }
+
+    private final Map<NewsCategory, Map<String, Integer>> tokenCounts = new EnumMap<>(NewsCategory.class);
+    private final Map<NewsCategory, Integer> totalTokens = new EnumMap<>(NewsCategory.class);
+    private final Map<NewsCategory, Integer> documentCounts = new EnumMap<>(NewsCategory.class);
+    private final int vocabularySize;
+    private final int trainingSize;
+
+    private NewsCategoryClassifier(Collection<Sample> samples) {
+        Set<String> vocabulary = new HashSet<>();
+        int documents = 0;
+        for (NewsCategory category : CATEGORIES) {
+            tokenCounts.put(category, new HashMap<>());
+            totalTokens.put(category, 0);
+            documentCounts.put(category, 0);
+        }
+
+        for (Sample sample : samples) {
+            if (sample.category() == null || !tokenCounts.containsKey(sample.category())) {
+                continue;
+            }
+            Map<String, Integer> counts = tokenCounts.get(sample.category());
+            for (String token : sample.tokens()) {
+                counts.merge(token, 1, Integer::sum);
+                vocabulary.add(token);
+            }
+            totalTokens.merge(sample.category(), sample.tokens().size(), Integer::sum);
+            documentCounts.merge(sample.category(), 1, Integer::sum);
+            documents++;
+        }
+
+        this.vocabularySize = vocabulary.size();
+        this.trainingSize = documents;
+    }
+
+    public static NewsCategoryClassifier train(Collection<Sample> samples) {
+        return new NewsCategoryClassifier(samples);
+    }
+
+    public int trainingSize() {
+        return trainingSize;
+    }
+
+    // provenance: 기사를 찾은 키워드의 카테고리 (없으면 null)
+    public Prediction predict(Set<String> tokens, NewsCategory provenance) {
+        if (trainingSize == 0) {
+            return new Prediction(provenance != null ? provenance : NewsCategory.NOT_FILTERED, 0.0);
+        }
+
+        Map<NewsCategory, Double> logScores = new EnumMap<>(NewsCategory.class);
+        for (NewsCategory category : CATEGORIES) {
+            double logScore = Math.log((documentCounts.get(category) + SMOOTHING) / (trainingSize + SMOOTHING * CATEGORIES.size()));
+            if (category == provenance) {
+                logScore += Math.log(PROVENANCE_BOOST);
+            }
+
+            Map<String, Integer> counts = tokenCounts.get(category);
+            double denominator = totalTokens.get(category) + SMOOTHING * vocabularySize;
+            for (String token : tokens) {
+                if (isKnown(token)) {
+                    logScore += Math.log((counts.getOrDefault(token, 0) + SMOOTHING) / denominator);
+                }
+            }
+            logScores.put(category, logScore);
+        }
+
+        // 로그 점수를 softmax로 정규화 (최댓값을 빼서 언더플로 방지)
+        double max = logScores.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+        double sum = 0;
+        NewsCategory best = null;
+        for (Map.Entry<NewsCategory, Double> entry : logScores.entrySet()) {
+            sum += Math.exp(entry.getValue() - max);
+            if (best == null || entry.getValue() > logScores.get(best)) {
+                best = entry.getKey();
+            }
+        }
+        return new Prediction(best, 1.0 / sum);
+    }
+
+    private boolean isKnown(String token) {
+        for (Map<String, Integer> counts : tokenCounts.values()) {
+            if (counts.containsKey(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
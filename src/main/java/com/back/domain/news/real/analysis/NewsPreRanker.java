@@ -0,0 +1,138 @@
+package com.back.domain.news.real.analysis;
+
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.dto.RealNewsDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI 분석 전에 크롤링된 기사를 로컬 점수로 줄 세워, 카테고리별 상위 K개만 분석 대상으로 남깁니다.
+ * 최종 선정은 카테고리별 AI 점수 상위 4개이므로, 그보다 넉넉한 K개만 보내도 결과는 거의 같습니다.
+ * 점수 (0~1 가중합)
+ * - 분량: 너무 짧은 기사는 0, 적정 분량까지 비례
+ * - 최신성: 원문 작성 시각 기준 반감기로 감소
+ * - 언론사: 최근 선정된 뉴스에서 해당 언론사가 차지한 비중
+ * - 보도 규모: 중복 제거 단계에서 같은 사건으로 걸러진 기사 수
+ * - 출처 키워드: 속보/긴급/단독 등 고정 키워드로 찾은 기사 우대
+ * 카테고리는 로컬 분류기가 확정한 카테고리, 없으면 기사를 찾은 키워드의 카테고리(잠정)이며,
+ * 둘 다 없는 고정 키워드 기사는 NOT_FILTERED로 묶습니다.
+ */
+public class NewsPreRanker {
+
+    static final double LENGTH_WEIGHT = 0.3;
+    static final double FRESHNESS_WEIGHT = 0.2;
+    static final double MEDIA_WEIGHT = 0.2;
+    static final double COVERAGE_WEIGHT = 0.2;
+    static final double PROVENANCE_WEIGHT = 0.1;
+
+    static final int MIN_LENGTH = 300;            // 이보다 짧은 본문은 분량 점수 0
+    static final int IDEAL_LENGTH = 1500;         // 이 이상은 분량 점수 1
+    static final double UNKNOWN_MEDIA_PRIOR = 0.3; // 최근 선정 이력이 없는 언론사
+
+    /**
+     * 순위 계산 대상 기사
+     *
+     * @param source     호출 측에서 결과를 되돌려 받을 원본 객체
+     * @param category   잠정 카테고리 (null이면 NOT_FILTERED)
+     * @param breaking   고정 키워드(속보/긴급/단독 등)로 찾은 기사인지
+     * @param duplicates 중복 제거 단계에서 이 기사와 같은 사건으로 걸러진 기사 수
+     * @param pinned     이전 실행에서 이미 선택된 기사 (항상 포함되며 K개에 포함)
+     */
+    public record Candidate<T>(
+            T source,
+            RealNewsDto news,
+            NewsCategory category,
+            boolean breaking,
+            int duplicates,
+            boolean pinned
+    ) {
+    }
+
+    private final int topK;
+    private final Map<String, Double> mediaPrior;
+    private final double freshnessHalfLifeHours;
+    private final LocalDateTime now;
+
+    public NewsPreRanker(int topK, Map<String, Double> mediaPrior, double freshnessHalfLifeHours, LocalDateTime now) {
+        if (topK < 1 || freshnessHalfLifeHours <= 0) {
+            throw new IllegalArgumentException("카테고리별 선택 개수는 1 이상, 최신성 반감기는 0보다 커야 합니다.");
+        }
+        this.topK = topK;
+        this.mediaPrior = mediaPrior;
+        this.freshnessHalfLifeHours = freshnessHalfLifeHours;
+        this.now = now;
+    }
+
+    // 언론사별 선정 건수를 0~1 가중치로 변환 (로그 스케일, 가장 많은 언론사가 1)
+    public static Map<String, Double> mediaPrior(Map<String, Long> selectedCounts) {
+        long max = selectedCounts.values().stream().mapToLong(Long::longValue).max().orElse(0);
+        Map<String, Double> prior = new HashMap<>();
+        if (max == 0) {
+            return prior;
+        }
+        selectedCounts.forEach((media, count) ->
+                prior.put(media, Math.max(UNKNOWN_MEDIA_PRIOR, Math.log1p(count) / Math.log1p(max))));
+        return prior;
+    }
+
+    public double score(Candidate<?> candidate) {
+        RealNewsDto news = candidate.news();
+        return LENGTH_WEIGHT * lengthScore(news.content())
+                + FRESHNESS_WEIGHT * freshnessScore(news.originCreatedDate())
+                + MEDIA_WEIGHT * mediaPrior.getOrDefault(news.mediaName(), UNKNOWN_MEDIA_PRIOR)
+                + COVERAGE_WEIGHT * coverageScore(candidate.duplicates())
+                + PROVENANCE_WEIGHT * (candidate.breaking() ? 1.0 : 0.5);
+    }
+
+    // 카테고리별로 이미 선택된 기사를 먼저 채우고, 남은 자리를 점수 순으로 채움. 점수가 같으면 입력 순서 유지
+    public <T> List<Candidate<T>> select(List<Candidate<T>> candidates) {
+        Map<NewsCategory, List<Candidate<T>>> byCategory = new EnumMap<>(NewsCategory.class);
+        for (Candidate<T> candidate : candidates) {
+            NewsCategory category = candidate.category() != null ? candidate.category() : NewsCategory.NOT_FILTERED;
+            byCategory.computeIfAbsent(category, c -> new ArrayList<>()).add(candidate);
+        }
+
+        Map<Candidate<T>, Double> scores = new IdentityHashMap<>();
+        candidates.forEach(candidate -> scores.put(candidate, score(candidate)));
+
+        List<Candidate<T>> selected = new ArrayList<>();
+        for (List<Candidate<T>> group : byCategory.values()) {
+            List<Candidate<T>> ordered = new ArrayList<>(group);
+            ordered.sort(Comparator.comparing((Candidate<T> c) -> !c.pinned())
+                    .thenComparing(scores::get, Comparator.reverseOrder()));
+
+            long pinned = group.stream().filter(Candidate::pinned).count();
+            selected.addAll(ordered.subList(0, (int) Math.min(ordered.size(), Math.max(topK, pinned))));
+        }
+        return selected;
+    }
+
+    private double lengthScore(String content) {
+        int length = content == null ? 0 : content.length();
+        if (length < MIN_LENGTH) {
+            return 0.0;
+        }
+        return Math.min(1.0, (double) length / IDEAL_LENGTH);
+    }
+
+    private double freshnessScore(LocalDateTime originCreatedDate) {
+        if (originCreatedDate == null) {
+            return 0.5;
+        }
+        double hours = Math.max(0, Duration.between(originCreatedDate, now).toMinutes() / 60.0);
+        return Math.pow(0.5, hours / freshnessHalfLifeHours);
+    }
+
+    // 중복 0개 → 0, 1개 → 0.33, 2개 → 0.5, 6개 → 0.75
+    private double coverageScore(int duplicates) {
+        return duplicates / (duplicates + 2.0);
+    }
+}
@@ -0,0 +1,121 @@
+package com.back.domain.news.real.cleaner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 크롤링한 기사 본문에서 본문과 무관한 부분을 규칙 기반으로 제거합니다.
+ * - 기자 바이라인, 이메일
+ * - 사진 캡션(▲ 로 시작하는 줄, "/연합뉴스" 로 끝나는 줄, (사진=EPA) 등)
+ * - 괄호 메타정보((서울=연합뉴스) 홍길동 기자 = ...), 입력/수정 일시
+ * - 저작권, 제보, SNS 구독 안내 등 홍보 문구
+ * - 본문 앞의 짧은 요약문(리드문)
+ * 남은 줄은 문단 하나로 보고 빈 줄(\n\n)로 구분합니다.
+ */
+public class NewsContentCleaner {
+
+    private static final int MAX_CAPTION_LENGTH = 150; // 캡션으로 볼 수 있는 줄의 최대 길이
+    private static final int MAX_LEAD_LENGTH = 80;     // 리드문으로 볼 수 있는 줄의 최대 길이
+    private static final int MAX_LEAD_LINES = 3;       // 본문 앞에서 제거할 리드문 최대 줄 수
+    private static final int MAX_BOILERPLATE_LENGTH = 150; // 안내 문구로 볼 수 있는 줄의 최대 길이
+
+    // 기자 이름 목록 ("홍길동", "홍길동·김철수", "홍길동 김철수")
+    private static final String NAMES = "[가-힣]{2,4}(?:\\s*[·,]?\\s*[가-힣]{2,4}){0,3}";
+
+    private static final Pattern EMAIL = Pattern.compile("[\\w.+-]+@[\\w-]+(?:\\.[\\w-]+)+");
+
+    private static final Pattern EMPTY_BRACKETS = Pattern.compile("\\(\\s*\\)|\\[\\s*]|<\\s*>");
+
+    // 줄 앞의 (서울=연합뉴스) / [파리=뉴시스] / 【세종=뉴스1】 와 뒤따르는 "홍길동 기자 ="
+    private static final Pattern DATELINE = Pattern.compile(
+            "^\\s*[(\\[【<]\\s*[^()\\[\\]【】<>=]{1,20}=\\s*[^()\\[\\]【】<>]{1,20}[)\\]】>]\\s*"
+                    + "(?:" + NAMES + "\\s*(?:기자|특파원)\\s*=?\\s*)?");
+
+    // 줄 앞의 "홍길동 기자 = "
+    private static final Pattern LEADING_BYLINE = Pattern.compile(
+            "^\\s*" + NAMES + "\\s*(?:기자|특파원)\\s*=\\s*");
+
+    // 바이라인만 있는 줄 ("홍길동 기자", "[홍길동 기자]", "글·사진 홍길동 기자")
+    private static final Pattern BYLINE_LINE = Pattern.compile(
+            "^\\s*[\\[(]?\\s*(?:글\\s*·?\\s*사진\\s*)?" + NAMES + "\\s*"
+                    + "(?:기자|특파원|논설위원|객원기자|인턴기자|에디터|통신원)\\s*[\\])]?\\s*$");
+
+    // 본문 중간의 (사진=EPA) [자료=통계청] <그래픽=홍길동 기자> 등
+    private static final Pattern INLINE_CREDIT = Pattern.compile(
+            "\\s*[(\\[<]\\s*(?:사진|자료|그래픽|영상|출처|이미지|표)\\s*(?:[=:]|제공)[^)\\]>]{0,40}[)\\]>]");
+
+    // 캡션 줄: ▲/■ 로 시작하거나 "사진=..." "/연합뉴스" 로 끝나는 짧은 줄
+    private static final Pattern CAPTION_LINE = Pattern.compile(
+            "^\\s*(?:[▲■◆]|\\[사진\\]|사진\\s*[=:]).*"
+                    + "|.*(?:/\\s*[가-힣A-Za-z0-9]{1,15}(?:뉴스|일보|신문|뉴시스|뉴스1|DB|제공)|(?:사진|자료|그래픽)\\s*[=:]\\s*[^.]{1,30}|사진\\s*제공)\\s*$");
+
+    // 입력/수정 일시만 있는 줄
+    private static final Pattern DATE_LINE = Pattern.compile(
+            "^\\s*(?:(?:입력|수정|등록|업데이트|기사입력)\\s*:?\\s*)?\\d{4}[.\\-/]\\s*\\d{1,2}[.\\-/]\\s*\\d{1,2}\\.?(?:\\s*\\d{1,2}:\\d{2}(?::\\d{2})?)?\\s*$");
+
+    // 저작권/제보/SNS/관련기사 안내 줄. 같은 단어가 본문 문장에도 쓰이므로 짧은 줄에서, 안내 문구의 형태로 쓰인 경우만 제거
+    // - 본문에 거의 쓰이지 않는 표기는 줄 어디에 있어도 ("ⓒ", "무단 전재", "Copyright ©", "제보는 카카오톡")
+    // - 안내 문장은 줄 끝에 있을 때만 ("... 재배포 금지", "제보를 기다립니다.", "구독하기")
+    // - 안내 제목은 줄 앞에 단독으로 있을 때만 ("[관련기사]", "관련 기사: ...", "기사 제보 : ...")
+    private static final Pattern BOILERPLATE_LINE = Pattern.compile(
+            ".*(?:ⓒ|©|무단\\s*전재|(?:저작권자|Copyright)\\s*(?:\\(c\\)|\\d{4})|AI\\s*학습\\s*(?:및\\s*활용\\s*|이용\\s*)?금지|"
+                    + "제보는\\s*카카오톡|카카오톡\\s*@|좋아요\\s*(?:와|및)\\s*구독).*"
+                    + "|.*(?:재배포\\s*금지|제보를\\s*기다립니다|구독\\s*(?:하기|신청)|기자\\s*구독)[.!]?\\s*[)\\]>】]?\\s*$"
+                    + "|^\\s*[(\\[<【]?\\s*(?:관련\\s*기사|기사\\s*제보|네이버\\s*채널)\\s*(?:$|[)\\]>】:：/]).*",
+            Pattern.CASE_INSENSITIVE);
+
+    // 화살표로 시작하는 링크/안내 줄 ("▶ 관련 기사 제목", "☞ 제보하기")
+    private static final Pattern LINK_LINE = Pattern.compile("^\\s*[▶☞►→]\\s*.*");
+
+    // 문장 종결 (다. 요. 까. 음. 함. 인용 종결 등)
+    private static final Pattern SENTENCE_END = Pattern.compile(".*[다요까음함죠임][.!?]?[\"'”’)]*\\s*$|.*[.!?][\"'”’)]*\\s*$");
+
+    public static String clean(String content) {
+        if (content == null || content.isBlank()) {
+            return content;
+        }
+
+        List<String> lines = new ArrayList<>();
+        for (String rawLine : content.replace("\r\n", "\n").replace('\r', '\n').replace(' ', ' ').split("\n")) {
+            String line = cleanLine(rawLine);
+            if (!line.isEmpty() && !isNoiseLine(line)) {
+                lines.add(line);
+            }
+        }
+
+        removeLeadSummary(lines);
+        return String.join("\n\n", lines);
+    }
+
+    private static String cleanLine(String line) {
+        String cleaned = EMAIL.matcher(line).replaceAll("");
+        cleaned = DATELINE.matcher(cleaned).replaceFirst("");
+        cleaned = LEADING_BYLINE.matcher(cleaned).replaceFirst("");
+        cleaned = INLINE_CREDIT.matcher(cleaned).replaceAll("");
+        cleaned = EMPTY_BRACKETS.matcher(cleaned).replaceAll(""); // 이메일을 지우고 남은 "()"
+        return cleaned.replaceAll("[ \\t]+", " ").trim();
+    }
+
+    private static boolean isNoiseLine(String line) {
+        return BYLINE_LINE.matcher(line).matches()
+                || DATE_LINE.matcher(line).matches()
+                || (line.length() <= MAX_BOILERPLATE_LENGTH && BOILERPLATE_LINE.matcher(line).matches())
+                || LINK_LINE.matcher(line).matches()
+                || (line.length() <= MAX_CAPTION_LENGTH && CAPTION_LINE.matcher(line).matches())
+                || line.chars().allMatch(ch -> !Character.isLetterOrDigit(ch));
+    }
+
+    // 본문 앞의 문장으로 끝나지 않는 짧은 줄(요약문, 소제목)은 리드문으로 보고 제거. 본문이 남지 않으면 유지
+    private static void removeLeadSummary(List<String> lines) {
+        int leadLines = 0;
+        while (leadLines < Math.min(MAX_LEAD_LINES, lines.size() - 1)) {
+            String line = lines.get(leadLines);
+            if (line.length() > MAX_LEAD_LENGTH || SENTENCE_END.matcher(line).matches()) {
+                break;
+            }
+            leadLines++;
+        }
+        lines.subList(0, leadLines).clear();
+    }
+}
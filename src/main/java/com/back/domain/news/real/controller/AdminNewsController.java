@@ -1,5 +1,7 @@
 package com.back.domain.news.real.controller;
 
+import com.back.domain.news.batch.dto.NewsBatchStatusDto;
+import com.back.domain.news.batch.service.NewsBatchCheckpointService;
 import com.back.domain.news.common.enums.NewsCategory;
 import com.back.domain.news.common.enums.NewsType;
 import com.back.domain.news.common.service.NewsPageService;
@@ -38,6 +40,7 @@ public class AdminNewsController {
     private final NewsDataService newsDataService;
     private final RealNewsService realNewsService;
     private final NewsPageService newsPageService;
+    private final NewsBatchCheckpointService newsBatchCheckpointService;
 
     // 오늘의 뉴스 설정용 뉴스 조회
     @GetMapping("/all")
@@ -75,6 +78,14 @@ public class AdminNewsController {
         }
     }
 
+    @Operation(summary = "뉴스 배치 진행 상황 조회", description = "가장 최근 뉴스 배치의 단계, 기사별 처리 현황, 마지막으로 처리한 기사를 조회합니다.")
+    @GetMapping("/process/status")
+    public RsData<NewsBatchStatusDto> getNewsProcessStatus() {
+        return newsBatchCheckpointService.getLatestStatus()
+                .map(status -> RsData.of(200, "뉴스 배치 진행 상황 조회 성공", status))
+                .orElseGet(() -> RsData.of(404, "실행된 뉴스 배치가 없습니다."));
+    }
+
     //뉴스 삭제
     @Operation(summary = "뉴스 삭제", description = "ID로 뉴스를 삭제합니다.")
     @ApiResponses(value = {
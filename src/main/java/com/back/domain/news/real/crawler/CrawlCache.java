@@ -0,0 +1,193 @@
+package com.back.domain.news.real.crawler;
+
+import com.back.domain.news.common.dto.NewsDetailDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 기사 HTML과 추출 결과를 로컬 디스크에 보관하는 크롤링 캐시입니다.
+ * - entries/{URL 해시}.json : URL, ETag/Last-Modified, 수집 시각, 추출된 NewsDetailDto, 본문 해시
+ * - blobs/{본문 해시}.html.gz : gzip 압축한 원본 HTML (내용이 같으면 한 번만 저장)
+ * fresh-ttl 이내면 네트워크 없이 사용하고, 그 이후에는 조건부 요청(304)으로 재검증합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlCache {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${naver.crawling.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${naver.crawling.cache.dir:./crawl-cache}")
+    private String cacheDir;
+
+    @Value("${naver.crawling.cache.fresh-ttl:PT6H}") // 재검증 없이 사용하는 기간
+    private Duration freshTtl;
+
+    @Value("${naver.crawling.cache.ttl:P7D}") // 디스크에서 삭제하는 기간
+    private Duration ttl;
+
+    public Optional<CrawlCacheEntry> get(String url) {
+        if (!enabled) return Optional.empty();
+
+        Path entryPath = entryPath(url);
+        if (!Files.exists(entryPath)) return Optional.empty();
+
+        try {
+            CrawlCacheEntry entry = objectMapper.readValue(entryPath.toFile(), CrawlCacheEntry.class);
+            if (isExpired(entry)) {
+                return Optional.empty();
+            }
+            return Optional.of(entry);
+        } catch (IOException e) {
+            log.warn("크롤링 캐시 읽기 실패: {} - {}", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public boolean isFresh(CrawlCacheEntry entry) {
+        return Instant.ofEpochMilli(entry.fetchedAt()).plus(freshTtl).isAfter(Instant.now());
+    }
+
+    public Optional<String> readHtml(CrawlCacheEntry entry) {
+        Path blob = blobPath(entry.contentHash());
+        if (!Files.exists(blob)) return Optional.empty();
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(blob))) {
+            return Optional.of(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("크롤링 캐시 본문 읽기 실패: {} - {}", entry.url(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String url, String html, String etag, String lastModified, NewsDetailDto detail) {
+        if (!enabled) return;
+
+        try {
+            byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+            String contentHash = sha256(bytes);
+            Path blob = blobPath(contentHash);
+
+            if (!Files.exists(blob)) {
+                Files.createDirectories(blob.getParent());
+                Path tmp = Files.createTempFile(blob.getParent(), contentHash, ".tmp");
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+                    out.write(bytes);
+                }
+                Files.move(tmp, blob, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            writeEntry(new CrawlCacheEntry(url, contentHash, etag, lastModified, Instant.now().toEpochMilli(), detail));
+        } catch (IOException e) {
+            log.warn("크롤링 캐시 저장 실패: {} - {}", url, e.getMessage());
+        }
+    }
+
+    // 304 응답으로 재검증된 경우 수집 시각만 갱신
+    public void touch(CrawlCacheEntry entry) {
+        if (!enabled) return;
+
+        try {
+            writeEntry(entry.withFetchedAt(Instant.now().toEpochMilli()));
+        } catch (IOException e) {
+            log.warn("크롤링 캐시 갱신 실패: {} - {}", entry.url(), e.getMessage());
+        }
+    }
+
+    // 만료된 엔트리 삭제 후, 어떤 엔트리도 참조하지 않는 본문 삭제
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void evictExpired() {
+        if (!enabled) return;
+
+        Path entries = Paths.get(cacheDir, "entries");
+        Path blobs = Paths.get(cacheDir, "blobs");
+        if (!Files.isDirectory(entries)) return;
+
+        Set<String> liveHashes = new HashSet<>();
+        int evicted = 0;
+
+        try (Stream<Path> files = Files.list(entries)) {
+            for (Path file : files.toList()) {
+                try {
+                    CrawlCacheEntry entry = objectMapper.readValue(file.toFile(), CrawlCacheEntry.class);
+                    if (isExpired(entry)) {
+                        Files.deleteIfExists(file);
+                        evicted++;
+                    } else {
+                        liveHashes.add(entry.contentHash());
+                    }
+                } catch (IOException e) {
+                    Files.deleteIfExists(file); // 손상된 엔트리
+                    evicted++;
+                }
+            }
+
+            if (Files.isDirectory(blobs)) {
+                try (Stream<Path> blobFiles = Files.list(blobs)) {
+                    for (Path blob : blobFiles.toList()) {
+                        String hash = blob.getFileName().toString().replace(".html.gz", "");
+                        if (!liveHashes.contains(hash)) {
+                            Files.deleteIfExists(blob);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("크롤링 캐시 정리 실패: {}", e.getMessage());
+        }
+
+        log.info("크롤링 캐시 정리 - 만료 {}개 삭제, 유지 {}개", evicted, liveHashes.size());
+    }
+
+    private boolean isExpired(CrawlCacheEntry entry) {
+        return Instant.ofEpochMilli(entry.fetchedAt()).plus(ttl).isBefore(Instant.now());
+    }
+
+    private void writeEntry(CrawlCacheEntry entry) throws IOException {
+        Path entryPath = entryPath(entry.url());
+        Files.createDirectories(entryPath.getParent());
+        Path tmp = Files.createTempFile(entryPath.getParent(), "entry", ".tmp");
+        objectMapper.writeValue(tmp.toFile(), entry);
+        Files.move(tmp, entryPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path entryPath(String url) {
+        return Paths.get(cacheDir, "entries", sha256(url.getBytes(StandardCharsets.UTF_8)) + ".json");
+    }
+
+    private Path blobPath(String contentHash) {
+        return Paths.get(cacheDir, "blobs", contentHash + ".html.gz");
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.back.domain.news.real.crawler;
+
+import com.back.domain.news.common.dto.NewsDetailDto;
+
+// 크롤링 캐시 엔트리 (detail이 null이면 추출 실패한 페이지)
+public record CrawlCacheEntry(
+        String url,
+        String contentHash,
+        String etag,
+        String lastModified,
+        long fetchedAt,
+        NewsDetailDto detail
+) {
+    public CrawlCacheEntry withFetchedAt(long fetchedAt) {
+        return new CrawlCacheEntry(url, contentHash, etag, lastModified, fetchedAt, detail);
+    }
+}
@@ -0,0 +1,32 @@
+package com.back.domain.news.real.crawler;
+
+import org.jsoup.nodes.Document;
+
+// 단건 크롤링 응답. 304 응답이면 document/body는 null
+public record CrawlResponse(
+        int status,
+        Document document,
+        String body,
+        String etag,
+        String lastModified
+) {
+    public static CrawlResponse ok(Document document, String body, String etag, String lastModified) {
+        return new CrawlResponse(200, document, body, etag, lastModified);
+    }
+
+    public static CrawlResponse notModified(String etag, String lastModified) {
+        return new CrawlResponse(304, null, null, etag, lastModified);
+    }
+
+    public static CrawlResponse failed(int status) {
+        return new CrawlResponse(status, null, null, null, null);
+    }
+
+    public boolean isOk() {
+        return document != null;
+    }
+
+    public boolean isNotModified() {
+        return status == 304;
+    }
+}
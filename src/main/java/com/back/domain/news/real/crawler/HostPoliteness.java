@@ -0,0 +1,79 @@
+package com.back.domain.news.real.crawler;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트 하나에 대한 크롤링 예절(politeness) 상태입니다.
+ * - 동시에 보낼 수 있는 요청 수를 세마포어로 제한합니다.
+ * - 요청 시작 간격(delay)을 관측된 응답 시간과 429/5xx 응답에 따라 조절합니다.
+ */
+class HostPoliteness {
+
+    private static final double LATENCY_EWMA_WEIGHT = 0.2; // 응답 시간 지수이동평균 가중치
+    private static final double LATENCY_MULTIPLIER = 2.0;  // 응답 시간 대비 요청 간격 배수
+    private static final double RECOVERY_RATE = 0.8;       // 정상 응답 시 간격 회복 비율
+
+    private final Semaphore permits;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+
+    private double currentDelayMs;
+    private double ewmaLatencyMs;
+    private long nextAllowedAtNanos = System.nanoTime();
+
+    HostPoliteness(int maxConcurrency, long baseDelayMs, long maxDelayMs) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = Math.max(baseDelayMs, maxDelayMs);
+        this.currentDelayMs = baseDelayMs;
+    }
+
+    // 동시 요청 슬롯을 확보하고, 이전 요청 시작 시점으로부터 현재 간격만큼 대기
+    void acquire() throws InterruptedException {
+        permits.acquire();
+
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long startAt = Math.max(now, nextAllowedAtNanos);
+            nextAllowedAtNanos = startAt + TimeUnit.MILLISECONDS.toNanos((long) currentDelayMs);
+            waitNanos = startAt - now;
+        }
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                permits.release();
+                throw e;
+            }
+        }
+    }
+
+    // 정상 응답: 응답 시간을 반영해 간격을 기본값 쪽으로 서서히 회복
+    synchronized void onSuccess(long latencyMs) {
+        ewmaLatencyMs = ewmaLatencyMs == 0
+                ? latencyMs
+                : (1 - LATENCY_EWMA_WEIGHT) * ewmaLatencyMs + LATENCY_EWMA_WEIGHT * latencyMs;
+
+        double target = Math.max(baseDelayMs, ewmaLatencyMs * LATENCY_MULTIPLIER);
+        currentDelayMs = Math.min(maxDelayMs, Math.max(target, currentDelayMs * RECOVERY_RATE));
+    }
+
+    // 429/5xx 응답: 간격을 두 배로 늘리고 Retry-After가 있으면 그 이상 대기
+    synchronized void onThrottled(long retryAfterMs) {
+        currentDelayMs = Math.min(maxDelayMs, Math.max(currentDelayMs * 2, retryAfterMs));
+
+        long pushBack = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos((long) currentDelayMs);
+        nextAllowedAtNanos = Math.max(nextAllowedAtNanos, pushBack);
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    synchronized long currentDelayMs() {
+        return (long) currentDelayMs;
+    }
+}
@@ -0,0 +1,272 @@
+package com.back.domain.news.real.crawler;
+
+import com.back.global.rateLimiter.QuotaDomain;
+import com.back.global.rateLimiter.UpstreamQuotaRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.Timeout;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 호스트별 예절 정책을 지키면서 뉴스 기사를 동시에 크롤링하는 컴포넌트입니다.
+ * - 호스트마다 동시 요청 수를 제한하고, 응답 시간과 429/5xx 응답에 따라 요청 간격을 조절합니다.
+ * - 각 기사는 가상 스레드에서 처리되므로 호출 스레드가 sleep으로 묶이지 않습니다.
+ * - 요청은 공용 커넥션 풀(HttpClientConfig)을 거치고, Jsoup은 받아온 본문의 파싱만 담당합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsCrawler {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64)"; // 브라우저인 척
+
+    private final MeterRegistry meterRegistry;
+    private final CloseableHttpClient httpClient;
+    private final UpstreamQuotaRegistry upstreamQuotaRegistry;
+    private final Map<String, HostPoliteness> hostPolicies = new ConcurrentHashMap<>();
+
+    @Value("${naver.crawling.delay}") // 호스트별 요청 시작 간격의 하한
+    private int crawlingDelay;
+
+    @Value("${naver.crawling.max-delay:30000}") // 429/5xx 백오프 시 최대 간격
+    private int maxCrawlingDelay;
+
+    @Value("${naver.crawling.per-host-concurrency:2}") // 호스트별 동시 요청 수
+    private int perHostConcurrency;
+
+    @Value("${naver.crawling.max-retries:2}") // 429/5xx/IO 오류 시 재시도 횟수
+    private int maxRetries;
+
+    @Value("${naver.crawling.timeout:10000}") // 요청 타임아웃(ms)
+    private int timeout;
+
+    private RequestConfig requestConfig;
+
+    @PostConstruct
+    public void validateConfig() {
+        if (crawlingDelay < 0) {
+            throw new IllegalArgumentException("NAVER_CRAWLING_DELAY는 0 이상이어야 합니다.");
+        }
+        if (perHostConcurrency < 1) {
+            throw new IllegalArgumentException("naver.crawling.per-host-concurrency는 1 이상이어야 합니다.");
+        }
+        requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(timeout))
+                .setResponseTimeout(Timeout.ofMilliseconds(timeout))
+                .build();
+    }
+
+    /**
+     * 항목들을 가상 스레드에서 동시에 크롤링합니다.
+     * 결과는 입력 순서를 유지하며, 실패(빈 Optional)한 항목은 제외됩니다.
+     */
+    public <T, R> List<R> crawlAll(List<T> items, Function<T, Optional<R>> task) {
+        if (items == null || items.isEmpty()) {
+            return List.of();
+        }
+
+        long startTime = System.nanoTime();
+        List<R> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Optional<R>>> futures = items.stream()
+                    .map(item -> executor.submit(() -> task.apply(item)))
+                    .toList();
+
+            for (Future<Optional<R>> future : futures) {
+                try {
+                    future.get().ifPresent(results::add);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt(); // 인터럽트 상태 복원
+                    log.error("크롤링 중 인터럽트 발생", e);
+                    executor.shutdownNow();
+                    break;
+                } catch (Exception e) {
+                    log.warn("크롤링 작업 실패: {}", e.getMessage());
+                }
+            }
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        double throughput = elapsedMs == 0 ? results.size() : results.size() * 1000.0 / elapsedMs;
+        meterRegistry.timer("news.crawl.batch").record(elapsedMs, TimeUnit.MILLISECONDS);
+
+        log.info("크롤링 완료 - 성공 {}/{}개, 소요 {}ms, 처리량 {}건/s",
+                results.size(), items.size(), elapsedMs, String.format("%.2f", throughput));
+        return results;
+    }
+
+    // 호스트 예절 정책을 적용해 단건 문서를 가져옴. 실패 시 빈 값 반환
+    public Optional<Document> fetch(String url) {
+        CrawlResponse response = fetch(url, null, null);
+        return Optional.ofNullable(response.document());
+    }
+
+    // 조건부 요청(If-None-Match / If-Modified-Since)으로 문서를 가져옴. 변경이 없으면 304 응답 반환
+    public CrawlResponse fetch(String url, String etag, String lastModified) {
+        String host = hostOf(url);
+        HostPoliteness policy = hostPolicies.computeIfAbsent(host,
+                h -> new HostPoliteness(perHostConcurrency, crawlingDelay, maxCrawlingDelay));
+
+        int lastStatus = 0; // 재시도를 모두 소진했을 때 돌려줄 마지막 응답 코드 (IO 오류면 0)
+        int maxAttempts = maxRetries + 1;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            // 호스트별 간격과 별개로 크롤러 전체의 초당/일일 한도 적용
+            if (!upstreamQuotaRegistry.tryAcquire(QuotaDomain.ARTICLE_CRAWLER)) {
+                return CrawlResponse.failed(0);
+            }
+            try {
+                policy.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return CrawlResponse.failed(0);
+            }
+
+            long requestStart = System.nanoTime();
+            try {
+                HttpGet request = new HttpGet(url);
+                request.setConfig(requestConfig);
+                request.setHeader(HttpHeaders.USER_AGENT, USER_AGENT);
+                if (etag != null) {
+                    request.setHeader(HttpHeaders.IF_NONE_MATCH, etag);
+                }
+                if (lastModified != null) {
+                    request.setHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+                }
+                RawResponse response = httpClient.execute(request, res -> {
+                    HttpEntity entity = res.getEntity();
+                    return new RawResponse(
+                            res.getCode(),
+                            headerValue(res.getFirstHeader(HttpHeaders.RETRY_AFTER)),
+                            headerValue(res.getFirstHeader(HttpHeaders.ETAG)),
+                            headerValue(res.getFirstHeader(HttpHeaders.LAST_MODIFIED)),
+                            entity == null ? null : ContentType.parseLenient(entity.getContentType()),
+                            entity == null ? new byte[0] : EntityUtils.toByteArray(entity)
+                    );
+                });
+
+                long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStart);
+                int status = response.status();
+
+                if (status == 429 || status >= 500) {
+                    policy.onThrottled(parseRetryAfter(response.retryAfter()));
+                    record(host, "throttled", latencyMs);
+                    lastStatus = status;
+                    log.warn("크롤링 응답 {} - 간격 {}ms로 조정 ({}/{}회 시도): {}",
+                            status, policy.currentDelayMs(), attempt, maxAttempts, url);
+                    continue;
+                }
+
+                policy.onSuccess(latencyMs);
+
+                if (status == 304) {
+                    record(host, "not_modified", latencyMs);
+                    return CrawlResponse.notModified(etag, lastModified);
+                }
+
+                if (status >= 400) {
+                    record(host, "client_error", latencyMs);
+                    log.warn("크롤링 실패 - 응답 코드 {}: {}", status, url);
+                    return CrawlResponse.failed(status);
+                }
+
+                record(host, "success", latencyMs);
+                Document document = parse(response, url);
+                String body = new String(response.body(), document.charset());
+                return CrawlResponse.ok(document, body, response.etag(), response.lastModified());
+
+            } catch (IOException e) {
+                long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStart);
+                policy.onThrottled(0);
+                record(host, "io_error", latencyMs);
+                lastStatus = 0;
+                log.warn("크롤링 IO 오류 ({}/{}회 시도): {} - {}", attempt, maxAttempts, url, e.getMessage());
+            } finally {
+                policy.release();
+            }
+        }
+
+        log.warn("크롤링 최종 실패 - 마지막 응답 코드 {}: {}", lastStatus, url);
+        return CrawlResponse.failed(lastStatus);
+    }
+
+    // Content-Type에 charset이 없으면 Jsoup이 <meta charset>으로 판별
+    private Document parse(RawResponse response, String url) throws IOException {
+        Charset charset = response.contentType() != null ? response.contentType().getCharset() : null;
+        return Jsoup.parse(new ByteArrayInputStream(response.body()),
+                charset != null ? charset.name() : null, url);
+    }
+
+    private static String headerValue(Header header) {
+        return header != null ? header.getValue() : null;
+    }
+
+    // 커넥션을 풀에 바로 돌려주기 위해 응답 핸들러 안에서 본문까지 읽어둔 결과
+    private record RawResponse(
+            int status,
+            String retryAfter,
+            String etag,
+            String lastModified,
+            ContentType contentType,
+            byte[] body
+    ) {
+    }
+
+    private void record(String host, String outcome, long latencyMs) {
+        Timer.builder("news.crawl.request")
+                .tag("host", host)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    private String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : "unknown";
+        } catch (IllegalArgumentException e) {
+            return "unknown";
+        }
+    }
+
+    // Retry-After 헤더(초 단위)를 ms로 변환. 없거나 날짜 형식이면 0
+    private long parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
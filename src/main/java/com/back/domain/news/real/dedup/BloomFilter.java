@@ -0,0 +1,73 @@
+package com.back.domain.news.real.dedup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 블룸 필터입니다. mightContain 이 false 면 확실히 없는 값이고,
+ * true 면 오탐일 수 있으므로 정확한 저장소로 한 번 더 확인해야 합니다.
+ * 비트 배열은 AtomicLongArray 라서 여러 스레드에서 동시에 추가/조회할 수 있습니다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int numHashes;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (m + 63) >>> 6);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.numHashes = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash64 = hash(value);
+        int h1 = (int) hash64;
+        int h2 = (int) (hash64 >>> 32);
+
+        for (int i = 1; i <= numHashes; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitSize;
+            setBit(index);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash64 = hash(value);
+        int h1 = (int) hash64;
+        int h2 = (int) (hash64 >>> 32);
+
+        for (int i = 1; i <= numHashes; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) return;
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    // FNV-1a 64bit + splitmix 마무리
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,86 @@
+package com.back.domain.news.real.dedup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 정확한 Jaccard 유사도로 중복을 제거합니다.
+ * 모든 (i, j) 쌍의 비교는 ForkJoin으로 병렬 수행하고, 제거 여부는 순서대로 결정해
+ * "앞에 남은 뉴스와 유사하면 뒤 뉴스를 제거"하는 기존 greedy 방식을 그대로 유지합니다.
+ */
+public class JaccardDeduplicator {
+
+    private static final int SEQUENTIAL_ROWS = 16; // 이 행 수 이하는 분할하지 않고 처리
+
+    // 유지할 항목이면 true
+    public static boolean[] keepFirstUnique(List<Set<String>> tokenSets, double threshold) {
+        int n = tokenSets.size();
+        boolean[] kept = new boolean[n];
+        if (n == 0) return kept;
+
+        PackedTokenSets sets = PackedTokenSets.pack(tokenSets);
+
+        // similar[i] 의 j 번째 비트 = (j > i 이고 i, j 가 유사함)
+        int rowWords = (n + 63) >>> 6;
+        long[][] similar = new long[n][rowWords];
+        ForkJoinPool.commonPool().invoke(new PairScanTask(sets, similar, threshold, 0, n));
+
+        boolean[] removed = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            if (removed[i]) continue;
+            kept[i] = true;
+
+            long[] row = similar[i];
+            for (int w = 0; w < rowWords; w++) {
+                long bits = row[w];
+                while (bits != 0) {
+                    int j = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    removed[j] = true;
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return kept;
+    }
+
+    private static class PairScanTask extends RecursiveAction {
+        private final PackedTokenSets sets;
+        private final long[][] similar;
+        private final double threshold;
+        private final int from;
+        private final int to;
+
+        PairScanTask(PackedTokenSets sets, long[][] similar, double threshold, int from, int to) {
+            this.sets = sets;
+            this.similar = similar;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_ROWS) {
+                int n = sets.size();
+                for (int i = from; i < to; i++) {
+                    long[] row = similar[i];
+                    for (int j = i + 1; j < n; j++) {
+                        if (sets.similarityExceeds(i, j, threshold)) {
+                            row[j >>> 6] |= 1L << j;
+                        }
+                    }
+                }
+                return;
+            }
+
+            // 앞쪽 행일수록 비교할 j가 많으므로 단순 이등분
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new PairScanTask(sets, similar, threshold, from, mid),
+                    new PairScanTask(sets, similar, threshold, mid, to)
+            );
+        }
+    }
+}
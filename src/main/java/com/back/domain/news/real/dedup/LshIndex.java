@@ -0,0 +1,60 @@
+package com.back.domain.news.real.dedup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MinHash 시그니처를 bands x rows 로 나누어 버킷에 넣는 LSH 인덱스입니다.
+ * 한 밴드라도 값이 모두 같은 항목만 후보로 반환하므로 전체 비교 없이 후보를 찾을 수 있습니다.
+ */
+public class LshIndex {
+
+    private final int bands;
+    private final int rows;
+    private final List<Map<Long, List<Integer>>> buckets;
+
+    public LshIndex(int bands, int rows) {
+        this.bands = bands;
+        this.rows = rows;
+        this.buckets = new ArrayList<>(bands);
+        for (int i = 0; i < bands; i++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    public int signatureLength() {
+        return bands * rows;
+    }
+
+    public void add(int id, int[] signature) {
+        for (int band = 0; band < bands; band++) {
+            buckets.get(band)
+                    .computeIfAbsent(bandKey(signature, band), k -> new ArrayList<>(2))
+                    .add(id);
+        }
+    }
+
+    public Set<Integer> candidates(int[] signature) {
+        Set<Integer> result = new LinkedHashSet<>();
+        for (int band = 0; band < bands; band++) {
+            List<Integer> ids = buckets.get(band).get(bandKey(signature, band));
+            if (ids != null) {
+                result.addAll(ids);
+            }
+        }
+        return result;
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long key = 1125899906842597L;
+        int offset = band * rows;
+        for (int i = offset; i < offset + rows; i++) {
+            key = 31 * key + signature[i];
+        }
+        return key;
+    }
+}
@@ -0,0 +1,87 @@
+package com.back.domain.news.real.dedup;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 키워드 집합의 MinHash 시그니처를 계산합니다.
+ * 시그니처는 DB에 저장되어 재시작 이후에도 비교되므로 해시 함수 시드는 고정값을 사용합니다.
+ */
+public class MinHasher {
+
+    private static final long SEED_BASE = 0x5DEECE66DL;
+
+    private final long[] seeds;
+
+    public MinHasher(int numHashes) {
+        this.seeds = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            seeds[i] = mix(SEED_BASE + i);
+        }
+    }
+
+    public int numHashes() {
+        return seeds.length;
+    }
+
+    public int[] signature(Set<String> tokens) {
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        for (String token : tokens) {
+            long tokenHash = token.hashCode(); // String.hashCode는 JVM 간에 동일함이 보장됨
+            for (int i = 0; i < seeds.length; i++) {
+                int h = (int) (mix(tokenHash ^ seeds[i]) >>> 33);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // 두 시그니처의 일치 비율 = Jaccard 유사도 추정값 (빈 집합끼리는 정확한 계산과 같이 0)
+    public static double estimateSimilarity(int[] a, int[] b) {
+        int length = Math.min(a.length, b.length);
+        if (length == 0 || isEmpty(a) || isEmpty(b)) return 0.0;
+
+        int equal = 0;
+        for (int i = 0; i < length; i++) {
+            if (a[i] == b[i]) equal++;
+        }
+        return (double) equal / length;
+    }
+
+    // 빈 키워드 집합의 시그니처 (모든 값이 초기값)
+    public static boolean isEmpty(int[] signature) {
+        for (int value : signature) {
+            if (value != Integer.MAX_VALUE) return false;
+        }
+        return true;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+        for (int value : signature) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] signature = new int[bytes.length / Integer.BYTES];
+        for (int i = 0; i < signature.length; i++) {
+            signature[i] = buffer.getInt();
+        }
+        return signature;
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,139 @@
+package com.back.domain.news.real.dedup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 제목/요약 키워드 집합에 대한 MinHash + LSH 중복 뉴스 인덱스입니다.
+ * - 현재 배치의 항목은 키워드 집합을 함께 보관해 정확한 Jaccard 유사도로 확인합니다.
+ * - DB에 저장된 과거 뉴스는 시그니처만 있으므로 MinHash 추정 유사도로 확인합니다.
+ * - 키워드가 없는 제목/요약(불용어만 있는 경우 등)은 비교하지 않습니다. 빈 집합끼리 시그니처가 모두 같아 중복으로 판정되기 때문입니다.
+ */
+public class NewsDedupIndex {
+
+    private final MinHasher minHasher;
+    private final LshIndex titleIndex;
+    private final LshIndex descriptionIndex;
+    private final double titleThreshold;
+    private final double descriptionThreshold;
+    private final List<Entry> entries = new ArrayList<>();
+    private final List<Integer> duplicateCounts = new ArrayList<>(); // 항목별로 걸러진 중복 뉴스 수 (보도 규모)
+
+    public NewsDedupIndex(int bands, int rows, double titleThreshold, double descriptionThreshold) {
+        this.minHasher = new MinHasher(bands * rows);
+        this.titleIndex = new LshIndex(bands, rows);
+        this.descriptionIndex = new LshIndex(bands, rows);
+        this.titleThreshold = titleThreshold;
+        this.descriptionThreshold = descriptionThreshold;
+    }
+
+    public int[] signature(Set<String> tokens) {
+        return minHasher.signature(tokens);
+    }
+
+    // 저장된 뉴스의 시그니처 등록 (길이가 다른 시그니처는 설정 변경 이전 것이므로 무시)
+    public boolean addStored(int[] titleSignature, int[] descriptionSignature) {
+        if (titleSignature.length != minHasher.numHashes() || descriptionSignature.length != minHasher.numHashes()) {
+            return false;
+        }
+        add(new Entry(titleSignature, descriptionSignature, null, null));
+        return true;
+    }
+
+    // 중복이 아니면 인덱스에 추가하고 true, 기존 항목과 중복이면 false (먼저 들어온 항목 유지)
+    public boolean addIfUnique(Set<String> titleTokens, Set<String> descriptionTokens) {
+        return addOrCount(titleTokens, descriptionTokens) >= 0;
+    }
+
+    // 중복이 아니면 인덱스에 추가하고 항목 번호 반환, 중복이면 기존 항목의 중복 수를 늘리고 -1 반환
+    public int addOrCount(Set<String> titleTokens, Set<String> descriptionTokens) {
+        Entry candidate = new Entry(
+                minHasher.signature(titleTokens),
+                minHasher.signature(descriptionTokens),
+                titleTokens,
+                descriptionTokens
+        );
+
+        int duplicateOf = findDuplicate(candidate);
+        if (duplicateOf >= 0) {
+            duplicateCounts.set(duplicateOf, duplicateCounts.get(duplicateOf) + 1);
+            return -1;
+        }
+        return add(candidate);
+    }
+
+    // addOrCount로 추가된 항목이 이후 걸러낸 중복 뉴스 수
+    public int duplicateCount(int entryId) {
+        return duplicateCounts.get(entryId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 제목/요약 중 하나라도 LSH 버킷이 겹쳐 정확히 비교하게 되는 항목 수 (조회 비용 확인용)
+    public int candidateCount(Set<String> titleTokens, Set<String> descriptionTokens) {
+        Set<Integer> ids = new HashSet<>(candidates(titleIndex, minHasher.signature(titleTokens)));
+        ids.addAll(candidates(descriptionIndex, minHasher.signature(descriptionTokens)));
+        return ids.size();
+    }
+
+    // 중복인 기존 항목 번호, 없으면 -1
+    private int findDuplicate(Entry candidate) {
+        for (int id : candidates(titleIndex, candidate.titleSignature())) {
+            Entry existing = entries.get(id);
+            if (similarity(candidate.titleTokens(), existing.titleTokens(),
+                    candidate.titleSignature(), existing.titleSignature()) > titleThreshold) {
+                return id;
+            }
+        }
+
+        for (int id : candidates(descriptionIndex, candidate.descriptionSignature())) {
+            Entry existing = entries.get(id);
+            if (similarity(candidate.descriptionTokens(), existing.descriptionTokens(),
+                    candidate.descriptionSignature(), existing.descriptionSignature()) > descriptionThreshold) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    private int add(Entry entry) {
+        int id = entries.size();
+        entries.add(entry);
+        duplicateCounts.add(0);
+        if (!MinHasher.isEmpty(entry.titleSignature())) {
+            titleIndex.add(id, entry.titleSignature());
+        }
+        if (!MinHasher.isEmpty(entry.descriptionSignature())) {
+            descriptionIndex.add(id, entry.descriptionSignature());
+        }
+        return id;
+    }
+
+    private Set<Integer> candidates(LshIndex index, int[] signature) {
+        return MinHasher.isEmpty(signature) ? Set.of() : index.candidates(signature);
+    }
+
+    private double similarity(Set<String> a, Set<String> b, int[] signatureA, int[] signatureB) {
+        if (a == null || b == null) {
+            return MinHasher.estimateSimilarity(signatureA, signatureB);
+        }
+
+        int intersection = 0;
+        for (String token : a) {
+            if (b.contains(token)) intersection++;
+        }
+        int union = a.size() + b.size() - intersection;
+        return union == 0 ? 0.0 : (double) intersection / union;
+    }
+
+    private record Entry(
+            int[] titleSignature,
+            int[] descriptionSignature,
+            Set<String> titleTokens,
+            Set<String> descriptionTokens
+    ) {}
+}
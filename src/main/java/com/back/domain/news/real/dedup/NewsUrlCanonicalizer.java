@@ -0,0 +1,64 @@
+package com.back.domain.news.real.dedup;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// 같은 기사를 가리키는 URL을 하나의 형태로 정규화
+public class NewsUrlCanonicalizer {
+
+    // 네이버 뉴스 기사: /mnews/article/{언론사}/{기사} 또는 /article/{언론사}/{기사}
+    private static final Pattern NAVER_ARTICLE = Pattern.compile("^/(?:mnews/)?article/(\\d+)/(\\d+)");
+    private static final String NAVER_NEWS_HOST = "n.news.naver.com";
+    private static final Set<String> TRACKING_PARAMS = Set.of("fbclid", "gclid", "ref", "cmpid");
+
+    public static String canonicalize(String url) {
+        if (url == null || url.isBlank()) {
+            return url;
+        }
+
+        try {
+            URI uri = new URI(url.trim());
+            String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+
+            // 네이버 뉴스는 sid 등 쿼리와 무관하게 언론사/기사 번호로 식별
+            if (host.equals(NAVER_NEWS_HOST)) {
+                Matcher matcher = NAVER_ARTICLE.matcher(path);
+                if (matcher.find()) {
+                    return "https://" + NAVER_NEWS_HOST + "/mnews/article/" + matcher.group(1) + "/" + matcher.group(2);
+                }
+            }
+
+            // 그 외에는 scheme/host 소문자화, fragment와 끝 슬래시 제거, 추적용 파라미터 제거 후 파라미터 순서 정렬
+            String scheme = uri.getScheme() == null ? "https" : uri.getScheme().toLowerCase(Locale.ROOT);
+            String port = uri.getPort() == -1 ? "" : ":" + uri.getPort();
+            String normalizedPath = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+            return scheme + "://" + host + port + normalizedPath + normalizeQuery(uri.getRawQuery());
+
+        } catch (URISyntaxException e) {
+            return url.trim();
+        }
+    }
+
+    private static String normalizeQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        String query = Arrays.stream(rawQuery.split("&"))
+                .filter(param -> !param.isEmpty())
+                .filter(param -> !isTrackingParam(param.split("=", 2)[0].toLowerCase(Locale.ROOT)))
+                .sorted()
+                .collect(Collectors.joining("&"));
+        return query.isEmpty() ? "" : "?" + query;
+    }
+
+    private static boolean isTrackingParam(String name) {
+        return name.startsWith("utm_") || TRACKING_PARAMS.contains(name);
+    }
+}
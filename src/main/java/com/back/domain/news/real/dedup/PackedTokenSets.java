@@ -0,0 +1,100 @@
+package com.back.domain.news.real.dedup;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 뉴스별 토큰 집합을 하나의 long[] 에 비트로 묶어 보관하고, 할당 없이 Jaccard 유사도를 계산합니다.
+ * 각 집합의 원소 수는 미리 계산해 두므로 합집합은 |A| + |B| - |A∩B| 로 구합니다.
+ */
+public class PackedTokenSets {
+
+    private final long[] words;
+    private final int[] cardinalities;
+    private final int stride; // 집합 하나가 차지하는 long 개수
+
+    private PackedTokenSets(long[] words, int[] cardinalities, int stride) {
+        this.words = words;
+        this.cardinalities = cardinalities;
+        this.stride = stride;
+    }
+
+    public static PackedTokenSets pack(List<Set<String>> tokenSets) {
+        TokenDictionary dictionary = new TokenDictionary(tokenSets.size() * 8);
+        int[][] indices = new int[tokenSets.size()][];
+
+        for (int i = 0; i < tokenSets.size(); i++) {
+            Set<String> tokens = tokenSets.get(i);
+            int[] tokenIndices = new int[tokens.size()];
+            int k = 0;
+            for (String token : tokens) {
+                tokenIndices[k++] = dictionary.indexOf(token);
+            }
+            indices[i] = tokenIndices;
+        }
+
+        int stride = Math.max(1, (dictionary.size() + 63) >>> 6);
+        long[] words = new long[tokenSets.size() * stride];
+        int[] cardinalities = new int[tokenSets.size()];
+
+        for (int i = 0; i < indices.length; i++) {
+            int base = i * stride;
+            for (int index : indices[i]) {
+                words[base + (index >>> 6)] |= 1L << index;
+            }
+            cardinalities[i] = indices[i].length; // Set이므로 중복 토큰 없음
+        }
+
+        return new PackedTokenSets(words, cardinalities, stride);
+    }
+
+    public int size() {
+        return cardinalities.length;
+    }
+
+    /**
+     * i, j 집합의 Jaccard 유사도가 threshold 를 초과하는지 확인합니다.
+     * 원소 수 차이나 남은 비트만으로 임계값을 넘을 수 없으면 즉시 종료합니다.
+     */
+    public boolean similarityExceeds(int i, int j, double threshold) {
+        int cardI = cardinalities[i];
+        int cardJ = cardinalities[j];
+
+        // 교집합 ≤ min, 합집합 ≥ max 이므로 min/max 가 상한
+        int min = Math.min(cardI, cardJ);
+        int max = Math.max(cardI, cardJ);
+        if (max == 0 || (double) min / max <= threshold) {
+            return false;
+        }
+
+        int baseI = i * stride;
+        int baseJ = j * stride;
+        int intersection = 0;
+        int remainingI = cardI;
+        int remainingJ = cardJ;
+
+        for (int w = 0; w < stride; w++) {
+            long wordI = words[baseI + w];
+            long wordJ = words[baseJ + w];
+            if ((wordI | wordJ) == 0) continue;
+
+            intersection += Long.bitCount(wordI & wordJ);
+            remainingI -= Long.bitCount(wordI);
+            remainingJ -= Long.bitCount(wordJ);
+
+            // 남은 비트가 모두 겹쳐도 임계값을 넘지 못하면 종료
+            int bestIntersection = intersection + Math.min(remainingI, remainingJ);
+            int bestUnion = cardI + cardJ - bestIntersection;
+            if ((double) bestIntersection / bestUnion <= threshold) {
+                return false;
+            }
+            if (remainingI == 0 || remainingJ == 0) {
+                break;
+            }
+        }
+
+        int union = cardI + cardJ - intersection;
+        double similarity = (union == 0) ? 0.0 : (double) intersection / union;
+        return similarity > threshold;
+    }
+}
@@ -0,0 +1,66 @@
+package com.back.domain.news.real.dedup;
+
+/**
+ * 토큰 문자열에 0부터 순서대로 번호를 부여하는 오픈 어드레싱 사전입니다.
+ * HashMap<String, Integer>와 달리 번호를 박싱하지 않습니다.
+ */
+class TokenDictionary {
+
+    private String[] keys;
+    private int[] values;
+    private int size;
+
+    TokenDictionary(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2) - 1) << 1;
+        this.keys = new String[capacity];
+        this.values = new int[capacity];
+    }
+
+    // 토큰의 번호를 반환하고, 처음 보는 토큰이면 새 번호를 부여
+    int indexOf(String token) {
+        int mask = keys.length - 1;
+        int slot = spread(token.hashCode()) & mask;
+
+        while (keys[slot] != null) {
+            if (keys[slot].equals(token)) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = token;
+        values[slot] = size;
+        int index = size++;
+
+        if (size * 2 > keys.length) {
+            grow();
+        }
+        return index;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        String[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new String[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        int mask = keys.length - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) continue;
+            int slot = spread(oldKeys[i].hashCode()) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+}
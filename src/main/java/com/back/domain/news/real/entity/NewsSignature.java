@@ -0,0 +1,45 @@
+package com.back.domain.news.real.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+// 저장된 뉴스의 제목/요약 MinHash 시그니처 (다음 배치의 중복 제거용)
+@Entity
+@Getter
+@Table(name = "news_signature", indexes = {
+        @Index(name = "idx_news_signature_created_date", columnList = "created_date")
+})
+@NoArgsConstructor
+public class NewsSignature {
+
+    // 시그니처 컬럼 최대 크기 (int 하나당 4바이트, bands * rows 최대 512)
+    public static final int MAX_SIGNATURE_BYTES = 2048;
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    private Long realNewsId;
+
+    @Column(length = MAX_SIGNATURE_BYTES)
+    private byte[] titleSignature;
+
+    @Column(length = MAX_SIGNATURE_BYTES)
+    private byte[] descriptionSignature;
+
+    private LocalDateTime createdDate;
+
+    @Builder
+    public NewsSignature(Long realNewsId, byte[] titleSignature, byte[] descriptionSignature, LocalDateTime createdDate) {
+        this.realNewsId = realNewsId;
+        this.titleSignature = titleSignature;
+        this.descriptionSignature = descriptionSignature;
+        this.createdDate = createdDate;
+    }
+}
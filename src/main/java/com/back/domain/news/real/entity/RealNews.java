@@ -3,6 +3,7 @@ package com.back.domain.news.real.entity;
 
 import com.back.domain.news.common.enums.NewsCategory;
 import com.back.domain.news.fake.entity.FakeNews;
+import com.back.domain.news.real.dedup.NewsUrlCanonicalizer;
 import com.back.domain.quiz.detail.entity.DetailQuiz;
 import com.back.domain.quiz.fact.entity.FactQuiz;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -37,7 +38,14 @@ import static jakarta.persistence.GenerationType.IDENTITY;
                 columnList = "origin_created_date DESC"),
 
         @Index(name = "idx_real_news_category_origin_created_date_desc",
-                columnList = "news_category, origin_created_date DESC")
+                columnList = "news_category, origin_created_date DESC"),
+
+        // URL seen-set 정확 확인용
+        @Index(name = "idx_real_news_link",
+                columnList = "link"),
+
+        @Index(name = "idx_real_news_canonical_link",
+                columnList = "canonical_link")
 
 })
 @NoArgsConstructor
@@ -53,6 +61,10 @@ public class RealNews {
     private String content;
 
     private String link;
+
+    @Column(name = "canonical_link")
+    private String canonicalLink; // 같은 기사 확인용 정규화 링크 (NewsUrlCanonicalizer)
+
     private String imgUrl;
     private String description;
     private LocalDateTime originCreatedDate; // 원본 뉴스 생성 날짜
@@ -99,6 +111,7 @@ public class RealNews {
         this.content = content;
         this.description = description;
         this.link = link;
+        this.canonicalLink = NewsUrlCanonicalizer.canonicalize(link);
         this.imgUrl = imgUrl;
         this.originCreatedDate = originCreatedDate;
         this.createdDate = createdDate;
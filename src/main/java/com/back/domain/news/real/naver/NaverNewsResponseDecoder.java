@@ -0,0 +1,93 @@
+package com.back.domain.news.real.naver;
+
+import com.back.domain.news.common.dto.NaverNewsDto;
+import com.back.global.util.HtmlEntityDecoder;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 네이버 뉴스 검색 API 응답을 JsonParser로 스트리밍 디코딩합니다.
+ * JsonNode 트리를 만들지 않고 응답 본문에서 바로 NaverNewsDto를 생성하며,
+ * HTML 엔티티 디코딩과 n.news.naver.com 링크 필터링도 같은 패스에서 처리합니다.
+ */
+@Component
+public class NaverNewsResponseDecoder {
+
+    private static final String NAVER_NEWS_HOST = "n.news.naver.com";
+
+    private final JsonFactory jsonFactory;
+
+    public NaverNewsResponseDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public List<NaverNewsDto> decode(InputStream body) throws IOException {
+        List<NaverNewsDto> result = new ArrayList<>();
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("네이버 API 응답이 JSON 객체가 아닙니다.");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        readItem(parser, result);
+                    }
+                } else {
+                    parser.skipChildren(); // total, start 등 나머지 필드
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private void readItem(JsonParser parser, List<NaverNewsDto> result) throws IOException {
+        String rawTitle = "";
+        String originallink = "";
+        String link = "";
+        String rawDescription = "";
+        String pubDate = "";
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "title" -> rawTitle = parser.getValueAsString("");
+                case "originallink" -> originallink = parser.getValueAsString("");
+                case "link" -> link = parser.getValueAsString("");
+                case "description" -> rawDescription = parser.getValueAsString("");
+                case "pubDate" -> pubDate = parser.getValueAsString("");
+                default -> parser.skipChildren();
+            }
+        }
+
+        // 네이버 뉴스가 아니면 디코딩 없이 건너뜀
+        if (!link.contains(NAVER_NEWS_HOST)) {
+            return;
+        }
+
+        String cleanedTitle = HtmlEntityDecoder.decode(rawTitle); // HTML 태그 제거
+        String cleanDescription = HtmlEntityDecoder.decode(rawDescription); // HTML 태그 제거
+
+        //한 필드라도 비어있으면 건너뜀
+        if (cleanedTitle.isEmpty() || originallink.isEmpty() || cleanDescription.isEmpty() || pubDate.isEmpty()) {
+            return;
+        }
+
+        result.add(NaverNewsDto.of(cleanedTitle, originallink, link, cleanDescription, pubDate));
+    }
+}
@@ -0,0 +1,19 @@
+package com.back.domain.news.real.repository;
+
+import com.back.domain.news.real.entity.NewsSignature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NewsSignatureRepository extends JpaRepository<NewsSignature, Long> {
+
+    List<NewsSignature> findByCreatedDateAfter(LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM NewsSignature ns WHERE ns.createdDate < :cutoff")
+    int deleteByCreatedDateBefore(@Param("cutoff") LocalDateTime cutoff);
+}
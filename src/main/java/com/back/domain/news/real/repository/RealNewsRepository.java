@@ -5,9 +5,11 @@ import com.back.domain.news.real.entity.RealNews;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -156,5 +158,34 @@ public interface RealNewsRepository extends JpaRepository<RealNews, Long> {
     List<RealNews> findByCreatedDateBetweenOrderByCreatedDateDesc(
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end);
-}
 
+    // 정규화 링크 백필 대상 [ID, 링크] 조회 (정규화 이전에 저장된 뉴스)
+    @Query("SELECT rn.id, rn.link FROM RealNews rn WHERE rn.canonicalLink IS NULL AND rn.link IS NOT NULL ORDER BY rn.id")
+    List<Object[]> findLinksWithoutCanonicalLink(Pageable pageable);
+
+    // URL seen-set 재구성용 [ID, 정규화 링크] 조회 (ID 기준 페이지)
+    @Query("SELECT rn.id, rn.canonicalLink FROM RealNews rn WHERE rn.canonicalLink IS NOT NULL AND rn.id > :afterId ORDER BY rn.id")
+    List<Object[]> findCanonicalLinksAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 이미 저장된 정규화 링크 조회 (인덱스: idx_real_news_canonical_link)
+    @Query("SELECT rn.canonicalLink FROM RealNews rn WHERE rn.canonicalLink IN :canonicalLinks")
+    List<String> findExistingCanonicalLinks(@Param("canonicalLinks") Collection<String> canonicalLinks);
+
+    // 재개된 배치가 이미 저장한 기사를 다시 저장하지 않도록 정규화 링크로 조회
+    List<RealNews> findByCanonicalLinkIn(Collection<String> canonicalLinks);
+
+    @Modifying
+    @Query("UPDATE RealNews rn SET rn.canonicalLink = :canonicalLink WHERE rn.id = :id")
+    int updateCanonicalLink(@Param("id") Long id, @Param("canonicalLink") String canonicalLink);
+
+    // 기간 내 선정된 뉴스의 언론사별 건수 (사전 순위의 언론사 가중치)
+    @Query("SELECT rn.mediaName, COUNT(rn) FROM RealNews rn WHERE rn.createdDate >= :since GROUP BY rn.mediaName")
+    List<Object[]> countByMediaNameSince(@Param("since") LocalDateTime since);
+
+    // 카테고리 분류기 학습용 최근 뉴스의 제목/요약/카테고리 (분류 전 뉴스 제외)
+    @Query("SELECT rn.title, rn.description, rn.newsCategory FROM RealNews rn " +
+            "WHERE rn.createdDate >= :since AND rn.newsCategory <> :excluded ORDER BY rn.createdDate DESC")
+    List<Object[]> findCategorizedSince(@Param("since") LocalDateTime since,
+                                        @Param("excluded") NewsCategory excluded,
+                                        Pageable pageable);
+}
@@ -1,23 +1,23 @@
 package com.back.domain.news.real.service;
 
+import com.back.domain.news.batch.enums.NewsBatchStage;
+import com.back.domain.news.batch.service.NewsBatchCheckpointService;
 import com.back.domain.news.common.dto.AnalyzedNewsDto;
-import com.back.domain.news.common.dto.NaverNewsDto;
+import com.back.domain.news.common.dto.KeywordGenerationResDto;
 import com.back.domain.news.common.service.KeepAliveMonitoringService;
 import com.back.domain.news.common.service.KeywordGenerationService;
 import com.back.domain.news.real.dto.RealNewsDto;
-import com.back.domain.news.real.event.RealNewsCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -26,47 +26,59 @@ public class AdminNewsService {
 
     private final NewsDataService newsDataService;
     private final KeywordGenerationService keywordGenerationService;
-    private final NewsAnalysisService newsAnalysisService;
+    private final NewsPipelineService newsPipelineService;
     private final static List<String> STATIC_KEYWORD = Arrays.asList("속보", "긴급", "단독");
-    private final ApplicationEventPublisher publisher;
+    private final RealNewsBatchSaveService realNewsBatchSaveService;
     private final KeepAliveMonitoringService keepAliveMonitoringService;
+    private final NewsBatchCheckpointService newsBatchCheckpointService;
 
 
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul") // 매일 자정에 실행
-    @Transactional
     public void dailyNewsProcess(){
 
+        // 오늘 끝나지 않은 실행이 있으면 체크포인트에서 이어서 처리. 다른 인스턴스/스레드가 실행 중이면 건너뜀
+        Optional<Long> acquired;
+        try {
+            acquired = newsBatchCheckpointService.startOrResume(LocalDate.now(ZoneId.of("Asia/Seoul")));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 날짜의 실행을 동시에 새로 만듦 (active_date 유니크 제약)
+            acquired = Optional.empty();
+        }
+        if (acquired.isEmpty()) {
+            log.info("오늘 뉴스 배치가 이미 실행 중이라 건너뜁니다.");
+            return;
+        }
+        Long runId = acquired.get();
+
         keepAliveMonitoringService.startBatchKeepAlive();
 
         try{
-            List<String> keywords = keywordGenerationService.generateTodaysKeywords().getKeywords();
-            List<String> newsKeywordsAfterAdd = newsDataService.addKeywords(keywords, STATIC_KEYWORD);
-            List<NaverNewsDto> newsMetaData = newsDataService.collectMetaDataFromNaver(newsKeywordsAfterAdd);
-            List<RealNewsDto> newsAfterCrwal = newsDataService.createRealNewsDtoByCrawl(newsMetaData);
-            List<AnalyzedNewsDto> newsAfterFilter = newsAnalysisService.filterAndScoreNews(newsAfterCrwal);
+            List<String> newsKeywordsAfterAdd = newsBatchCheckpointService.findKeywords(runId)
+                    .orElseGet(() -> {
+                        KeywordGenerationResDto generated = keywordGenerationService.generateTodaysKeywords();
+                        List<String> added = newsDataService.addKeywords(generated.getKeywords(), STATIC_KEYWORD);
+                        newsBatchCheckpointService.saveKeywords(runId, added, generated.getKeywordCategories());
+                        return added;
+                    });
+
+            // 수집 → 크롤링 → AI 분석을 단계별 대기 없이 파이프라인으로 처리
+            List<AnalyzedNewsDto> newsAfterFilter = newsPipelineService.collectAndAnalyze(runId, newsKeywordsAfterAdd);
+
+            newsBatchCheckpointService.advance(runId, NewsBatchStage.SAVING);
             List<RealNewsDto> selectedNews = newsDataService.selectNewsByScore(newsAfterFilter);
-            List<RealNewsDto> savedNews = newsDataService.saveAllRealNews(selectedNews);
+            // 저장 단계만 트랜잭션으로 묶음 (수집/크롤링/분석 동안 DB 커넥션을 잡고 있지 않도록)
+            List<RealNewsDto> savedNews = realNewsBatchSaveService.saveAndEnqueue(selectedNews);
 
             if(savedNews.isEmpty()) {
                 log.warn("저장된 뉴스가 없습니다. 오늘의 뉴스 수집이 실패했을 수 있습니다.");
+                newsBatchCheckpointService.fail(runId, "저장된 뉴스가 없습니다.");
                 return;
             }
-            newsDataService.setTodayNews(savedNews.getFirst().id());
-
-            List<Long> realNewsIds = savedNews.stream()
-                    .map(RealNewsDto::id)
-                    .filter(Objects::nonNull) // null 체크
-                    .toList();
 
-            // 트랜잭션 커밋 이후에 이벤트 발행
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    publisher.publishEvent(new RealNewsCreatedEvent(realNewsIds));
-                }
-            });
+            newsBatchCheckpointService.complete(runId);
         } catch (Exception e) {
             log.error("뉴스 처리 중 오류 발생", e);
+            newsBatchCheckpointService.fail(runId, e.getMessage());
         } finally {
             keepAliveMonitoringService.stopBatchKeepAlive();
         }
@@ -4,15 +4,25 @@ import com.back.domain.news.common.dto.AnalyzedNewsDto;
 import com.back.domain.news.real.dto.RealNewsDto;
 import com.back.global.ai.AiService;
 import com.back.global.ai.processor.NewsAnalysisProcessor;
-import com.back.global.rateLimiter.RateLimiter;
+import com.back.global.rateLimiter.AiAdmissionScheduler;
+import com.back.global.rateLimiter.AiPriority;
+import com.back.global.rateLimiter.AiWorkload;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,24 +31,80 @@ public class NewsAnalysisBatchService {
 
     private final AiService aiService;
     private final ObjectMapper objectMapper;
-    private final RateLimiter rateLimiter;
+    private final AiAdmissionScheduler admissionScheduler;
+
+    @Autowired
+    @Qualifier("newsExecutor")
+    private Executor executor;
+
+    @Value("${news.filter.batch.max-follow-ups:1}") // 응답에서 누락된 기사만 다시 요청하는 횟수
+    private int maxFollowUps;
 
-    @Async("newsExecutor")
     public CompletableFuture<List<AnalyzedNewsDto>> processBatchAsync(List<RealNewsDto> batch) {
-        log.info("스레드: {}, 배치 시작", Thread.currentThread().getName());
+        return analyze(batch, analyzed -> {});
+    }
 
-        try {
-            rateLimiter.waitForRateLimit();
+    // 응답을 스트리밍으로 받아 기사 하나의 분석이 끝날 때마다 onItem 호출
+    public CompletableFuture<List<AnalyzedNewsDto>> processBatchAsync(List<RealNewsDto> batch, Consumer<AnalyzedNewsDto> onItem) {
+        return analyze(batch, onItem);
+    }
 
-            NewsAnalysisProcessor processor = new NewsAnalysisProcessor(batch, objectMapper);
-            List<AnalyzedNewsDto> result = aiService.process(processor);
+    // 호출 허가를 기다리는 동안 스레드를 점유하지 않고, 허가되면 newsExecutor에서 AI 호출
+    private CompletableFuture<List<AnalyzedNewsDto>> analyze(List<RealNewsDto> batch, Consumer<AnalyzedNewsDto> onItem) {
+        log.info("배치 대기 - {}개", batch.size());
+        return request(batch, batch, new ArrayList<>(), 0, onItem)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        // 실패를 빈 결과와 구분해야 체크포인트에서 재시도 대상으로 남길 수 있음
+                        log.error("배치 처리 실패", error);
+                    }
+                });
+    }
 
-            log.info("스레드: {}, 배치 완료 - {}개", Thread.currentThread().getName(), result.size());
-            return CompletableFuture.completedFuture(result);
+    private CompletableFuture<List<AnalyzedNewsDto>> request(List<RealNewsDto> batch,
+                                                             List<RealNewsDto> pending,
+                                                             List<AnalyzedNewsDto> result,
+                                                             int attempt,
+                                                             Consumer<AnalyzedNewsDto> onItem) {
+        NewsAnalysisProcessor processor = new NewsAnalysisProcessor(pending, objectMapper);
+        return admissionScheduler.acquire(AiPriority.ANALYSIS, AiWorkload.NEWS_ANALYSIS, aiService.estimateTokens(processor))
+                .thenApplyAsync(granted -> {
+                    log.info("스레드: {}, 배치 시작 - {}개", Thread.currentThread().getName(), pending.size());
+                    return aiService.processStream(processor, onItem);
+                }, executor)
+                .handle((analyzed, error) -> {
+                    if (error != null) {
+                        if (attempt == 0) {
+                            return CompletableFuture.<List<AnalyzedNewsDto>>failedFuture(error);
+                        }
+                        // 재요청이 실패해도 앞서 받은 결과는 유지하고, 남은 기사는 체크포인트에서 재시도 대상으로 남김
+                        log.warn("누락 기사 재요청 실패 - {}개 미분석: {}", pending.size(), error.getMessage());
+                        return completed(batch, result);
+                    }
+
+                    result.addAll(analyzed);
+                    List<RealNewsDto> remaining = missing(pending, analyzed);
+                    if (remaining.isEmpty() || attempt >= maxFollowUps) {
+                        return completed(batch, result);
+                    }
+                    log.warn("응답에서 누락된 기사 {}개만 다시 요청 ({}/{})", remaining.size(), attempt + 1, maxFollowUps);
+                    return request(batch, remaining, result, attempt + 1, onItem);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<List<AnalyzedNewsDto>> completed(List<RealNewsDto> batch, List<AnalyzedNewsDto> result) {
+        log.info("스레드: {}, 배치 완료 - {}/{}개", Thread.currentThread().getName(), result.size(), batch.size());
+        return CompletableFuture.completedFuture(result);
+    }
 
-        } catch (Exception e) {
-            log.error("배치 처리 실패", e);
-            return CompletableFuture.completedFuture(List.of());
-        }
+    // 분석 결과에 없는 기사 (링크로 매칭)
+    private List<RealNewsDto> missing(List<RealNewsDto> requested, List<AnalyzedNewsDto> analyzed) {
+        Set<String> analyzedLinks = analyzed.stream()
+                .map(news -> news.realNewsDto().link())
+                .collect(Collectors.toSet());
+        return requested.stream()
+                .filter(news -> !analyzedLinks.contains(news.link()))
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,10 @@
 package com.back.domain.news.real.service;
 
 import com.back.domain.news.common.dto.AnalyzedNewsDto;
+import com.back.domain.news.real.analysis.NewsBatchPacker;
 import com.back.domain.news.real.dto.RealNewsDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 
@@ -20,9 +20,7 @@ import java.util.concurrent.CompletionException;
 public class NewsAnalysisService {
 
     private final NewsAnalysisBatchService newsAnalysisBatchService;
-
-    @Value("${news.filter.batch.size:2}") // 배치 크기 설정, 3으로 하면 본문 길면 깨짐
-    private int batchSize;
+    private final NewsBatchPacker newsBatchPacker;
 
 
     public List<AnalyzedNewsDto> filterAndScoreNews(List<RealNewsDto> allRealNewsBeforeFilter) {
@@ -33,13 +31,9 @@ public class NewsAnalysisService {
 
         log.info("뉴스 필터링 시작 - 총 {}개", allRealNewsBeforeFilter.size());
 
-        List<List<RealNewsDto>> batches= new ArrayList<>();
-
-        // batch_size로 나누어서 처리
-        for (int i = 0; i < allRealNewsBeforeFilter.size(); i += batchSize) {
-            int endIndex = Math.min(i + batchSize, allRealNewsBeforeFilter.size());
-            batches.add(allRealNewsBeforeFilter.subList(i, endIndex));
-        }
+        // 토큰 예산에 맞춰 긴 기사부터 묶음 (고정 개수로 나누면 짧은 기사는 요청 낭비, 긴 기사는 응답이 잘림)
+        List<List<RealNewsDto>> batches = newsBatchPacker.pack(allRealNewsBeforeFilter);
+        log.info("뉴스 분석 배치 구성 - {}개 기사 → {}개 요청", allRealNewsBeforeFilter.size(), batches.size());
 
         List<AnalyzedNewsDto> allResults = Collections.synchronizedList(new ArrayList<>());
 
@@ -0,0 +1,33 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.real.dedup.NewsUrlCanonicalizer;
+import com.back.domain.news.real.repository.RealNewsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 정규화 링크(canonical_link)가 비어 있는 뉴스를 청크 단위로 채우는 일회성 마이그레이션입니다.
+ * - 청크마다 별도 트랜잭션으로 커밋하므로 중간에 실패해도 다음 실행 때 남은 뉴스부터 이어서 채웁니다.
+ * - 모두 채운 뒤에는 대상이 없어 조회 한 번으로 끝나며, 정규화 규칙이 바뀌면 canonical_link를 NULL로 비워 다시 채웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsCanonicalLinkBackfill {
+
+    private final RealNewsRepository realNewsRepository;
+
+    // 정규화 링크가 없는 뉴스 최대 size개를 채우고 채운 개수 반환
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int backfillChunk(int size) {
+        List<Object[]> rows = realNewsRepository.findLinksWithoutCanonicalLink(PageRequest.of(0, size));
+        for (Object[] row : rows) {
+            realNewsRepository.updateCanonicalLink((Long) row[0], NewsUrlCanonicalizer.canonicalize((String) row[1]));
+        }
+        return rows.size();
+    }
+}
@@ -0,0 +1,131 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.common.dto.NaverNewsDto;
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.analysis.NewsCategoryClassifier;
+import com.back.domain.news.real.repository.RealNewsRepository;
+import com.back.global.util.KeywordExtractor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 저장된 뉴스로 학습한 로컬 분류기로 카테고리를 정하고, 확신이 낮을 때만 AI 분류에 맡김 (NOT_FILTERED)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsCategoryClassifierService {
+
+    private final RealNewsRepository realNewsRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${news.classifier.enabled:true}") // 로컬 분류기 사용 여부 (끄면 모든 기사를 AI가 분류)
+    private boolean enabled;
+
+    @Value("${news.classifier.min-confidence:0.8}") // 이 확신도 이상이면 AI에 분류를 묻지 않음
+    private double minConfidence;
+
+    @Value("${news.classifier.training-days:90}") // 학습에 쓸 저장 뉴스 기간
+    private int trainingDays;
+
+    @Value("${news.classifier.max-training-documents:5000}") // 학습 문서 최대 수 (최신순)
+    private int maxTrainingDocuments;
+
+    @Value("${news.classifier.min-training-documents:200}") // 학습 문서가 이보다 적으면 분류기를 쓰지 않음
+    private int minTrainingDocuments;
+
+    @Value("${news.classifier.refresh-hours:24}") // 분류기 재학습 주기
+    private int refreshHours;
+
+    private volatile TrainedModel model;
+
+    private record TrainedModel(NewsCategoryClassifier classifier, LocalDateTime trainedAt) {
+    }
+
+    @PostConstruct
+    public void validateConfig() {
+        if (minConfidence <= 0 || minConfidence > 1) {
+            throw new IllegalArgumentException("news.classifier.min-confidence는 0보다 크고 1 이하여야 합니다.");
+        }
+        if (trainingDays < 1 || maxTrainingDocuments < 1 || minTrainingDocuments < 0 || refreshHours < 1) {
+            throw new IllegalArgumentException("news.classifier.* 값이 올바르지 않습니다.");
+        }
+    }
+
+    // 확신도가 기준 이상이면 예측 카테고리, 아니면 NOT_FILTERED (AI가 분류)
+    public NewsCategory classify(NaverNewsDto news) {
+        if (!enabled) {
+            return NewsCategory.NOT_FILTERED;
+        }
+
+        NewsCategoryClassifier classifier;
+        try {
+            classifier = classifier();
+        } catch (Exception e) {
+            log.warn("카테고리 분류기 학습 실패 - AI 분류 사용: {}", e.getMessage());
+            return NewsCategory.NOT_FILTERED;
+        }
+        if (classifier.trainingSize() < minTrainingDocuments) {
+            meterRegistry.counter("news.category.classified", "source", "ai").increment();
+            return NewsCategory.NOT_FILTERED;
+        }
+
+        NewsCategoryClassifier.Prediction prediction = classifier.predict(tokens(news.title(), news.description()), news.keywordCategory());
+        boolean confident = prediction.confidence() >= minConfidence;
+        meterRegistry.counter("news.category.classified", "source", confident ? "local" : "ai").increment();
+        log.debug("카테고리 분류 - {} ({}), 확신도 {}: {}", prediction.category(), confident ? "확정" : "AI 분류",
+                String.format("%.2f", prediction.confidence()), news.title());
+
+        return confident ? prediction.category() : NewsCategory.NOT_FILTERED;
+    }
+
+    private NewsCategoryClassifier classifier() {
+        TrainedModel current = model;
+        if (current != null && current.trainedAt().plusHours(refreshHours).isAfter(LocalDateTime.now())) {
+            return current.classifier();
+        }
+        synchronized (this) {
+            if (model == current) { // 다른 스레드가 이미 재학습했으면 그대로 사용
+                model = new TrainedModel(train(), LocalDateTime.now());
+            }
+            return model.classifier();
+        }
+    }
+
+    private NewsCategoryClassifier train() {
+        long startTime = System.nanoTime();
+        List<Object[]> rows = realNewsRepository.findCategorizedSince(
+                LocalDateTime.now().minusDays(trainingDays), NewsCategory.NOT_FILTERED, PageRequest.of(0, maxTrainingDocuments));
+
+        List<NewsCategoryClassifier.Sample> samples = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            samples.add(new NewsCategoryClassifier.Sample(tokens((String) row[0], (String) row[1]), (NewsCategory) row[2]));
+        }
+
+        NewsCategoryClassifier classifier = NewsCategoryClassifier.train(samples);
+        log.info("카테고리 분류기 학습 완료 - 최근 {}일 문서 {}개, 소요 {}ms", trainingDays, classifier.trainingSize(),
+                Duration.ofNanos(System.nanoTime() - startTime).toMillis());
+        return classifier;
+    }
+
+    private Set<String> tokens(String title, String description) {
+        Set<String> tokens = new HashSet<>();
+        if (title != null) {
+            tokens.addAll(KeywordExtractor.extract(title));
+        }
+        if (description != null) {
+            tokens.addAll(KeywordExtractor.extract(description));
+        }
+        return tokens;
+    }
+}
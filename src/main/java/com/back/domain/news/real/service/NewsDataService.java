@@ -4,37 +4,43 @@ import com.back.domain.news.common.dto.AnalyzedNewsDto;
 import com.back.domain.news.common.dto.NaverNewsDto;
 import com.back.domain.news.common.dto.NewsDetailDto;
 import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.cleaner.NewsContentCleaner;
+import com.back.domain.news.real.crawler.CrawlCache;
+import com.back.domain.news.real.crawler.CrawlCacheEntry;
+import com.back.domain.news.real.crawler.CrawlResponse;
+import com.back.domain.news.real.crawler.NewsCrawler;
+import com.back.domain.news.real.dedup.JaccardDeduplicator;
+import com.back.domain.news.real.dedup.NewsUrlCanonicalizer;
 import com.back.domain.news.real.dto.RealNewsDto;
 import com.back.domain.news.real.entity.RealNews;
 import com.back.domain.news.real.mapper.RealNewsMapper;
+import com.back.domain.news.real.naver.NaverNewsResponseDecoder;
 import com.back.domain.news.real.repository.RealNewsRepository;
 import com.back.domain.news.today.entity.TodayNews;
 import com.back.domain.news.today.event.TodayNewsCreatedEvent;
 import com.back.domain.news.today.repository.TodayNewsRepository;
 import com.back.global.exception.ServiceException;
-import com.back.global.rateLimiter.RateLimiter;
+import com.back.global.rateLimiter.QuotaDomain;
+import com.back.global.rateLimiter.UpstreamQuotaRegistry;
 import com.back.global.util.HtmlEntityDecoder;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.back.global.util.KeywordExtractor;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
-import org.openkoreantext.processor.KoreanTokenJava;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.*;
+import org.springframework.http.HttpMethod;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -47,8 +53,6 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static org.openkoreantext.processor.OpenKoreanTextProcessorJava.*;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -57,9 +61,14 @@ public class NewsDataService {
     private final RealNewsRepository realNewsRepository;
     private final TodayNewsRepository todayNewsRepository;
     private final RealNewsMapper realNewsMapper;
-    private final ObjectMapper objectMapper;
-    private final RateLimiter rateLimiter;
+    private final UpstreamQuotaRegistry upstreamQuotaRegistry;
     private final ApplicationEventPublisher publisher;
+    private final NewsCrawler newsCrawler;
+    private final CrawlCache crawlCache;
+    private final NewsDeduplicationService newsDeduplicationService;
+    private final NewsUrlSeenSet newsUrlSeenSet;
+    private final NaverNewsResponseDecoder naverNewsResponseDecoder;
+    private final NewsCategoryClassifierService newsCategoryClassifierService;
 
     // HTTP 요청을 보내기 위한 Spring의 HTTP 클라이언트(외부 API 호출 시 사용)
     private final RestTemplate restTemplate;
@@ -76,9 +85,6 @@ public class NewsDataService {
     @Value("${naver.news.sort:sim}")
     private String newsSortOrder;
 
-    @Value("${naver.crawling.delay}")
-    private int crawlingDelay;
-
     @Value("${naver.base-url}")
     private String naverUrl;
 
@@ -100,42 +106,29 @@ public class NewsDataService {
         if (newsDisplayCount < 1 || newsDisplayCount >= 100) {
             throw new IllegalArgumentException("NAVER_NEWS_DISPLAY_COUNT는 100이하의 값이어야 합니다.");
         }
-        if (crawlingDelay < 0) {
-            throw new IllegalArgumentException("NAVER_CRAWLING_DELAY는 0 이상이어야 합니다.");
-        }
         if (naverUrl == null || naverUrl.isEmpty()) {
             throw new IllegalArgumentException("NAVER_BASE_URL이 설정되지 않았습니다.");
         }
     }
 
-    @Transactional
+    // 호스트 예절 정책을 지키는 크롤러로 기사들을 동시에 크롤링 (트랜잭션 없이 수행)
     public List<RealNewsDto> createRealNewsDtoByCrawl(List<NaverNewsDto> MetaDataList) {
+        return newsCrawler.crawlAll(MetaDataList, this::crawlRealNews);
+    }
 
-        List<RealNewsDto> allRealNewsDtos = new ArrayList<>();
-
-        try {
-            for (NaverNewsDto metaData : MetaDataList) {
-
-                Optional<NewsDetailDto> newsDetailData = crawladditionalInfo(metaData.link());
-
-                if (newsDetailData.isEmpty()) {
-                    // 크롤링 실패 시 해당 뉴스는 건너뜀
-                    log.warn("크롤링 실패: {}", metaData.link());
-                    continue;
-                }
-
-                RealNewsDto realNewsDto = makeRealNewsFromInfo(metaData, newsDetailData.get());
-                log.info("새 뉴스 생성 - ID: {}, 제목: {}", realNewsDto.id(), realNewsDto.title());
-                allRealNewsDtos.add(realNewsDto);
+    // 단건 크롤링 후 RealNewsDto 생성. 크롤링 실패 시 빈 값
+    public Optional<RealNewsDto> crawlRealNews(NaverNewsDto metaData) {
+        Optional<NewsDetailDto> newsDetailData = crawladditionalInfo(metaData.link());
 
-                Thread.sleep(crawlingDelay);
-            }
-            return allRealNewsDtos;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // 인터럽트 상태 복원
-            log.error("크롤링 중 인터럽트 발생", e);
-            return Collections.emptyList();
+        if (newsDetailData.isEmpty()) {
+            // 크롤링 실패 시 해당 뉴스는 건너뜀
+            log.warn("크롤링 실패: {}", metaData.link());
+            return Optional.empty();
         }
+
+        RealNewsDto realNewsDto = makeRealNewsFromInfo(metaData, newsDetailData.get());
+        log.info("새 뉴스 생성 - ID: {}, 제목: {}", realNewsDto.id(), realNewsDto.title());
+        return Optional.of(realNewsDto);
     }
 
     @Transactional
@@ -146,17 +139,45 @@ public class NewsDataService {
         for (RealNews entity : realNewsList) {
             log.debug("엔티티 변환 후 - ID: {}, 제목: {}", entity.getId(), entity.getTitle());
         }
-        List<RealNews> savedEntities = realNewsRepository.saveAll(realNewsList); // 저장된 결과 받기
+
+        // 이미 저장된 기사(저장 후 완료 기록 전에 중단된 배치가 재개된 경우 등)는 다시 저장하지 않고 저장된 행을 사용
+        List<String> canonicalLinks = realNewsList.stream()
+                .map(RealNews::getCanonicalLink)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, RealNews> existing = new HashMap<>();
+        if (!canonicalLinks.isEmpty()) {
+            realNewsRepository.findByCanonicalLinkIn(canonicalLinks)
+                    .forEach(news -> existing.putIfAbsent(news.getCanonicalLink(), news));
+        }
+        List<RealNews> newEntities = realNewsList.stream()
+                .filter(entity -> entity.getCanonicalLink() == null || !existing.containsKey(entity.getCanonicalLink()))
+                .toList();
+        if (!existing.isEmpty()) {
+            log.info("이미 저장된 뉴스 {}개는 다시 저장하지 않습니다.", realNewsList.size() - newEntities.size());
+        }
+
+        List<RealNews> savedEntities = realNewsRepository.saveAll(newEntities); // 저장된 결과 받기
+        newsDeduplicationService.saveSignatures(savedEntities); // 다음 배치의 중복 제거용 시그니처 저장
+        newsUrlSeenSet.markSeen(savedEntities.stream().map(RealNews::getLink).toList());
 
         for (RealNews saved : savedEntities) {
             log.info("저장 완료 -  제목: {}", saved.getTitle());
         }
-        // Entity → DTO 변환해서 반환
-        return realNewsMapper.toDtoList(savedEntities);
+        // 요청 순서대로 (이미 저장된 기사는 저장된 행으로) Entity → DTO 변환해서 반환
+        List<RealNews> result = realNewsList.stream()
+                .map(entity -> entity.getCanonicalLink() == null ? entity : existing.getOrDefault(entity.getCanonicalLink(), entity))
+                .toList();
+        return realNewsMapper.toDtoList(result);
     }
 
     // 네이버 API를 통해 메타데이터 수집
     public List<NaverNewsDto> collectMetaDataFromNaver(List<String> keywords) {
+        return collectMetaDataFromNaver(keywords, Map.of());
+    }
+
+    // 키워드 카테고리가 있으면 각 뉴스에 출처 키워드의 카테고리를 붙여서 수집
+    public List<NaverNewsDto> collectMetaDataFromNaver(List<String> keywords, Map<String, NewsCategory> keywordCategories) {
         List<NaverNewsDto> allNews = new ArrayList<>();
         log.info("네이버 API 호출 시작: {} 개 키워드", keywords.size());
 
@@ -167,14 +188,14 @@ public class NewsDataService {
         try {
             CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
 
-            for (CompletableFuture<List<NaverNewsDto>> future : futures) {
-                List<NaverNewsDto> news = future.get();
+            for (int i = 0; i < futures.size(); i++) {
+                List<NaverNewsDto> news = futures.get(i).get();
+                NewsCategory keywordCategory = keywordCategories.get(keywords.get(i));
 
-                List<NaverNewsDto> naverOnly = news.stream()
-                        .filter(dto -> dto.link().contains("n.news.naver.com"))
-                        .toList();
-
-                allNews.addAll(naverOnly);
+                // n.news.naver.com 링크는 NaverNewsResponseDecoder에서 이미 걸러짐
+                news.stream()
+                        .map(dto -> dto.withKeywordCategory(keywordCategory))
+                        .forEach(allNews::add);
             }
 
         } catch (InterruptedException e) {
@@ -183,63 +204,23 @@ public class NewsDataService {
             log.error("뉴스 조회 중 오류 발생", e.getCause());
         }
 
-        return allNews;
+        // 이미 저장된 기사 제외 후 키워드 간 중복 및 최근 저장된 뉴스와의 중복 제거
+        List<NaverNewsDto> unseenNews = newsUrlSeenSet.filterUnseen(allNews);
+        return newsDeduplicationService.removeDuplicates(unseenNews);
     }
 
     public List<NaverNewsDto> removeDuplicateByBitSetByField(List<NaverNewsDto> metaDataList, Function<NaverNewsDto, String> fieldExtractor, double similarityThreshold) {
-        // 전체 키워드에 인덱스 부여 (존재하는 키워드에 대해 인덱스 부여)
-        Map<String, Integer> keywordIndexMap = new HashMap<>();
-        int idx = 0;
-        List<Set<String>> newsKeywordSets = new ArrayList<>();
-
-        for (NaverNewsDto news : metaDataList) {
-            Set<String> keywords = extractKeywords(fieldExtractor.apply(news));
-            newsKeywordSets.add(keywords);
-            for (String kw : keywords) {
-                if (!keywordIndexMap.containsKey(kw)) {
-                    keywordIndexMap.put(kw, idx++);
-                }
-            }
-        }
+        List<Set<String>> newsKeywordSets = metaDataList.stream()
+                .map(news -> extractKeywords(fieldExtractor.apply(news)))
+                .toList();
 
-        // 뉴스 키워드  BitSet 변환(키워드의 인덱스에 대해 BitSet 설정)
-        List<BitSet> newsBitSets = new ArrayList<>();
-        for (Set<String> keywords : newsKeywordSets) {
-            BitSet bs = new BitSet(keywordIndexMap.size());
-            for (String kw : keywords) {
-                bs.set(keywordIndexMap.get(kw));
-            }
-            newsBitSets.add(bs);
-        }
+        // 키워드 집합을 비트로 묶어 병렬 비교, 앞에 남은 뉴스와 유사한 뒤 뉴스 제거
+        boolean[] kept = JaccardDeduplicator.keepFirstUnique(newsKeywordSets, similarityThreshold);
 
-        // 3. BitSet 기반 유사도 비교 및 제거
         List<NaverNewsDto> filteredNews = new ArrayList<>();
-        boolean[] removed = new boolean[metaDataList.size()];
-
-        for (int i = 0; i < newsBitSets.size(); i++) {
-            if (removed[i]) continue;
-            filteredNews.add(metaDataList.get(i));
-
-            for (int j = i + 1; j < newsBitSets.size(); j++) {
-                if (removed[j]) continue;
-
-                // 교집합
-                BitSet intersection = (BitSet) newsBitSets.get(i).clone();
-                intersection.and(newsBitSets.get(j));
-                int interCount = intersection.cardinality();
-
-                // 합집합
-                BitSet union = (BitSet) newsBitSets.get(i).clone();
-                union.or(newsBitSets.get(j));
-                int unionCount = union.cardinality();
-
-                double result = (unionCount == 0) ? 0.0 : (double) interCount / unionCount;
-
-                if (result > similarityThreshold) {
-//                    log.info("\n\n{}\n{}\n유사도zzz: {}\n", fieldExtractor.apply(metaDataList.get(i)), fieldExtractor.apply(metaDataList.get(j)), result);
-                    removed[j] = true;
-                }
-
+        for (int i = 0; i < kept.length; i++) {
+            if (kept[i]) {
+                filteredNews.add(metaDataList.get(i));
             }
         }
 
@@ -249,99 +230,54 @@ public class NewsDataService {
 
 
     public Set<String> extractKeywords(String text) {
-        try {
-            Set<String> keywords = new HashSet<>();
-            // OpenKoreanTextProcessor로 중복 체크
-            String normalized = normalize(text).toString();
-            List<KoreanTokenJava> tokenList = tokensToJavaKoreanTokenList(
-                    tokenize(normalized)
-            );
-
-            for (KoreanTokenJava token : tokenList) {
-                String pos = token.getPos().toString();
-                //System.out.printf("토큰: %s, 품사: %s\n", token.getText(), pos);
-
-                // 조사, 어미, 구두점만 제외하고 나머지는 모두 포함
-                if (!pos.contains("Josa") && !pos.contains("Eomi") &&
-                        !pos.contains("Punctuation") && !pos.contains("Space")) {
-
-                    if(pos.equals("Adjective") || pos.equals("Verb")) {
-                        // Adjective, Verb 이고 기본형이 있는 경우
-                        String stem = token.getStem();
-                        if (stem != null) {
-                            //System.out.println("기본형: " + stem);
-                            keywords.add(stem);
-                            continue;
-                        }
-                    }
-
-                    keywords.add(token.getText());
-                }
-            }
-            return keywords;
-
-        } catch (Exception e) {
-            // 형태소 분석 실패 시 단순 공백 기준 분리 (조사 포함)
-            return Set.of(text.split("\\s+"));
-        }
+        return KeywordExtractor.extract(text);
     }
 
     @Async("newsExecutor")
     public CompletableFuture<List<NaverNewsDto>> fetchNews(String keyword) {
         try {
-            rateLimiter.waitForRateLimit();
+            // AI 호출 한도와 별개인 네이버 검색 API 한도 (초당/일일)
+            if (!upstreamQuotaRegistry.tryAcquire(QuotaDomain.NAVER_SEARCH)) {
+                throw new ServiceException(429, "네이버 검색 API 호출 한도 초과 - 키워드: " + keyword);
+            }
 
             String url = naverUrl + keyword + "&display=" + newsDisplayCount + "&sort=" + newsSortOrder;
 
-            // http 요청 헤더 설정 (아래는 네이버 디폴트 형식)
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-Naver-Client-Id", clientId);
-            headers.set("X-Naver-Client-Secret", clientSecret);
-
-            // http 요청 엔티티(헤더+바디) 생성
-            // get이라 본문은 없고 헤더만 포함 -> 아래에서 string = null로 설정
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            //http 요청 수행
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.GET, entity, String.class, keyword);
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                // JsonNode: json 구조를 트리 형태로 표현. json의 중첩 구조를 탐색할 때 사용
-                // readTree(): json 문자열을 JsonNode 트리로 변환
-                JsonNode items = objectMapper.readTree(response.getBody()).get("items");
-
-                if (items != null) {
-                    List<NaverNewsDto> rawNews = getNewsMetaDataFromNaverApi(items);
-
-                    // 네이버 뉴스만 필터링
-                    List<NaverNewsDto> naverOnly = rawNews.stream()
-                            .filter(dto -> dto.link().contains("n.news.naver.com"))
-                            .toList();
+            //http 요청 수행 - 응답 본문을 JsonNode 트리 없이 바로 디코딩 (네이버 뉴스만 포함)
+            List<NaverNewsDto> naverOnly = restTemplate.execute(
+                    url,
+                    HttpMethod.GET,
+                    request -> {
+                        // http 요청 헤더 설정 (아래는 네이버 디폴트 형식)
+                        request.getHeaders().set("X-Naver-Client-Id", clientId);
+                        request.getHeaders().set("X-Naver-Client-Secret", clientSecret);
+                    },
+                    response -> naverNewsResponseDecoder.decode(response.getBody()),
+                    keyword);
+
+            if (naverOnly == null || naverOnly.isEmpty()) {
+                return CompletableFuture.completedFuture(new ArrayList<>());
+            }
 
-                    // 키워드별로 중복 제거 수행
-                    List<NaverNewsDto> dedupTitle = removeDuplicateByBitSetByField(
-                            naverOnly, NaverNewsDto::title, titleSimilarityThreshold);
+            // 키워드별로 중복 제거 수행
+            List<NaverNewsDto> dedupTitle = removeDuplicateByBitSetByField(
+                    naverOnly, NaverNewsDto::title, titleSimilarityThreshold);
 
-                    List<NaverNewsDto> dedupDescription = removeDuplicateByBitSetByField(
-                            dedupTitle, NaverNewsDto::description, descriptionSimilarityThreshold);
+            List<NaverNewsDto> dedupDescription = removeDuplicateByBitSetByField(
+                    dedupTitle, NaverNewsDto::description, descriptionSimilarityThreshold);
 
-                    // 12개로 제한
-                    List<NaverNewsDto> limited = dedupDescription.stream()
-                            .limit(12)
-                            .toList();
+            // 12개로 제한
+            List<NaverNewsDto> limited = dedupDescription.stream()
+                    .limit(12)
+                    .toList();
 
-                    log.info("키워드 '{}': 원본 {}개 → 중복제거 후 {}개 → 제한 후 {}개",
-                            keyword, naverOnly.size(), dedupDescription.size(), limited.size());
+            log.info("키워드 '{}': 원본 {}개 → 중복제거 후 {}개 → 제한 후 {}개",
+                    keyword, naverOnly.size(), dedupDescription.size(), limited.size());
 
-                    return CompletableFuture.completedFuture(limited);
-                }
-                return CompletableFuture.completedFuture(new ArrayList<>());
-            }
-            throw new ServiceException(500, "네이버 API 호출 실패: " + response.getStatusCode());
+            return CompletableFuture.completedFuture(limited);
 
-        } catch (JsonProcessingException e) {
-            throw new ServiceException(500, "네이버 API 응답 파싱 실패");
+        } catch (RestClientResponseException e) {
+            throw new ServiceException(500, "네이버 API 호출 실패: " + e.getStatusCode());
         } catch (Exception e) {
             throw new RuntimeException("네이버 뉴스 조회 중 오류 발생", e);
         }
@@ -350,40 +286,68 @@ public class NewsDataService {
 
 
 
-    // 단건 크롤링
+    // 단건 크롤링 (요청 간격 조절과 재시도는 NewsCrawler, 캐시/재검증은 CrawlCache가 담당)
     public Optional<NewsDetailDto> crawladditionalInfo(String naverNewsUrl) {
-        try {
-            Document doc = Jsoup.connect(naverNewsUrl)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64)")  // 브라우저인 척
-                    .get();  // GET 요청으로 HTML 가져오기 (robots.txt에 걸리지 않도록)
+        Optional<CrawlCacheEntry> cached = crawlCache.get(naverNewsUrl);
 
+        // 캐시가 신선하면 네트워크 없이 사용
+        if (cached.isPresent() && crawlCache.isFresh(cached.get())) {
+            return cachedDetail(cached.get());
+        }
 
-            String content = Optional.ofNullable(doc.selectFirst("article#dic_area"))
-                    .map(this::extractTextWithLineBreaks)
-                    .orElse("");
+        CrawlResponse response = newsCrawler.fetch(
+                naverNewsUrl,
+                cached.map(CrawlCacheEntry::etag).orElse(null),
+                cached.map(CrawlCacheEntry::lastModified).orElse(null)
+        );
 
-            String imgUrl = Optional.ofNullable(doc.selectFirst("#img1"))
-                    .map(element -> element.attr("data-src"))
-                    .orElse("");
+        // 304: 기사 변경 없음
+        if (response.isNotModified() && cached.isPresent()) {
+            crawlCache.touch(cached.get());
+            return cachedDetail(cached.get());
+        }
 
-            String journalist = Optional.ofNullable(doc.selectFirst("em.media_end_head_journalist_name"))
-                    .map(Element::text)
-                    .orElse("");
-            String mediaName = Optional.ofNullable(doc.selectFirst("img.media_end_head_top_logo_img"))
-                    .map(elem -> elem.attr("alt"))
-                    .orElse("");
+        if (!response.isOk()) {
+            return Optional.empty();
+        }
 
-            // 크롤링한 정보가 비어있으면 null 반환
-            if (content.isEmpty() || imgUrl.isEmpty() || journalist.isEmpty() || mediaName.isEmpty()) {
-                return Optional.empty();
-            }
+        Optional<NewsDetailDto> detail = parseNewsDetail(response.document());
+        crawlCache.put(naverNewsUrl, response.body(), response.etag(), response.lastModified(), detail.orElse(null));
+        return detail;
+    }
 
-            return Optional.of(NewsDetailDto.of(content, imgUrl, journalist, mediaName));
+    // 캐시에 추출 결과가 없으면(파서 변경 등) 보관된 HTML로 다시 추출
+    private Optional<NewsDetailDto> cachedDetail(CrawlCacheEntry entry) {
+        if (entry.detail() != null) {
+            return Optional.of(entry.detail());
+        }
+        return crawlCache.readHtml(entry)
+                .map(html -> Jsoup.parse(html, entry.url()))
+                .flatMap(this::parseNewsDetail);
+    }
 
-        } catch (IOException e) {
-            log.warn("크롤링 실패: {}", naverNewsUrl);
-            return Optional.empty();  // 예외 던지지 않고 빈 값 반환
+    private Optional<NewsDetailDto> parseNewsDetail(Document doc) {
+        String content = Optional.ofNullable(doc.selectFirst("article#dic_area"))
+                .map(this::extractTextWithLineBreaks)
+                .orElse("");
+
+        String imgUrl = Optional.ofNullable(doc.selectFirst("#img1"))
+                .map(element -> element.attr("data-src"))
+                .orElse("");
+
+        String journalist = Optional.ofNullable(doc.selectFirst("em.media_end_head_journalist_name"))
+                .map(Element::text)
+                .orElse("");
+        String mediaName = Optional.ofNullable(doc.selectFirst("img.media_end_head_top_logo_img"))
+                .map(elem -> elem.attr("alt"))
+                .orElse("");
+
+        // 크롤링한 정보가 비어있으면 null 반환
+        if (content.isEmpty() || imgUrl.isEmpty() || journalist.isEmpty() || mediaName.isEmpty()) {
+            return Optional.empty();
         }
+
+        return Optional.of(NewsDetailDto.of(content, imgUrl, journalist, mediaName));
     }
 
     private String extractTextWithLineBreaks(Element element) {
@@ -398,46 +362,20 @@ public class NewsDataService {
         return RealNewsDto.of(
                 null, // ID는 null로 시작, 저장 시 자동 생성
                 naverNewsDto.title(),
-                newsDetailDto.content(),
+                NewsContentCleaner.clean(newsDetailDto.content()), // 바이라인, 캡션 등 본문 외 내용 제거
                 naverNewsDto.description(),
-                naverNewsDto.link(),
+                NewsUrlCanonicalizer.canonicalize(naverNewsDto.link()), // 정규화된 링크로 저장
                 newsDetailDto.imgUrl(),
                 parseNaverDate(naverNewsDto.pubDate()),
                 LocalDateTime.now(), // 생성일은 현재 시간으로 설정
                 newsDetailDto.mediaName(),
                 newsDetailDto.journalist(),
                 naverNewsDto.originallink(),
-                NewsCategory.NOT_FILTERED
+                newsCategoryClassifierService.classify(naverNewsDto) // 확신이 낮으면 NOT_FILTERED로 두고 AI가 분류
 
         );
     }
 
-    // fetchNews 메서드로 네이버 API에서 뉴스 목록을 가져오고
-    // 링크 정보를 바탕으로 상세 정보를 crawlAddtionalInfo 메서드로 크롤링하여 RealNews 객체를 생성
-    private List<NaverNewsDto> getNewsMetaDataFromNaverApi(JsonNode items) {
-        List<NaverNewsDto> newsMetaDataList = new ArrayList<>();
-
-        for (JsonNode item : items) {
-            String rawTitle = item.get("title").asText("");
-            String originallink = item.get("originallink").asText("");
-            String link = item.get("link").asText("");
-            String rawDdscription = item.get("description").asText("");
-            String pubDate = item.get("pubDate").asText("");
-
-            String cleanedTitle = HtmlEntityDecoder.decode(rawTitle); // HTML 태그 제거
-            String cleanDescription = HtmlEntityDecoder.decode(rawDdscription); // HTML 태그 제거
-
-            //한 필드라도 비어있으면 건너뜀
-            if (cleanedTitle.isEmpty() || originallink.isEmpty() || link.isEmpty() || cleanDescription.isEmpty() || pubDate.isEmpty())
-                continue;
-            //팩토리 메서드 사용
-            NaverNewsDto newsDto = NaverNewsDto.of(cleanedTitle, originallink, link, cleanDescription, pubDate);
-            newsMetaDataList.add(newsDto);
-        }
-
-        return newsMetaDataList;
-    }
-
     // 네이버 API에서 받아온 날짜 문자열을 LocalDateTime으로 변환
     private LocalDateTime parseNaverDate(String naverDate) {
         try {
@@ -477,8 +415,9 @@ public class NewsDataService {
         return todayNewsRepository.existsById(id);
     }
 
+    // 새로 지정한 오늘의 뉴스 ID를 반환
     @Transactional
-    public void setTodayNews(Long id) {
+    public Long setTodayNews(Long id) {
         RealNews realNews = realNewsRepository.findById(id).
                 orElseThrow(() -> new IllegalArgumentException("해당 ID의 뉴스가 존재하지 않습니다. ID: " + id));
 
@@ -494,6 +433,7 @@ public class NewsDataService {
         todayNewsRepository.save(todayNews);
 
         publisher.publishEvent(new TodayNewsCreatedEvent(todayNews.getId()));
+        return todayNews.getId();
     }
 
     public int count() {
@@ -0,0 +1,131 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.common.dto.NaverNewsDto;
+import com.back.domain.news.real.dedup.MinHasher;
+import com.back.domain.news.real.dedup.NewsDedupIndex;
+import com.back.domain.news.real.entity.NewsSignature;
+import com.back.domain.news.real.entity.RealNews;
+import com.back.domain.news.real.repository.NewsSignatureRepository;
+import com.back.global.util.KeywordExtractor;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MinHash + LSH 인덱스로 키워드 간, 그리고 최근 저장된 뉴스와의 중복을 제거하는 서비스입니다.
+ * 배치마다 최근 window-days 일의 시그니처를 DB에서 읽어 인덱스를 구성합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsDeduplicationService {
+
+    private final NewsSignatureRepository newsSignatureRepository;
+
+    @Value("${news.dedup.title.threshold}") // 제목 임계값
+    private double titleSimilarityThreshold;
+
+    @Value("${news.dedup.description.threshold}") // 요약본 임계값
+    private double descriptionSimilarityThreshold;
+
+    // 유사도 s인 쌍이 후보가 될 확률 = 1 - (1 - s^rows)^bands
+    // 200 x 2면 임계값 근처(s = 0.15~0.2)는 99% 이상 후보가 되고, 공통 키워드 하나 정도인 무관한 뉴스(s = 0.02)는 약 8%만 후보가 됨
+    // (128 x 1은 s = 0.02에서도 92%가 후보가 되어 사실상 전체 비교)
+    @Value("${news.dedup.minhash.bands:200}") // LSH 밴드 수
+    private int bands;
+
+    @Value("${news.dedup.minhash.rows:2}") // 밴드당 행 수 (낮을수록 낮은 유사도도 후보로 잡힘)
+    private int rows;
+
+    @Value("${news.dedup.window-days:7}") // 비교 대상으로 삼을 과거 뉴스 기간
+    private int windowDays;
+
+    @PostConstruct
+    public void validateConfig() {
+        if (bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("news.dedup.minhash.bands, rows는 1 이상이어야 합니다.");
+        }
+        if (bands * rows * Integer.BYTES > NewsSignature.MAX_SIGNATURE_BYTES) {
+            throw new IllegalArgumentException("news.dedup.minhash.bands * rows는 " + NewsSignature.MAX_SIGNATURE_BYTES / Integer.BYTES + " 이하여야 합니다.");
+        }
+    }
+
+    // 배치 전체(모든 키워드)와 최근 저장된 뉴스에 대해 중복 제거. 먼저 나온 뉴스를 유지
+    @Transactional(readOnly = true)
+    public List<NaverNewsDto> removeDuplicates(List<NaverNewsDto> metaDataList) {
+        NewsDedupIndex index = loadRecentIndex();
+        int storedCount = index.size();
+
+        List<NaverNewsDto> uniqueNews = new ArrayList<>();
+        for (NaverNewsDto news : metaDataList) {
+            if (addIfUnique(index, news)) {
+                uniqueNews.add(news);
+            }
+        }
+
+        log.info("LSH 중복 제거 - 비교 대상 과거 뉴스 {}개, 배치 {}개 → {}개",
+                storedCount, metaDataList.size(), uniqueNews.size());
+        return uniqueNews;
+    }
+
+    // 뉴스가 도착하는 대로 하나씩 중복 검사할 때 사용할 인덱스 (최근 저장된 뉴스 포함)
+    @Transactional(readOnly = true)
+    public NewsDedupIndex loadBatchIndex() {
+        return loadRecentIndex();
+    }
+
+    // 인덱스에 있는 뉴스와 중복이 아니면 인덱스에 추가하고 true 반환
+    public boolean addIfUnique(NewsDedupIndex index, NaverNewsDto news) {
+        return addOrCount(index, news) >= 0;
+    }
+
+    // 중복이 아니면 인덱스에 추가하고 항목 번호, 중복이면 -1 반환 (중복된 기존 항목의 보도 규모로 집계)
+    public int addOrCount(NewsDedupIndex index, NaverNewsDto news) {
+        return index.addOrCount(
+                KeywordExtractor.extract(news.title()),
+                KeywordExtractor.extract(news.description())
+        );
+    }
+
+    // 저장된 뉴스의 시그니처를 기록하고 window 밖의 시그니처는 정리
+    @Transactional
+    public void saveSignatures(List<RealNews> savedNews) {
+        NewsDedupIndex index = newIndex();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<NewsSignature> signatures = savedNews.stream()
+                .map(news -> NewsSignature.builder()
+                        .realNewsId(news.getId())
+                        .titleSignature(MinHasher.toBytes(index.signature(KeywordExtractor.extract(news.getTitle()))))
+                        .descriptionSignature(MinHasher.toBytes(index.signature(KeywordExtractor.extract(news.getDescription()))))
+                        .createdDate(now)
+                        .build())
+                .toList();
+
+        newsSignatureRepository.saveAll(signatures);
+        int deleted = newsSignatureRepository.deleteByCreatedDateBefore(now.minusDays(windowDays));
+        log.debug("뉴스 시그니처 저장 {}개, 만료 삭제 {}개", signatures.size(), deleted);
+    }
+
+    private NewsDedupIndex loadRecentIndex() {
+        NewsDedupIndex index = newIndex();
+        for (NewsSignature stored : newsSignatureRepository.findByCreatedDateAfter(LocalDateTime.now().minusDays(windowDays))) {
+            index.addStored(
+                    MinHasher.fromBytes(stored.getTitleSignature()),
+                    MinHasher.fromBytes(stored.getDescriptionSignature())
+            );
+        }
+        return index;
+    }
+
+    private NewsDedupIndex newIndex() {
+        return new NewsDedupIndex(bands, rows, titleSimilarityThreshold, descriptionSimilarityThreshold);
+    }
+}
@@ -0,0 +1,431 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.batch.dto.CheckpointedNews;
+import com.back.domain.news.batch.enums.NewsBatchItemStatus;
+import com.back.domain.news.batch.service.NewsBatchCheckpointService;
+import com.back.domain.news.common.dto.AnalyzedNewsDto;
+import com.back.domain.news.common.dto.NaverNewsDto;
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.analysis.NewsBatchPacker;
+import com.back.domain.news.real.analysis.NewsPreRanker;
+import com.back.domain.news.real.dedup.NewsDedupIndex;
+import com.back.domain.news.real.dto.RealNewsDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메타데이터 수집 → 크롤링 → AI 분석을 단계별 대기 없이 이어 붙인 파이프라인입니다.
+ * - 키워드 검색 결과가 도착하는 대로 중복 제거 후 크롤링 큐에 넣고,
+ *   크롤링된 기사가 토큰 예산만큼 모이면 바로 AI 분석을 시작합니다.
+ * - 단계 사이는 크기가 제한된 큐로 연결되어, 뒤 단계가 밀리면 앞 단계가 대기합니다(backpressure).
+ * - 키워드 결과는 키워드 순서대로 중복 제거하므로 남는 뉴스는 단계별 처리와 같습니다.
+ * - 작업 단위마다 체크포인트를 남기고, 재실행 시 완료된 키워드/기사는 건너뛰고 이어서 처리합니다.
+ * - 사전 순위(news.pre-rank, 기본값 켜짐)는 크롤링이 끝날 때까지 기사를 모아 카테고리별 상위 기사만 AI에 보냅니다.
+ *   고정 키워드 기사와 로컬 분류 결과가 마지막 키워드까지 어느 카테고리에든 더해지고 보도 규모도 계속 늘어나므로,
+ *   카테고리별 순위는 크롤링이 모두 끝나야 확정됩니다. 그래서 크롤링과 분석이 겹치지 않지만,
+ *   배치의 병목이자 한도가 있는 AI 호출 수를 줄이는 쪽을 택했습니다. 끄면 도착 순서대로 모든 기사를 분석합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsPipelineService {
+
+    private final NewsDataService newsDataService;
+    private final NewsDeduplicationService newsDeduplicationService;
+    private final NewsUrlSeenSet newsUrlSeenSet;
+    private final NewsAnalysisBatchService newsAnalysisBatchService;
+    private final NewsBatchCheckpointService checkpointService;
+    private final NewsBatchPacker newsBatchPacker;
+    private final NewsPreRankService newsPreRankService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${news.pipeline.queue-capacity:32}") // 단계 사이 큐 크기
+    private int queueCapacity;
+
+    @Value("${news.pipeline.crawl-workers:4}") // 크롤링 큐를 소비하는 작업자 수 (호스트별 제한은 NewsCrawler가 적용)
+    private int crawlWorkers;
+
+    @PostConstruct
+    public void validateConfig() {
+        if (queueCapacity < 1 || crawlWorkers < 1) {
+            throw new IllegalArgumentException("news.pipeline.* 값은 1 이상이어야 합니다.");
+        }
+    }
+
+    // 키워드로 뉴스를 수집해 크롤링과 AI 분석까지 마친 결과 반환 (빈 Optional = 스트림 종료 신호)
+    public List<AnalyzedNewsDto> collectAndAnalyze(Long runId, List<String> keywords) {
+        long startTime = System.nanoTime();
+
+        BlockingQueue<Optional<CheckpointedNews>> crawlQueue = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Optional<CheckpointedNews>> analysisQueue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger collected = new AtomicInteger();
+        AtomicInteger crawled = new AtomicInteger();
+
+        // 이전 실행에서 분석까지 끝난 결과(재개 시) + 이번 실행의 분석 결과
+        List<AnalyzedNewsDto> results = new ArrayList<>();
+
+        NewsDedupIndex index = newsDeduplicationService.loadBatchIndex();
+        RankContext rankContext = new RankContext(keywords, checkpointService.findKeywordCategories(runId),
+                index, new ConcurrentHashMap<>());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> producer = executor.submit(() -> {
+                collectMetaData(runId, keywords, rankContext, crawlQueue, analysisQueue, collected);
+                return null;
+            });
+
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < crawlWorkers; i++) {
+                workers.add(executor.submit(() -> {
+                    crawl(crawlQueue, analysisQueue, crawled);
+                    return null;
+                }));
+            }
+
+            // 분석 큐는 크롤링 작업자들과 수집 단계(재개된 기사)가 함께 채움
+            results.addAll(analyze(analysisQueue, crawlWorkers + 1, rankContext));
+
+            awaitStage("메타데이터 수집", producer);
+            workers.forEach(worker -> awaitStage("크롤링", worker));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // 인터럽트 상태 복원
+            log.error("뉴스 파이프라인이 인터럽트됨", e);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        meterRegistry.timer("news.pipeline.batch").record(elapsedMs, TimeUnit.MILLISECONDS);
+        log.info("뉴스 파이프라인 완료 - 수집 {}개 → 크롤링 {}개 → 분석 {}개, 소요 {}ms",
+                collected.get(), crawled.get(), results.size(), elapsedMs);
+        return new ArrayList<>(results);
+    }
+
+    // 1단계: 체크포인트의 기사를 먼저 재투입한 뒤, 남은 키워드를 순서대로 검색해 seen-set/중복 제거 후 크롤링 큐에 넣음
+    private void collectMetaData(Long runId,
+                                 List<String> keywords,
+                                 RankContext rankContext,
+                                 BlockingQueue<Optional<CheckpointedNews>> crawlQueue,
+                                 BlockingQueue<Optional<CheckpointedNews>> analysisQueue,
+                                 AtomicInteger collected) throws InterruptedException {
+        try {
+            NewsDedupIndex index = rankContext.index();
+
+            List<CheckpointedNews> stored = checkpointService.findItems(runId);
+            for (CheckpointedNews news : stored) {
+                // 이후 키워드의 중복 판단을 위해 인덱스 복원 (이전 실행에서 걸러진 중복 수는 복원되지 않음)
+                rankContext.register(news.itemId(), newsDeduplicationService.addOrCount(index, news.metaData()));
+                collected.incrementAndGet();
+
+                switch (news.status()) {
+                    case ANALYZED, CRAWLED, ANALYSIS_FAILED, RANKED_OUT -> analysisQueue.put(Optional.of(news));
+                    default -> crawlQueue.put(Optional.of(news));
+                }
+            }
+
+            int resumeFrom = checkpointService.getCollectedKeywordCount(runId);
+            if (resumeFrom > 0) {
+                log.info("체크포인트에서 재개 - 키워드 {}/{}개, 기사 {}개 복원", resumeFrom, keywords.size(), stored.size());
+            }
+
+            List<String> remaining = keywords.subList(Math.min(resumeFrom, keywords.size()), keywords.size());
+            log.info("네이버 API 호출 시작: {} 개 키워드", remaining.size());
+            List<CompletableFuture<List<NaverNewsDto>>> futures = remaining.stream()
+                    .map(newsDataService::fetchNews) // 비동기 처리
+                    .toList();
+
+            int seq = stored.size();
+            for (int i = 0; i < futures.size(); i++) {
+                int keywordIndex = resumeFrom + i;
+                List<NaverNewsDto> news;
+                try {
+                    news = futures.get(i).join();
+                } catch (CompletionException e) {
+                    log.error("키워드 '{}' 뉴스 조회 실패 - 건너뜀", keywords.get(keywordIndex), e.getCause());
+                    continue;
+                }
+
+                // 출처 키워드의 카테고리를 메타데이터에 남겨 로컬 분류와 사전 순위에 사용
+                NewsCategory keywordCategory = rankContext.keywordCategories().get(keywords.get(keywordIndex));
+                List<NaverNewsDto> unique = new ArrayList<>();
+                List<Integer> entryIds = new ArrayList<>();
+                for (NaverNewsDto item : newsUrlSeenSet.filterUnseen(news)) {
+                    int entryId = newsDeduplicationService.addOrCount(index, item);
+                    if (entryId >= 0) {
+                        unique.add(item.withKeywordCategory(keywordCategory));
+                        entryIds.add(entryId);
+                    }
+                }
+
+                List<CheckpointedNews> saved = checkpointService.saveCollected(runId, keywordIndex, seq, unique);
+                for (int j = 0; j < saved.size(); j++) {
+                    rankContext.register(saved.get(j).itemId(), entryIds.get(j));
+                    crawlQueue.put(Optional.of(saved.get(j)));
+                    collected.incrementAndGet();
+                }
+                seq += unique.size();
+            }
+        } finally {
+            // 작업자마다, 그리고 분석 단계에 종료 신호 전달
+            for (int i = 0; i < crawlWorkers; i++) {
+                crawlQueue.put(Optional.empty());
+            }
+            analysisQueue.put(Optional.empty());
+        }
+    }
+
+    // 2단계: 크롤링 큐에서 꺼내 기사 본문을 가져오고 분석 큐로 넘김
+    private void crawl(BlockingQueue<Optional<CheckpointedNews>> crawlQueue,
+                       BlockingQueue<Optional<CheckpointedNews>> analysisQueue,
+                       AtomicInteger crawled) throws InterruptedException {
+        try {
+            while (true) {
+                Optional<CheckpointedNews> next = crawlQueue.take();
+                if (next.isEmpty()) {
+                    break;
+                }
+                CheckpointedNews news = next.get();
+
+                Optional<RealNewsDto> realNews;
+                try {
+                    realNews = newsDataService.crawlRealNews(news.metaData());
+                } catch (Exception e) {
+                    log.warn("크롤링 작업 실패: {}", e.getMessage());
+                    realNews = Optional.empty();
+                }
+
+                if (realNews.isEmpty()) {
+                    checkpointService.markCrawlFailed(news.itemId());
+                    continue;
+                }
+
+                checkpointService.markCrawled(news.itemId(), realNews.get());
+                analysisQueue.put(Optional.of(news.withRealNews(realNews.get())));
+                crawled.incrementAndGet();
+            }
+        } finally {
+            analysisQueue.put(Optional.empty());
+        }
+    }
+
+    // 3단계: 크롤링된 기사가 토큰 예산만큼 모이면 바로 AI 분석 시작 (도착 순서대로 채움)
+    //        사전 순위를 쓰면 모든 기사가 도착한 뒤 카테고리별 상위 기사만 묶어서 분석
+    private List<AnalyzedNewsDto> analyze(BlockingQueue<Optional<CheckpointedNews>> analysisQueue,
+                                          int producers,
+                                          RankContext rankContext) throws InterruptedException {
+        boolean preRank = newsPreRankService.isEnabled() && rankContext.hasKeywordCategories();
+        List<AnalyzedNewsDto> results = new ArrayList<>();
+        List<CompletableFuture<List<AnalyzedNewsDto>>> analyses = new ArrayList<>();
+        List<CheckpointedNews> waiting = new ArrayList<>(); // 사전 순위 계산을 위해 모아둔 기사
+        List<CheckpointedNews> batch = new ArrayList<>();
+        int finishedProducers = 0;
+
+        while (finishedProducers < producers) {
+            Optional<CheckpointedNews> next = analysisQueue.take();
+            if (next.isEmpty()) {
+                finishedProducers++;
+                continue;
+            }
+
+            CheckpointedNews news = next.get();
+            if (news.status() == NewsBatchItemStatus.ANALYZED) {
+                // 이전 실행에서 분석까지 끝난 기사: 결과만 사용하고, 사전 순위에서는 자리를 차지
+                if (news.analysis() != null) {
+                    results.add(news.analysis());
+                    if (preRank) {
+                        waiting.add(news);
+                    }
+                }
+                continue;
+            }
+
+            if (preRank) {
+                waiting.add(news);
+                continue;
+            }
+
+            if (!newsBatchPacker.fits(realNewsOf(batch), news.realNews())) {
+                analyses.add(submitBatch(batch));
+                batch = new ArrayList<>();
+            }
+            batch.add(news);
+            if (newsBatchPacker.isFull(realNewsOf(batch))) {
+                analyses.add(submitBatch(batch));
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            analyses.add(submitBatch(batch));
+        }
+
+        if (preRank) {
+            List<CheckpointedNews> selected = preRank(waiting, rankContext);
+            Map<RealNewsDto, CheckpointedNews> byRealNews = new IdentityHashMap<>();
+            selected.forEach(news -> byRealNews.put(news.realNews(), news));
+
+            for (List<RealNewsDto> packed : newsBatchPacker.pack(realNewsOf(selected))) {
+                analyses.add(submitBatch(packed.stream().map(byRealNews::get).toList()));
+            }
+        }
+
+        for (CompletableFuture<List<AnalyzedNewsDto>> analysis : analyses) {
+            results.addAll(analysis.join());
+        }
+        return results;
+    }
+
+    // 카테고리별 상위 기사 중 아직 분석하지 않은 기사 반환. 밀려난 기사는 체크포인트에 기록
+    private List<CheckpointedNews> preRank(List<CheckpointedNews> waiting, RankContext rankContext) {
+        List<CheckpointedNews> pending = waiting.stream()
+                .filter(news -> news.status() != NewsBatchItemStatus.ANALYZED)
+                .toList();
+
+        List<CheckpointedNews> selected;
+        try {
+            NewsPreRanker ranker = newsPreRankService.newRanker();
+            selected = ranker.select(waiting.stream().map(rankContext::candidate).toList()).stream()
+                    .map(NewsPreRanker.Candidate::source)
+                    .filter(news -> news.status() != NewsBatchItemStatus.ANALYZED)
+                    .toList();
+        } catch (Exception e) {
+            log.warn("사전 순위 계산 실패 - 모든 기사를 분석: {}", e.getMessage());
+            return pending;
+        }
+
+        Set<CheckpointedNews> selectedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        selectedSet.addAll(selected);
+        List<CheckpointedNews> rankedOut = pending.stream()
+                .filter(news -> !selectedSet.contains(news))
+                .toList();
+        try {
+            checkpointService.markRankedOut(rankedOut);
+        } catch (Exception e) {
+            log.warn("사전 순위 제외 체크포인트 기록 실패: {}", e.getMessage());
+        }
+
+        meterRegistry.counter("news.pre_rank.skipped").increment(rankedOut.size());
+        log.info("사전 순위 - 분석 대기 {}개 중 {}개만 AI 분석 ({}개 제외)", pending.size(), selected.size(), rankedOut.size());
+        return selected;
+    }
+
+    // 제출이 실패해도 분석 단계가 멈추면 앞 단계가 큐에서 막히므로 예외를 빈 결과로 바꿈
+    private CompletableFuture<List<AnalyzedNewsDto>> submitBatch(List<CheckpointedNews> batch) {
+        List<RealNewsDto> realNews = realNewsOf(batch);
+        Map<String, Long> itemIdByLink = new HashMap<>();
+        batch.forEach(news -> itemIdByLink.put(news.realNews().link(), news.itemId()));
+
+        try {
+            // 기사별 분석 결과는 스트리밍으로 도착하는 즉시 체크포인트에 저장
+            return newsAnalysisBatchService.processBatchAsync(realNews, analyzed -> markItemAnalyzed(itemIdByLink, analyzed))
+                    .thenApply(result -> {
+                        checkpointService.markAnalyzed(batch, result);
+                        return result;
+                    })
+                    .exceptionally(throwable -> {
+                        log.error("배치 처리 실패 - 다음 실행에서 재시도", throwable);
+                        markAnalysisFailed(batch);
+                        return List.of();
+                    });
+        } catch (Exception e) {
+            log.error("배치 제출 실패", e);
+            markAnalysisFailed(batch);
+            return CompletableFuture.completedFuture(List.of());
+        }
+    }
+
+    private void markItemAnalyzed(Map<String, Long> itemIdByLink, AnalyzedNewsDto analyzed) {
+        Long itemId = itemIdByLink.get(analyzed.realNewsDto().link());
+        if (itemId == null) {
+            return;
+        }
+        try {
+            checkpointService.markItemAnalyzed(itemId, analyzed);
+        } catch (Exception e) {
+            log.warn("분석 결과 체크포인트 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<RealNewsDto> realNewsOf(List<CheckpointedNews> batch) {
+        return batch.stream().map(CheckpointedNews::realNews).toList();
+    }
+
+    private void markAnalysisFailed(List<CheckpointedNews> batch) {
+        try {
+            checkpointService.markAnalysisFailed(batch);
+        } catch (Exception e) {
+            log.warn("분석 실패 체크포인트 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    // 사전 순위 계산에 필요한 기사별 출처 키워드와 보도 규모
+    private record RankContext(
+            List<String> keywords,
+            Map<String, NewsCategory> keywordCategories,
+            NewsDedupIndex index,
+            Map<Long, Integer> dedupEntryByItem
+    ) {
+        boolean hasKeywordCategories() {
+            return !keywordCategories.isEmpty();
+        }
+
+        void register(Long itemId, int dedupEntryId) {
+            if (dedupEntryId >= 0) {
+                dedupEntryByItem.put(itemId, dedupEntryId);
+            }
+        }
+
+        // 키워드 카테고리가 없는 키워드는 고정 키워드(속보/긴급/단독 등)
+        // 로컬 분류기가 확정한 카테고리가 있으면 키워드 카테고리보다 우선
+        NewsPreRanker.Candidate<CheckpointedNews> candidate(CheckpointedNews news) {
+            Integer keywordIndex = news.keywordIndex();
+            String keyword = keywordIndex != null && keywordIndex < keywords.size() ? keywords.get(keywordIndex) : null;
+            NewsCategory keywordCategory = keyword != null ? keywordCategories.get(keyword) : null;
+            Integer entryId = dedupEntryByItem.get(news.itemId());
+            RealNewsDto realNews = news.realNews() != null ? news.realNews() : news.analysis().realNewsDto();
+            NewsCategory category = realNews.newsCategory() != null && realNews.newsCategory() != NewsCategory.NOT_FILTERED
+                    ? realNews.newsCategory()
+                    : keywordCategory;
+
+            return new NewsPreRanker.Candidate<>(
+                    news,
+                    realNews,
+                    category,
+                    keyword != null && keywordCategory == null,
+                    entryId == null ? 0 : index.duplicateCount(entryId),
+                    news.status() == NewsBatchItemStatus.ANALYZED || news.status() == NewsBatchItemStatus.ANALYSIS_FAILED
+            );
+        }
+    }
+
+    private void awaitStage(String stage, Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("뉴스 파이프라인 {} 단계 오류", stage, e.getCause());
+        }
+    }
+}
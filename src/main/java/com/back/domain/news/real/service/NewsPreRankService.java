@@ -0,0 +1,66 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.real.analysis.NewsPreRanker;
+import com.back.domain.news.real.repository.RealNewsRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 최근 선정 이력으로 언론사 가중치를 계산해 배치 한 번에 쓸 사전 순위기를 만듦
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsPreRankService {
+
+    private final RealNewsRepository realNewsRepository;
+
+    @Value("${news.pre-rank.enabled:true}") // AI 분석 전에 카테고리별 상위 기사만 남길지 (크롤링이 끝난 뒤 분석을 시작하는 대신 AI 호출 수를 줄임)
+    private boolean enabled;
+
+    @Value("${news.pre-rank.top-k-per-category:8}") // 카테고리별로 AI에 보낼 기사 수 (최종 선정 4개보다 넉넉하게)
+    private int topK;
+
+    @Value("${news.pre-rank.freshness-half-life-hours:12}") // 최신성 점수가 절반이 되는 시간
+    private double freshnessHalfLifeHours;
+
+    @Value("${news.pre-rank.media-window-days:30}") // 언론사 가중치 계산에 쓸 선정 이력 기간
+    private int mediaWindowDays;
+
+    @PostConstruct
+    public void validateConfig() {
+        if (topK < 1) {
+            throw new IllegalArgumentException("news.pre-rank.top-k-per-category는 1 이상이어야 합니다.");
+        }
+        if (freshnessHalfLifeHours <= 0 || mediaWindowDays < 1) {
+            throw new IllegalArgumentException("news.pre-rank.freshness-half-life-hours, media-window-days는 0보다 커야 합니다.");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Transactional(readOnly = true)
+    public NewsPreRanker newRanker() {
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Long> selectedCounts = new HashMap<>();
+        List<Object[]> rows = realNewsRepository.countByMediaNameSince(now.minusDays(mediaWindowDays));
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                selectedCounts.put((String) row[0], (Long) row[1]);
+            }
+        }
+        log.debug("사전 순위 언론사 가중치 - 최근 {}일, 언론사 {}곳", mediaWindowDays, selectedCounts.size());
+
+        return new NewsPreRanker(topK, NewsPreRanker.mediaPrior(selectedCounts), freshnessHalfLifeHours, now);
+    }
+}
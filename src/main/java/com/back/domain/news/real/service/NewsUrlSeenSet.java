@@ -0,0 +1,123 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.common.dto.NaverNewsDto;
+import com.back.domain.news.real.dedup.BloomFilter;
+import com.back.domain.news.real.dedup.NewsUrlCanonicalizer;
+import com.back.domain.news.real.repository.RealNewsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 이미 저장된 기사 URL을 크롤링 전에 걸러내는 seen-set 입니다.
+ * - 기동 후 별도 스레드에서 real_news.canonical_link를 페이지 단위로 읽어 블룸 필터를 만들고, 저장할 때마다 추가합니다.
+ * - 블룸 필터가 "있을 수 있음"이라고 답한 URL만 canonical_link 인덱스로 DB에서 정확히 확인합니다.
+ *   블룸 필터가 준비되기 전(또는 구성 실패 시)에는 모든 URL을 DB에서 확인합니다.
+ * - 정규화 이전에 저장된 뉴스는 구성 전에 NewsCanonicalLinkBackfill로 canonical_link를 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsUrlSeenSet {
+
+    private final RealNewsRepository realNewsRepository;
+    private final NewsCanonicalLinkBackfill canonicalLinkBackfill;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${news.seen-set.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${news.seen-set.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${news.seen-set.chunk-size:1000}") // 백필/블룸 필터 구성 시 한 번에 읽는 뉴스 수
+    private int chunkSize;
+
+    private volatile BloomFilter bloomFilter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        // 기동을 막지 않도록 별도 스레드에서 실행
+        Thread.ofVirtual().name("news-seen-set-rebuild").start(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("URL seen-set 구성 실패 - 블룸 필터 없이 DB로 확인합니다.", e);
+            }
+        });
+    }
+
+    // 정규화 링크가 없는 뉴스를 청크 단위로 채운 뒤 정규화 링크만 페이지 단위로 읽어 블룸 필터 구성
+    public void rebuild() {
+        int backfilled = 0;
+        int updated;
+        do {
+            updated = canonicalLinkBackfill.backfillChunk(chunkSize);
+            backfilled += updated;
+        } while (updated == chunkSize);
+
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+        long count = 0;
+        long lastId = 0;
+        List<Object[]> page;
+        do {
+            page = realNewsRepository.findCanonicalLinksAfter(lastId, PageRequest.of(0, chunkSize));
+            for (Object[] row : page) {
+                rebuilt.put((String) row[1]);
+                lastId = (Long) row[0];
+            }
+            count += page.size();
+        } while (page.size() == chunkSize);
+
+        bloomFilter = rebuilt;
+        log.info("URL seen-set 구성 완료 - {}개 (정규화 링크 백필 {}개)", count, backfilled);
+    }
+
+    // 이미 저장된 기사를 제외한 목록 반환
+    public List<NaverNewsDto> filterUnseen(List<NaverNewsDto> metaDataList) {
+        BloomFilter filter = bloomFilter;
+        if (metaDataList.isEmpty()) {
+            return metaDataList;
+        }
+
+        // 블룸 필터 양성인 URL만 DB 확인 대상 (저장된 뉴스의 정규화 링크와 비교), 필터 준비 전에는 전부 확인
+        List<NaverNewsDto> maybeSeen = filter == null ? metaDataList : metaDataList.stream()
+                .filter(news -> filter.mightContain(NewsUrlCanonicalizer.canonicalize(news.link())))
+                .toList();
+
+        Set<String> seenCanonical = new HashSet<>();
+        if (!maybeSeen.isEmpty()) {
+            Set<String> lookup = new HashSet<>();
+            for (NaverNewsDto news : maybeSeen) {
+                lookup.add(NewsUrlCanonicalizer.canonicalize(news.link()));
+            }
+            seenCanonical.addAll(realNewsRepository.findExistingCanonicalLinks(lookup));
+        }
+
+        List<NaverNewsDto> unseen = metaDataList.stream()
+                .filter(news -> !seenCanonical.contains(NewsUrlCanonicalizer.canonicalize(news.link())))
+                .toList();
+
+        int skipped = metaDataList.size() - unseen.size();
+        int falsePositives = filter == null ? 0 : maybeSeen.size() - skipped;
+        meterRegistry.counter("news.seen_set.skipped").increment(skipped);
+        meterRegistry.counter("news.seen_set.false_positive").increment(falsePositives);
+
+        log.info("URL seen-set - 전체 {}개, 이미 저장됨 {}개 건너뜀, 블룸 필터 오탐 {}개",
+                metaDataList.size(), skipped, falsePositives);
+        return unseen;
+    }
+
+    public void markSeen(Collection<String> links) {
+        BloomFilter filter = bloomFilter;
+        if (filter == null) return;
+        links.forEach(link -> filter.put(NewsUrlCanonicalizer.canonicalize(link)));
+    }
+}
@@ -0,0 +1,48 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.global.jobqueue.GenerationJobQueue;
+import com.back.global.jobqueue.GenerationJobType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 일일 뉴스 배치의 저장 단계입니다.
+ * 수집/크롤링/분석은 트랜잭션 없이 진행하고, 뉴스 저장과 오늘의 뉴스 지정, 퀴즈 생성 작업 추가만 한 트랜잭션으로 묶습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RealNewsBatchSaveService {
+
+    private final static Duration DAILY_QUIZ_DELAY = Duration.ofMinutes(1);
+
+    private final NewsDataService newsDataService;
+    private final GenerationJobQueue generationJobQueue;
+
+    @Transactional
+    public List<RealNewsDto> saveAndEnqueue(List<RealNewsDto> selectedNews) {
+        List<RealNewsDto> savedNews = newsDataService.saveAllRealNews(selectedNews);
+        if (savedNews.isEmpty()) {
+            return savedNews;
+        }
+        Long todayNewsId = newsDataService.setTodayNews(savedNews.getFirst().id());
+
+        List<Long> realNewsIds = savedNews.stream()
+                .map(RealNewsDto::id)
+                .filter(Objects::nonNull) // null 체크
+                .toList();
+
+        // 퀴즈 생성 작업을 뉴스와 같은 트랜잭션으로 저장 (커밋되면 작업자가 가져가 실행, 재시작해도 남음)
+        generationJobQueue.enqueue(GenerationJobType.DETAIL_QUIZ, realNewsIds);
+        // 오늘의 퀴즈는 오늘의 뉴스의 상세 퀴즈가 생긴 뒤 생성 (없으면 시도 횟수에 넣지 않고 미룸)
+        generationJobQueue.enqueue(GenerationJobType.DAILY_QUIZ, List.of(todayNewsId), DAILY_QUIZ_DELAY);
+        return savedNews;
+    }
+}
@@ -2,7 +2,6 @@ package com.back.domain.quiz.daily.eventListener;
 
 import com.back.domain.news.today.event.TodayNewsCreatedEvent;
 import com.back.domain.quiz.daily.service.DailyQuizService;
-import com.back.domain.quiz.detail.event.DetailQuizCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -27,15 +26,4 @@ public class DailyQuizEventListener {
             log.error("오늘의 퀴즈 생성 중 오류 발생: {}", e.getMessage(), e);
         }
     }
-
-    @Async("dailyQuizExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handleDetailQuizCreated(DetailQuizCreatedEvent event) {
-        try {
-            // dailyNewsProcess() 메서드로 생성된 오늘의 뉴스에 대한 퀴즈를 생성(상세 퀴즈 생성 후)
-            dailyQuizService.createDailyQuiz();
-        } catch (Exception e) {
-            log.error("오늘의 퀴즈 생성 중 오류 발생: {}", e.getMessage(), e);
-        }
-    }
 }
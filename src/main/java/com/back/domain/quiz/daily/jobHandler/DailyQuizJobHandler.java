@@ -0,0 +1,67 @@
+package com.back.domain.quiz.daily.jobHandler;
+
+import com.back.domain.news.today.entity.TodayNews;
+import com.back.domain.news.today.repository.TodayNewsRepository;
+import com.back.domain.quiz.daily.service.DailyQuizService;
+import com.back.domain.quiz.detail.repository.DetailQuizRepository;
+import com.back.global.exception.ServiceException;
+import com.back.global.jobqueue.GenerationJobHandler;
+import com.back.global.jobqueue.GenerationJobNotReadyException;
+import com.back.global.jobqueue.GenerationJobType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 뉴스 배치가 지정한 오늘의 뉴스(작업 대상 ID)로 오늘의 퀴즈를 생성합니다.
+ * 오늘의 뉴스의 상세 퀴즈가 아직 없으면 GenerationJobNotReadyException으로 끝나, 시도 횟수에 넣지 않고 미뤄집니다.
+ * 그 사이 관리자가 오늘의 뉴스를 바꿔 대상이 없어졌으면 완료로 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailyQuizJobHandler implements GenerationJobHandler {
+    private final DailyQuizService dailyQuizService;
+    private final TodayNewsRepository todayNewsRepository;
+    private final DetailQuizRepository detailQuizRepository;
+
+    @Autowired
+    @Qualifier("dailyQuizExecutor")
+    private Executor dailyQuizExecutor;
+
+    @Override
+    public GenerationJobType type() {
+        return GenerationJobType.DAILY_QUIZ;
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(long todayNewsId) {
+        return CompletableFuture.runAsync(() -> {
+            Optional<TodayNews> todayNews = todayNewsRepository.findById(todayNewsId);
+            if (todayNews.isEmpty()) {
+                log.info("오늘의 뉴스가 다른 뉴스로 바뀌어 오늘의 퀴즈를 생성하지 않습니다. 오늘의 뉴스 ID: {}", todayNewsId);
+                return;
+            }
+            Long realNewsId = todayNews.get().getRealNews().getId();
+            if (!detailQuizRepository.existsByRealNewsId(realNewsId)) {
+                throw new GenerationJobNotReadyException("오늘의 뉴스의 상세 퀴즈가 아직 없습니다. 뉴스 ID: " + realNewsId);
+            }
+
+            try {
+                dailyQuizService.createDailyQuiz(todayNewsId);
+            } catch (ServiceException e) {
+                // 이미 생성된 경우(오늘의 뉴스 지정 이벤트로 생성 등)는 완료로 처리
+                if (e.getRsData().code() != 400) {
+                    throw e;
+                }
+                log.info("오늘의 퀴즈가 이미 생성되어 있습니다. 오늘의 뉴스 ID: {}", todayNewsId);
+            }
+        }, dailyQuizExecutor);
+    }
+}
@@ -7,7 +7,10 @@ import com.back.domain.quiz.detail.dto.DetailQuizResDto;
 import com.back.domain.quiz.detail.dto.DetailQuizWithHistoryDto;
 import com.back.domain.quiz.detail.entity.DetailQuiz;
 import com.back.domain.quiz.detail.entity.Option;
+import com.back.domain.quiz.detail.service.DetailQuizAsyncService;
 import com.back.domain.quiz.detail.service.DetailQuizService;
+import com.back.global.async.AsyncJobDto;
+import com.back.global.async.AsyncJobRegistry;
 import com.back.global.exception.ServiceException;
 import com.back.global.rq.Rq;
 import com.back.global.rsData.RsData;
@@ -24,6 +27,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -31,6 +36,8 @@ import java.util.List;
 @Tag(name = "DetailQuizController", description = "상세 퀴즈 관련 API")
 public class DetailQuizController {
     private final DetailQuizService detailQuizService;
+    private final DetailQuizAsyncService detailQuizAsyncService;
+    private final AsyncJobRegistry asyncJobRegistry;
     private final Rq rq;
 
     // 상세 퀴즈 단건 조회(퀴즈 ID로 조회)
@@ -92,10 +99,10 @@ public class DetailQuizController {
     }
 
 
-    // 상세 퀴즈 생성(뉴스 ID로 찾은 뉴스의 퀴즈 모두 삭제 후 새로 생성해서 저장)
-    @Operation(summary = "뉴스 ID 기반 상세 퀴즈 생성", description = "뉴스 ID로 해당 뉴스의 상세 퀴즈를 3개 생성합니다. 기존 퀴즈는 삭제 후 새로 생성합니다.")
+    // 상세 퀴즈 생성(뉴스 ID로 찾은 뉴스의 퀴즈 모두 삭제 후 새로 생성해서 저장) - AI 응답을 기다리지 않고 작업 ID를 바로 반환
+    @Operation(summary = "뉴스 ID 기반 상세 퀴즈 생성 요청", description = "뉴스 ID로 해당 뉴스의 상세 퀴즈 3개 생성을 요청하고 작업 ID를 반환합니다. 기존 퀴즈는 생성이 끝나면 삭제 후 교체됩니다. 같은 뉴스의 생성이 진행 중이면 그 결과를 함께 받습니다. 결과는 GET /api/quiz/detail/jobs/{jobId}로 조회합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "상세 퀴즈 생성 성공"),
+            @ApiResponse(responseCode = "202", description = "상세 퀴즈 생성 요청 접수"),
             @ApiResponse(responseCode = "404", description = "해당 ID의 뉴스를 찾을 수 없음",
                     content = @Content(
                             mediaType = "application/json",
@@ -104,30 +111,52 @@ public class DetailQuizController {
                                     @ExampleObject(value = "{\"resultCode\": 404, \"msg\": \"해당 id의 뉴스가 존재하지 않습니다. id: \", \"data\": null}")
                             }
                     )
-            ),
-            @ApiResponse(responseCode = "500", description = "AI 서비스 호출 실패",
+            )
+    }
+    )
+    @PostMapping("news/{newsId}/regenerate")
+    public RsData<AsyncJobDto<List<DetailQuizResDto>>> generateDetailQuizzes(@PathVariable Long newsId) {
+        return new RsData<>(
+                202,
+                "상세 퀴즈 생성 요청 접수",
+                detailQuizAsyncService.regenerateAsync(newsId)
+        );
+    }
+
+    // 상세 퀴즈 생성 작업 조회 - waitSeconds를 주면 작업이 끝나거나 그 시간이 지날 때까지 기다렸다가 응답(롱 폴링, 최대 30초)
+    // 다른 인스턴스가 받은 작업이면 fly-replay 헤더로 Fly.io 프록시가 그 인스턴스에 요청을 다시 보내게 함
+    @Operation(summary = "상세 퀴즈 생성 작업 조회", description = "작업 ID로 상세 퀴즈 생성 상태(RUNNING, SUCCEEDED, FAILED)와 결과를 조회합니다. waitSeconds를 지정하면 작업이 끝날 때까지 최대 그 시간만큼 기다립니다. 작업을 등록한 인스턴스가 아니면 그 인스턴스로 요청을 다시 보냅니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "작업 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "해당 ID의 작업이 없거나 보관 기간이 지남",
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = RsData.class),
                             examples = {
-                                    @ExampleObject(value = "{\"resultCode\": 500, \"msg\": \"AI 서비스 호출에 실패했습니다\", \"data\": null}")
+                                    @ExampleObject(value = "{\"resultCode\": 404, \"msg\": \"해당 id의 작업이 존재하지 않습니다. id: \", \"data\": null}")
                             }
                     )
             )
     }
     )
-    @PostMapping("news/{newsId}/regenerate")
-    public RsData<List<DetailQuizResDto>> generateDetailQuizzes(@PathVariable Long newsId) {
-        List<DetailQuizDto> newQuizzes = detailQuizService.generateQuizzes(newsId);
-        List<DetailQuiz> savedQuizzes = detailQuizService.saveQuizzes(newsId, newQuizzes);
-
-        return new RsData<>(
-                201,
-                "상세 퀴즈 생성 성공",
-                savedQuizzes.stream()
-                        .map(DetailQuizResDto::new)
-                        .toList()
-        );
+    @GetMapping("/jobs/{jobId}")
+    public CompletableFuture<RsData<AsyncJobDto<?>>> getRegenerateJob(@PathVariable String jobId,
+                                                                     @RequestParam(defaultValue = "0") long waitSeconds) {
+        Optional<String> owner = asyncJobRegistry.findOtherInstance(jobId);
+        if (owner.isPresent()) {
+            rq.setHeader("fly-replay", "instance=" + owner.get());
+            return CompletableFuture.completedFuture(new RsData<>(
+                    307,
+                    "작업을 등록한 인스턴스로 요청을 다시 보냅니다.",
+                    null
+            ));
+        }
+        return asyncJobRegistry.poll(DetailQuizAsyncService.REGENERATE_JOB_TYPE, jobId, waitSeconds)
+                .thenApply(job -> new RsData<>(
+                        200,
+                        "상세 퀴즈 생성 작업 조회 성공",
+                        job
+                ));
     }
 
 
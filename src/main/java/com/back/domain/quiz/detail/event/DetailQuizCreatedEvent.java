@@ -1,4 +0,0 @@
-package com.back.domain.quiz.detail.event;
-
-public class DetailQuizCreatedEvent {
-}
@@ -0,0 +1,43 @@
+package com.back.domain.quiz.detail.jobHandler;
+
+import com.back.domain.quiz.detail.repository.DetailQuizRepository;
+import com.back.domain.quiz.detail.service.DetailQuizAsyncService;
+import com.back.domain.quiz.detail.service.QuizAndFakeNewsAsyncService;
+import com.back.global.jobqueue.GenerationJobHandler;
+import com.back.global.jobqueue.GenerationJobType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+// 뉴스 배치가 저장한 실제 뉴스마다 상세 퀴즈를 생성 (호출 속도는 AI 호출 스케줄러가 조절)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DetailQuizJobHandler implements GenerationJobHandler {
+    private final DetailQuizAsyncService detailQuizAsyncService;
+    private final QuizAndFakeNewsAsyncService quizAndFakeNewsAsyncService;
+    private final DetailQuizRepository detailQuizRepository;
+
+    @Value("${quiz.detail.with-fake-news:true}") // 상세 퀴즈와 가짜 뉴스를 뉴스당 한 번의 AI 호출로 생성 (false면 각각 호출)
+    private boolean withFakeNews;
+
+    @Override
+    public GenerationJobType type() {
+        return GenerationJobType.DETAIL_QUIZ;
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(long realNewsId) {
+        // 다시 실행되어도 이미 만든 퀴즈(오늘의 퀴즈가 연결했을 수 있음)를 지우고 새로 만들지 않음
+        if (detailQuizRepository.existsByRealNewsId(realNewsId)) {
+            log.debug("이미 상세 퀴즈가 있습니다. 뉴스 ID: {}", realNewsId);
+            return CompletableFuture.completedFuture(null);
+        }
+        return withFakeNews
+                ? quizAndFakeNewsAsyncService.generateAsync(realNewsId)
+                : detailQuizAsyncService.generateAsync(realNewsId);
+    }
+}
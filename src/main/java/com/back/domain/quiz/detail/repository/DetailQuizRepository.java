@@ -8,5 +8,7 @@ import java.util.List;
 public interface DetailQuizRepository extends JpaRepository<DetailQuiz, Long> {
     List<DetailQuiz> findByRealNewsId(Long realNewsId);
 
+    boolean existsByRealNewsId(Long realNewsId);
+
     void deleteByRealNewsId(Long newsId);
 }
@@ -1,49 +1,82 @@
 package com.back.domain.quiz.detail.service;
 
 import com.back.domain.quiz.detail.dto.DetailQuizDto;
+import com.back.domain.quiz.detail.dto.DetailQuizResDto;
+import com.back.domain.quiz.detail.entity.DetailQuiz;
+import com.back.global.ai.AiService;
+import com.back.global.ai.processor.DetailQuizProcessor;
+import com.back.global.async.AsyncJobDto;
+import com.back.global.async.AsyncJobRegistry;
+import com.back.global.async.SingleFlight;
+import com.back.global.rateLimiter.AiPriority;
+import com.back.global.rateLimiter.SharedPriority;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
+/**
+ * 상세 퀴즈를 비동기로 생성해 저장합니다.
+ * 같은 뉴스의 생성이 진행 중이면(배치/재생성 모두) 새로 호출하지 않고 진행 중인 결과를 함께 받습니다.
+ * 배치 생성에 재생성 요청이 합류하면 그 생성의 호출 우선순위를 INTERACTIVE로 올립니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DetailQuizAsyncService {
+    public static final String REGENERATE_JOB_TYPE = "detail-quiz-regenerate";
+
     private final DetailQuizService detailQuizService;
     private final DetailQuizRateLimitedService detailQuizRateLimitedService;
-    private final ConcurrentHashMap<Long, Boolean> inProgressMap = new ConcurrentHashMap<>();
-
-    @Async("quizExecutor")
-    public CompletableFuture<Void> generateAsync(long newsId) {
-        if (inProgressMap.putIfAbsent(newsId, Boolean.TRUE) != null) {
-            log.warn("이미 진행 중인 퀴즈 생성 작업이 있습니다. 뉴스 ID: " + newsId);
-            return CompletableFuture.completedFuture(null); // 이미 진행 중인 작업이 있으면 바로 반환
-        }
+    private final AiService aiService;
+    private final SingleFlight singleFlight;
+    private final AsyncJobRegistry asyncJobRegistry;
 
-        CompletableFuture<Void> result;
-        try {
-            // Rate limit 적용하여 Ai 호출해 퀴즈 생성(트랜잭션 없음)
-            List<DetailQuizDto> quizzes = detailQuizRateLimitedService.generatedQuizzesWithRateLimit(newsId);
+    @Autowired
+    @Qualifier("quizExecutor")
+    private Executor quizExecutor;
 
-            // 생성된 퀴즈를 DB에 저장(트랜잭션)
-            detailQuizService.saveQuizzes(newsId, quizzes);
+    // 호출 허가를 기다리는 동안 quizExecutor 스레드를 점유하지 않음. 실패하면 예외로 끝나 생성 작업 큐가 다시 시도
+    public CompletableFuture<Void> generateAsync(long newsId) {
+        // Rate limit 적용하여 Ai 호출해 퀴즈 생성(트랜잭션 없음) 후 DB에 저장(트랜잭션)
+        return singleFlight.run(DetailQuizProcessor.class, newsId, new SharedPriority(AiPriority.BACKFILL), running -> {
+                }, priority -> save(newsId, detailQuizRateLimitedService.generatedQuizzesWithRateLimit(newsId, priority)))
+                .<Void>thenApply(saved -> null)
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        log.error("[실패] 뉴스 퀴즈 생성 실패 - newsId: {}, 오류: {}", newsId, e.getMessage(), e);
+                    }
+                });
+    }
 
-            log.info("상세 퀴즈 생성 완료, 뉴스 ID: " + newsId);
-            result = CompletableFuture.completedFuture(null);
+    /**
+     * 사용자 요청으로 퀴즈를 다시 생성합니다. 가장 높은 우선순위로 호출 허가를 받고, 결과는 작업 ID로 조회합니다.
+     * 진행 중인 배치 생성에 합류하면 그 생성의 우선순위를 올려 배치 대기열 뒤에서 기다리지 않게 합니다.
+     * 없는 뉴스면 작업을 만들지 않고 바로 404를 던집니다.
+     */
+    public AsyncJobDto<List<DetailQuizResDto>> regenerateAsync(long newsId) {
+        DetailQuizProcessor processor = detailQuizService.createQuizProcessor(newsId);
 
-        } catch (Exception e) {
-            log.error("[실패] 뉴스 퀴즈 생성 실패 - newsId: {}, 오류: {}", newsId, e.getMessage(), e);
-            result = CompletableFuture.completedFuture(null);
+        CompletableFuture<List<DetailQuiz>> saved = singleFlight.run(DetailQuizProcessor.class, newsId,
+                new SharedPriority(AiPriority.INTERACTIVE), running -> running.raise(AiPriority.INTERACTIVE),
+                priority -> save(newsId, detailQuizRateLimitedService.callWithRateLimit(priority, newsId,
+                        aiService.estimateTokens(processor), () -> aiService.process(processor))));
 
-        } finally {
-            inProgressMap.remove(newsId);
-        }
+        return asyncJobRegistry.submit(REGENERATE_JOB_TYPE, saved.thenApply(quizzes -> quizzes.stream()
+                .map(DetailQuizResDto::new)
+                .toList()));
+    }
 
-        return result;
+    private CompletableFuture<List<DetailQuiz>> save(long newsId, CompletableFuture<List<DetailQuizDto>> generated) {
+        return generated.thenApplyAsync(quizzes -> {
+            List<DetailQuiz> saved = detailQuizService.saveQuizzes(newsId, quizzes);
+            log.info("상세 퀴즈 생성 완료, 뉴스 ID: " + newsId);
+            return saved;
+        }, quizExecutor);
     }
 }
@@ -1,41 +1,62 @@
 package com.back.domain.quiz.detail.service;
 
 import com.back.domain.quiz.detail.dto.DetailQuizDto;
-import com.back.global.exception.ServiceException;
-import io.github.bucket4j.Bucket;
+import com.back.global.ai.AiService;
+import com.back.global.rateLimiter.AiAdmissionScheduler;
+import com.back.global.rateLimiter.AiPriority;
+import com.back.global.rateLimiter.AiWorkload;
+import com.back.global.rateLimiter.SharedPriority;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DetailQuizRateLimitedService {
     private final DetailQuizService detailQuizService;
-    private final Bucket bucket;
-
-    public List<DetailQuizDto> generatedQuizzesWithRateLimit(Long newsId) throws InterruptedException {
-        int maxRetries = 5; // 최대 재시도 횟수
-        int retryDelay = 60000; // 재시도 대기 시간 (밀리초 단위)
-
-        for(int i=0; i<maxRetries; i++){
-            if (!bucket.tryConsume(1)) {
-                log.warn("Rate limit 제한으로 재시도 대기중... 시도 횟수: {} - newsId: {} ", i+1, newsId);
-                Thread.sleep(retryDelay);
-                continue;
-            }
-            try {
-                // Rate limit이 허용되면 AI 호출해 퀴즈 생성
-                return detailQuizService.generateQuizzes(newsId);
-            } catch (Exception e) {
-                log.warn("AI 호출 중 오류 발생. 재시도합니다. 시도 횟수: {} - newsId: {}, error: {}", i+1, newsId, e.getMessage());
-                Thread.sleep(retryDelay);
-            }
-        }
-        log.error("퀴즈 생성 최종 실패. 뉴스 ID: {}", newsId);
-        throw new ServiceException(500, "퀴즈 생성 최종 실패. 뉴스 ID: " + newsId);
+    private final AiService aiService;
+    private final AiAdmissionScheduler admissionScheduler;
 
+    @Autowired
+    @Qualifier("quizExecutor")
+    private Executor quizExecutor;
+
+    public CompletableFuture<List<DetailQuizDto>> generatedQuizzesWithRateLimit(Long newsId) {
+        return generatedQuizzesWithRateLimit(newsId, new SharedPriority(AiPriority.BACKFILL));
+    }
+
+    public CompletableFuture<List<DetailQuizDto>> generatedQuizzesWithRateLimit(Long newsId, SharedPriority priority) {
+        return CompletableFuture.supplyAsync(() -> detailQuizService.createQuizProcessor(newsId), quizExecutor)
+                .thenCompose(processor -> callWithRateLimit(priority, newsId,
+                        aiService.estimateTokens(processor), () -> aiService.process(processor)));
+    }
+
+    /**
+     * 호출 허가를 받아 quizExecutor에서 AI를 호출합니다. 허가를 기다리는 동안 스레드를 점유하지 않습니다.
+     * 실패하면 예외로 끝나며, 재시도는 생성 작업 큐(배치)나 사용자의 재요청(재생성)에 맡깁니다.
+     *
+     * @param tokens 호출의 예상 토큰 수 (AiService.estimateTokens)
+     */
+    public <T> CompletableFuture<T> callWithRateLimit(AiPriority priority, Long newsId, long tokens, Supplier<T> aiCall) {
+        return callWithRateLimit(new SharedPriority(priority), newsId, tokens, aiCall);
+    }
+
+    // 허가를 기다리는 중에 더 급한 호출자가 합류해 priority가 올라가면 올라간 우선순위로 허가됨
+    public <T> CompletableFuture<T> callWithRateLimit(SharedPriority priority, Long newsId, long tokens, Supplier<T> aiCall) {
+        return priority.acquire(admissionScheduler, AiWorkload.DETAIL_QUIZ, tokens)
+                .thenApplyAsync(granted -> aiCall.get(), quizExecutor)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.warn("퀴즈 생성 AI 호출 실패 - newsId: {}, error: {}", newsId, error.getMessage());
+                    }
+                });
     }
 }
@@ -12,7 +12,6 @@ import com.back.domain.quiz.detail.dto.*;
 import com.back.domain.quiz.detail.entity.DetailQuiz;
 import com.back.domain.quiz.detail.entity.Option;
 import com.back.domain.quiz.detail.repository.DetailQuizRepository;
-import com.back.global.ai.AiService;
 import com.back.global.ai.processor.DetailQuizProcessor;
 import com.back.global.exception.ServiceException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -31,7 +30,6 @@ import static com.back.global.util.LevelSystem.calculateLevel;
 public class DetailQuizService {
     private final DetailQuizRepository detailQuizRepository;
     private final RealNewsRepository realNewsRepository;
-    private final AiService aiService;
     private final ObjectMapper objectMapper;
     private final QuizHistoryService quizHistoryService;
     private final QuizHistoryRepository quizHistoryRepository;
@@ -95,8 +93,8 @@ public class DetailQuizService {
     }
 
 
-    // newsId로 뉴스 조회 후 AI api 호출해 퀴즈 생성
-    public List<DetailQuizDto> generateQuizzes(Long newsId) {
+    // newsId로 뉴스 조회 후 퀴즈 생성 요청 Processor 생성 (호출 허가 전에 예상 토큰 수를 계산할 때도 사용)
+    public DetailQuizProcessor createQuizProcessor(Long newsId) {
         RealNews news = realNewsRepository.findById(newsId)
                 .orElseThrow(() -> new ServiceException(404, "해당 id의 뉴스가 존재하지 않습니다. id: " + newsId));
 
@@ -105,9 +103,7 @@ public class DetailQuizService {
                 news.getContent()
         );
 
-        DetailQuizProcessor processor = new DetailQuizProcessor(req, objectMapper);
-
-        return aiService.process(processor);
+        return new DetailQuizProcessor(req, objectMapper);
     }
 
     // 생성한 퀴즈 DB에 저장
@@ -0,0 +1,104 @@
+package com.back.domain.quiz.detail.service;
+
+import com.back.domain.news.common.dto.QuizAndFakeNewsDto;
+import com.back.domain.news.fake.dto.FakeNewsDto;
+import com.back.domain.news.fake.service.FakeNewsService;
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.news.real.mapper.RealNewsMapper;
+import com.back.domain.news.real.repository.RealNewsRepository;
+import com.back.domain.quiz.detail.dto.DetailQuizDto;
+import com.back.global.ai.AiService;
+import com.back.global.ai.processor.QuizAndFakeNewsProcessor;
+import com.back.global.async.SingleFlight;
+import com.back.global.exception.ServiceException;
+import com.back.global.rateLimiter.AiPriority;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 뉴스 한 건당 AI를 한 번만 호출해 상세 퀴즈와 가짜 뉴스를 함께 생성하고 저장합니다.
+ * - 한쪽만 파싱에 실패하면 기존 단일 요청(DetailQuizProcessor / FakeNewsGeneratorProcessor)으로 그 부분만 다시 생성합니다.
+ * - 동시 생성 호출 자체가 실패하면 퀴즈만 기존 방식으로 생성하고, 가짜 뉴스는 다시 요청하지 않고 새벽 가짜 뉴스 배치에 맡깁니다.
+ * - 같은 뉴스의 생성이 진행 중이면 새로 호출하지 않고 진행 중인 결과를 함께 기다립니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuizAndFakeNewsAsyncService {
+    private final DetailQuizService detailQuizService;
+    private final DetailQuizRateLimitedService detailQuizRateLimitedService;
+    private final FakeNewsService fakeNewsService;
+    private final RealNewsRepository realNewsRepository;
+    private final RealNewsMapper realNewsMapper;
+    private final AiService aiService;
+    private final ObjectMapper objectMapper;
+    private final SingleFlight singleFlight;
+
+    @Autowired
+    @Qualifier("quizExecutor")
+    private Executor quizExecutor;
+
+    // 호출 허가를 기다리는 동안 quizExecutor 스레드를 점유하지 않음. 퀴즈 저장까지 실패하면 예외로 끝나 생성 작업 큐가 다시 시도
+    public CompletableFuture<Void> generateAsync(long newsId) {
+        return singleFlight.run(QuizAndFakeNewsProcessor.class, newsId, () -> CompletableFuture.supplyAsync(() -> realNewsRepository.findById(newsId)
+                                .map(realNewsMapper::toDto)
+                                .orElseThrow(() -> new ServiceException(404, "해당 id의 뉴스가 존재하지 않습니다. id: " + newsId)), quizExecutor)
+                        .thenCompose(realNews -> generateTogether(realNews)
+                                .thenCompose(generated -> CompletableFuture.allOf(
+                                        saveQuizzes(newsId, generated),
+                                        saveFakeNews(realNews, generated)))))
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        log.error("[실패] 뉴스 퀴즈/가짜 뉴스 생성 실패 - newsId: {}, 오류: {}", newsId, e.getMessage(), e);
+                    }
+                });
+    }
+
+    // 동시 생성 호출이 끝내 실패하면 빈 Optional (한쪽만 파싱에 실패한 경우와 구분)
+    private CompletableFuture<Optional<QuizAndFakeNewsDto>> generateTogether(RealNewsDto realNews) {
+        QuizAndFakeNewsProcessor processor = new QuizAndFakeNewsProcessor(realNews, objectMapper);
+        return detailQuizRateLimitedService.callWithRateLimit(AiPriority.BACKFILL, realNews.id(),
+                        aiService.estimateTokens(processor), () -> aiService.process(processor))
+                .thenApply(Optional::of)
+                .exceptionally(e -> {
+                    log.warn("퀴즈/가짜 뉴스 동시 생성 실패 - 퀴즈는 기존 방식으로 생성하고 가짜 뉴스는 새벽 배치에 맡깁니다. 뉴스 ID: {}", realNews.id());
+                    return Optional.empty();
+                });
+    }
+
+    // 호출이 실패했거나 퀴즈가 없으면 퀴즈만 다시 요청
+    private CompletableFuture<Void> saveQuizzes(long newsId, Optional<QuizAndFakeNewsDto> generated) {
+        CompletableFuture<List<DetailQuizDto>> quizzes = generated.filter(QuizAndFakeNewsDto::hasQuizzes)
+                .map(result -> CompletableFuture.completedFuture(result.quizzes()))
+                .orElseGet(() -> detailQuizRateLimitedService.generatedQuizzesWithRateLimit(newsId));
+        return quizzes.thenAcceptAsync(result -> {
+            detailQuizService.saveQuizzes(newsId, result);
+            log.info("상세 퀴즈 생성 완료, 뉴스 ID: " + newsId);
+        }, quizExecutor);
+    }
+
+    // 가짜 뉴스 부분만 파싱에 실패했으면 가짜 뉴스만 다시 요청 (그래도 실패하면 새벽 가짜 뉴스 배치에서 생성)
+    // 호출 자체가 실패했으면 같은 한도에 다시 부딪히지 않도록 바로 새벽 배치에 맡김
+    private CompletableFuture<Void> saveFakeNews(RealNewsDto realNews, Optional<QuizAndFakeNewsDto> generated) {
+        if (generated.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<FakeNewsDto> fakeNews = generated.get().hasFakeNews()
+                ? CompletableFuture.completedFuture(generated.get().fakeNews())
+                : fakeNewsService.generateFakeNewsAsync(realNews);
+        return fakeNews.thenAcceptAsync(result -> {
+            if (result != null) {
+                fakeNewsService.saveFakeNewsForBatch(List.of(result));
+            }
+        }, quizExecutor);
+    }
+}
@@ -0,0 +1,37 @@
+package com.back.domain.quiz.fact.jobHandler;
+
+import com.back.domain.quiz.fact.repository.FactQuizRepository;
+import com.back.domain.quiz.fact.service.FactQuizService;
+import com.back.global.jobqueue.GenerationJobHandler;
+import com.back.global.jobqueue.GenerationJobType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// 가짜 뉴스가 생성된 실제 뉴스마다 팩트 퀴즈를 생성
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FactQuizJobHandler implements GenerationJobHandler {
+    private final FactQuizService factQuizService;
+    private final FactQuizRepository factQuizRepository;
+
+    @Override
+    public GenerationJobType type() {
+        return GenerationJobType.FACT_QUIZ;
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(long realNewsId) {
+        // 다시 실행되어도 같은 뉴스의 팩트 퀴즈를 중복 생성하지 않음
+        if (factQuizRepository.existsByRealNewsId(realNewsId)) {
+            log.debug("이미 팩트 퀴즈가 있습니다. 진짜 뉴스 ID: {}", realNewsId);
+            return CompletableFuture.completedFuture(null);
+        }
+        factQuizService.create(List.of(realNewsId));
+        return CompletableFuture.completedFuture(null);
+    }
+}
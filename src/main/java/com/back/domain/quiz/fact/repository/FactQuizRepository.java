@@ -51,5 +51,7 @@ public interface FactQuizRepository extends JpaRepository<FactQuiz, Long> {
     //추가
     Optional<FactQuiz> findByRealNewsId(Long realNewsId);
 
+    boolean existsByRealNewsId(Long realNewsId);
+
 
 }
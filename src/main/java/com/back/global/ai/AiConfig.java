@@ -1,18 +1,125 @@
 package com.back.global.ai;
 
+import com.back.global.ai.routing.AiEndpoint;
+import com.back.global.ai.routing.AiRouter;
+import com.back.global.ai.routing.AiTier;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
- * Spring AI의 ChatClient를 빈으로 등록하는 설정 클래스입니다.
+ * Spring AI의 ChatClient와 AI 엔드포인트 라우터를 빈으로 등록하는 설정 클래스입니다.
  * ChatModel은 application.yml 설정을 기반으로 생성됩니다.
+ * ai.routing.endpoints가 비어 있으면 이 ChatClient 하나만 모든 등급에 사용합니다.
  */
 @Configuration
 public class AiConfig {
+
+    @Value("${spring.ai.openai.api-key:}")
+    private String defaultApiKey;
+
+    @Value("${spring.ai.openai.chat.base-url:https://api.openai.com}")
+    private String defaultBaseUrl;
+
+    @Value("${spring.ai.openai.chat.completions-path:/v1/chat/completions}")
+    private String defaultCompletionsPath;
+
+    @Value("${spring.ai.openai.chat.options.model:}")
+    private String defaultModel;
+
+    @Value("${spring.ai.openai.chat.options.temperature:0.5}")
+    private double defaultTemperature;
+
+    @Value("${ai.rate-limit.requests-per-minute:12}")
+    private long defaultRequestsPerMinute;
+
+    @Value("${ai.rate-limit.tokens-per-minute:250000}")
+    private long defaultTokensPerMinute;
+
+    @Value("${ai.routing.failure-cooldown:30s}") // 호출이 실패한 엔드포인트를 후보에서 뒤로 미루는 시간 (연속 실패 시 두 배씩)
+    private Duration failureCooldown;
+
+    @Value("${ai.routing.max-cooldown:10m}")
+    private Duration maxCooldown;
+
+    @Value("${ai.routing.retries-per-endpoint:2}") // 일시적 오류(5xx) 시 같은 엔드포인트에 보내는 최대 횟수. 이후 다른 엔드포인트로 전환
+    private int retriesPerEndpoint;
+
     @Bean
     public ChatClient chatClient(ChatModel chatModel) {
         return ChatClient.builder(chatModel).build();
     }
+
+    @Bean
+    public AiRouter aiRouter(ChatClient chatClient, Environment environment, MeterRegistry meterRegistry) {
+        List<AiEndpoint> endpoints = new ArrayList<>();
+        for (int i = 0; environment.containsProperty(endpointKey(i, "name")); i++) {
+            endpoints.add(endpoint(environment, i));
+        }
+        if (endpoints.isEmpty()) {
+            endpoints.add(new AiEndpoint("default", defaultModel, EnumSet.allOf(AiTier.class), chatClient,
+                    defaultRequestsPerMinute, defaultTokensPerMinute));
+        }
+        return new AiRouter(endpoints, failureCooldown, maxCooldown, meterRegistry);
+    }
+
+    // ai.routing.endpoints[i]: 지정하지 않은 값은 spring.ai.openai 설정을 따름
+    private AiEndpoint endpoint(Environment environment, int index) {
+        String name = environment.getProperty(endpointKey(index, "name"));
+        String apiKey = environment.getProperty(endpointKey(index, "api-key"), defaultApiKey);
+        String model = environment.getProperty(endpointKey(index, "model"), defaultModel);
+        if (apiKey.isBlank() || model.isBlank()) {
+            throw new IllegalArgumentException("AI 엔드포인트 " + name + "의 api-key와 model이 필요합니다.");
+        }
+        long requestsPerMinute = environment.getProperty(endpointKey(index, "requests-per-minute"), Long.class, defaultRequestsPerMinute);
+        long tokensPerMinute = environment.getProperty(endpointKey(index, "tokens-per-minute"), Long.class, defaultTokensPerMinute);
+        if (requestsPerMinute <= 0 || tokensPerMinute <= 0) {
+            throw new IllegalArgumentException("AI 엔드포인트 " + name + "의 분당 한도는 0보다 커야 합니다.");
+        }
+
+        Set<AiTier> tiers = EnumSet.noneOf(AiTier.class);
+        for (String tier : environment.getProperty(endpointKey(index, "tiers"), "FAST,QUALITY").split(",")) {
+            tiers.add(AiTier.valueOf(tier.trim().toUpperCase(Locale.ROOT)));
+        }
+
+        OpenAiApi openAiApi = OpenAiApi.builder()
+                .baseUrl(environment.getProperty(endpointKey(index, "base-url"), defaultBaseUrl))
+                .completionsPath(environment.getProperty(endpointKey(index, "completions-path"), defaultCompletionsPath))
+                .apiKey(apiKey)
+                .build();
+        OpenAiChatModel chatModel = OpenAiChatModel.builder()
+                .openAiApi(openAiApi)
+                .defaultOptions(OpenAiChatOptions.builder()
+                        .model(model)
+                        .temperature(environment.getProperty(endpointKey(index, "temperature"), Double.class, defaultTemperature))
+                        .build())
+                .retryTemplate(RetryTemplate.builder()
+                        .maxAttempts(retriesPerEndpoint)
+                        .retryOn(TransientAiException.class)
+                        .exponentialBackoff(1000, 2, 5000)
+                        .build())
+                .build();
+
+        return new AiEndpoint(name, model, tiers, ChatClient.builder(chatModel).build(), requestsPerMinute, tokensPerMinute);
+    }
+
+    private String endpointKey(int index, String property) {
+        return "ai.routing.endpoints[" + index + "]." + property;
+    }
 }
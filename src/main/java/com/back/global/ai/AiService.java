@@ -2,25 +2,77 @@ package com.back.global.ai;
 
 import com.back.domain.quiz.detail.dto.DetailQuizCreateReqDto;
 import com.back.domain.quiz.detail.dto.DetailQuizDto;
+import com.back.global.ai.cache.AiResponseCache;
 import com.back.global.ai.processor.AiRequestProcessor;
 import com.back.global.ai.processor.DetailQuizProcessor;
+import com.back.global.ai.processor.StreamingAiRequestProcessor;
+import com.back.global.ai.routing.AiEndpoint;
+import com.back.global.ai.routing.AiRouter;
+import com.back.global.ai.stream.JsonArrayStreamParser;
+import com.back.global.rateLimiter.AiAdmissionScheduler;
+import com.back.global.util.TokenEstimator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.Usage;
 import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.ResponseFormat;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiService {
-    private final ChatClient chatClient;
+    // 동기 호출의 4xx는 NonTransientAiException("400 - {응답 본문}")으로 변환되어 전달됨
+    private static final Pattern BAD_REQUEST_MESSAGE = Pattern.compile("^(?:HTTP\\s*)?400\\b");
+
+    private final AiRouter aiRouter;
     private final ObjectMapper objectMapper;
+    private final AiResponseCache aiResponseCache;
+    private final AiAdmissionScheduler admissionScheduler;
+
+    @Value("${ai.structured-output.enabled:true}") // 프로세서가 응답 스키마를 제공하면 모델에 구조화 출력 요청
+    private boolean structuredOutputEnabled;
+
+    @Value("${ai.structured-output.retry-after:PT1H}") // 모델이 스키마 요청을 거부한 뒤 다시 시도하기까지의 시간
+    private Duration structuredOutputRetryAfter;
+
+    /**
+     * 호출 허가를 받을 때 분당 토큰 한도에서 예약할 토큰 수입니다. (프롬프트 추정치 + 프로세서의 예상 출력)
+     * process / processStream은 호출 후 같은 값을 실제 사용량으로 정산하므로,
+     * AiAdmissionScheduler.acquire에는 반드시 이 값을 넘겨야 합니다.
+     */
+    public long estimateTokens(AiRequestProcessor<?> processor) {
+        return estimateTokens(processor, processor.buildPrompt());
+    }
+
+    private long estimateTokens(AiRequestProcessor<?> processor, String prompt) {
+        return TokenEstimator.estimate(prompt) + processor.expectedOutputTokens();
+    }
 
     /**
      * 공통 AI 요청을 처리하는 메서드입니다.
      * 프롬프트 생성 및 응답 파싱 로직을 AiRequestProcessor 구현체에 위임합니다.
+     * 같은 프로세서/등급과 모델/프롬프트로 이미 받은 응답이 캐시에 있으면 AI를 호출하지 않습니다.
+     * 허가 시 예약한 토큰은 응답의 실제 사용량으로 정산합니다. (캐시 응답이면 전부 반환)
+     * 호출은 AiRouter가 프로세서의 선호 등급(tier)에 맞는 엔드포인트로 보내고, 실패하면 다른 엔드포인트로 전환합니다.
      *
      * @param processor 프롬프트 생성 및 응답 파싱을 담당하는 프로세서 객체
      * @param <T> 프로세서가 반환하는 타입(List<DTO> 또는 단일 DTO)
@@ -28,12 +80,236 @@ public class AiService {
      */
     public <T> T process(AiRequestProcessor<T> processor) {
         String prompt = processor.buildPrompt(); // 프롬프트 생성
+        long reserved = estimateTokens(processor, prompt);
+
+        if (!aiResponseCache.isEnabled()) {
+            return processor.parseResponse(call(processor, prompt, reserved, new AtomicReference<>()));
+        }
+
+        String cacheKey = aiResponseCache.key(processor, prompt);
+        Optional<String> cached = aiResponseCache.get(cacheKey, processor);
+        if (cached.isPresent()) {
+            try {
+                T result = processor.parseResponse(toChatResponse(cached.get()));
+                admissionScheduler.settleTokens(reserved, 0);
+                return result;
+            } catch (Exception e) {
+                // 파서가 바뀌어 캐시된 응답을 해석할 수 없는 경우 등: 캐시를 버리고 새로 요청
+                log.warn("캐시된 AI 응답 파싱 실패 - 새로 요청: {}", e.getMessage());
+                aiResponseCache.invalidate(cacheKey);
+            }
+        }
+
+        AtomicReference<AiEndpoint> servedBy = new AtomicReference<>();
+        ChatResponse response = call(processor, prompt, reserved, servedBy);
+        T result = processor.parseResponse(response); // AI 응답 파싱
+
+        // 파싱에 성공한 응답만 캐시 (다른 등급으로 전환되어 받은 응답은 키의 모델과 달라 저장하지 않음)
+        String text = text(response);
+        if (text != null && servedBy.get().serves(processor.tier())) {
+            aiResponseCache.put(cacheKey, processor, prompt, text);
+        }
+        return result;
+    }
+
+    /**
+     * 응답이 JSON 배열인 요청을 스트리밍으로 처리합니다.
+     * 배열 원소가 완성되는 즉시 파싱해 onItem으로 넘기므로 응답 전체를 기다리지 않고 다음 작업을 시작할 수 있고,
+     * 응답이 중간에 끊기거나 스트림 오류가 나도 그때까지 완성된 원소는 결과에 남습니다.
+     *
+     * @param processor 프롬프트 생성과 원소 단위 파싱을 담당하는 프로세서 객체
+     * @param onItem 원소가 완성될 때마다 호출되는 콜백
+     * @param <E> 배열 원소 타입
+     * @return 완성된 원소 목록 (processor.completeStream으로 검증된 결과)
+     */
+    public <E> List<E> processStream(StreamingAiRequestProcessor<E> processor, Consumer<E> onItem) {
+        String prompt = processor.buildPrompt();
+        long reserved = estimateTokens(processor, prompt);
+        String cacheKey = aiResponseCache.isEnabled() ? aiResponseCache.key(processor, prompt) : null;
+
+        if (cacheKey != null) {
+            Optional<String> cached = aiResponseCache.get(cacheKey, processor);
+            if (cached.isPresent()) {
+                // 끝까지 완성된 배열인지 먼저 확인 (잘린 캐시를 넘긴 뒤 새로 요청하면 같은 원소가 두 번 전달되므로)
+                JsonArrayStreamParser parser = new JsonArrayStreamParser();
+                List<String> cachedItems = parser.feed(cached.get());
+                if (parser.isComplete()) {
+                    List<E> items = new ArrayList<>();
+                    cachedItems.forEach(json -> emit(processor, json, items, onItem));
+                    admissionScheduler.settleTokens(reserved, 0);
+                    return processor.completeStream(items, true);
+                }
+                log.warn("캐시된 AI 스트리밍 응답이 완성되지 않음 - 새로 요청");
+                aiResponseCache.invalidate(cacheKey);
+            }
+        }
+
+        AtomicReference<AiEndpoint> servedBy = new AtomicReference<>();
+        StreamResult<E> streamed;
+        try {
+            // 완성된 원소가 있으면 stream이 예외 없이 반환하므로, 다른 엔드포인트로의 전환은 원소를 받기 전 실패에서만 일어남
+            streamed = aiRouter.execute(processor.tier(), reserved, endpoint -> {
+                servedBy.set(endpoint);
+                return withStructuredOutput(endpoint, processor, prompt, spec -> stream(spec, processor, onItem));
+            });
+        } catch (RuntimeException e) {
+            admissionScheduler.settleTokens(reserved, TokenEstimator.estimate(prompt)); // 실패한 호출은 입력만 사용한 것으로 봄
+            throw e;
+        }
+        admissionScheduler.settleTokens(reserved, usedTokens(streamed.usage(), prompt, streamed.text()));
+        List<E> result = processor.completeStream(streamed.items(), streamed.complete());
+
+        // 배열이 끝까지 도착하고 선호 등급의 모델이 답한 응답만 캐시
+        if (cacheKey != null && streamed.complete() && servedBy.get().serves(processor.tier())) {
+            aiResponseCache.put(cacheKey, processor, prompt, streamed.text());
+        }
+        return result;
+    }
+
+    private <E> StreamResult<E> stream(ChatClient.ChatClientRequestSpec spec,
+                                       StreamingAiRequestProcessor<E> processor, Consumer<E> onItem) {
+        JsonArrayStreamParser parser = new JsonArrayStreamParser();
+        StringBuilder fullText = new StringBuilder();
+        List<E> items = new ArrayList<>();
+        Usage usage = null;
+
+        try {
+            // 조각은 호출 스레드에서 소비 (onItem의 블로킹 작업이 네트워크 이벤트 루프를 막지 않도록)
+            Iterable<ChatResponse> responses = spec.stream()
+                    .chatResponse()
+                    .toIterable();
+            for (ChatResponse response : responses) {
+                if (hasUsage(response.getMetadata().getUsage())) {
+                    usage = response.getMetadata().getUsage(); // 사용량은 보통 마지막 조각에 포함
+                }
+                String chunk = text(response);
+                if (chunk == null) {
+                    continue;
+                }
+                fullText.append(chunk);
+                parser.feed(chunk).forEach(json -> emit(processor, json, items, onItem));
+            }
+        } catch (Exception e) {
+            if (items.isEmpty()) {
+                throw e;
+            }
+            log.warn("AI 스트리밍 중단 - 완성된 {}개 원소만 사용: {}", items.size(), e.getMessage());
+        }
+        return new StreamResult<>(items, parser.isComplete(), fullText.toString(), usage);
+    }
+
+    private record StreamResult<E>(List<E> items, boolean complete, String text, Usage usage) {
+    }
+
+    // 원소 하나가 깨져도 나머지 원소는 계속 처리
+    private <E> void emit(StreamingAiRequestProcessor<E> processor, String json, List<E> items, Consumer<E> onItem) {
+        E item;
+        try {
+            item = processor.parseItem(json);
+        } catch (Exception e) {
+            log.warn("AI 응답 원소 파싱 실패 - 건너뜀: {}", e.getMessage());
+            return;
+        }
+        items.add(item);
+        onItem.accept(item);
+    }
+
+    // 호출 후 예약한 토큰을 실제 사용량으로 정산. 응답한 엔드포인트는 servedBy에 남김
+    private ChatResponse call(AiRequestProcessor<?> processor, String prompt, long reserved, AtomicReference<AiEndpoint> servedBy) {
+        ChatResponse response;
+        try {
+            response = aiRouter.execute(processor.tier(), reserved, endpoint -> {
+                servedBy.set(endpoint);
+                return withStructuredOutput(endpoint, processor, prompt, spec -> spec.call().chatResponse());
+            });
+        } catch (RuntimeException e) {
+            admissionScheduler.settleTokens(reserved, TokenEstimator.estimate(prompt)); // 실패한 호출은 입력만 사용한 것으로 봄
+            throw e;
+        }
+        admissionScheduler.settleTokens(reserved, usedTokens(response.getMetadata().getUsage(), prompt, text(response)));
+        return response;
+    }
+
+    // 응답의 토큰 사용량. 모델이 알려주지 않으면 프롬프트와 응답 길이로 추정
+    private long usedTokens(Usage usage, String prompt, String text) {
+        if (hasUsage(usage)) {
+            return usage.getTotalTokens();
+        }
+        return TokenEstimator.estimate(prompt) + TokenEstimator.estimate(text);
+    }
+
+    private boolean hasUsage(Usage usage) {
+        return usage != null && usage.getTotalTokens() != null && usage.getTotalTokens() > 0;
+    }
 
-        ChatResponse response = chatClient.prompt(prompt)
-                .call()
-                .chatResponse();
+    private String text(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return null;
+        }
+        return response.getResult().getOutput().getText();
+    }
+
+    /**
+     * 프로세서가 응답 스키마를 제공하면 JSON 스키마 응답 형식을 지정해 요청합니다.
+     * 모델이 응답 형식(스키마) 때문에 요청을 거부(400)하면 스키마 없이 한 번 더 요청하고,
+     * 그 요청이 성공하면 structuredOutputRetryAfter 동안 그 엔드포인트로의 요청에서는 스키마를 생략합니다.
+     * 다른 오류(인증, 한도, 프롬프트 문제 등)는 그대로 던져 AiRouter가 처리합니다.
+     */
+    private <R> R withStructuredOutput(AiEndpoint endpoint, AiRequestProcessor<?> processor, String prompt,
+                                       Function<ChatClient.ChatClientRequestSpec, R> request) {
+        ChatClient chatClient = endpoint.chatClient();
+        String schema = processor.responseSchema();
+        if (schema == null || !structuredOutputEnabled || !endpoint.supportsStructuredOutput(System.nanoTime())) {
+            return request.apply(chatClient.prompt(prompt));
+        }
+
+        OpenAiChatOptions options = OpenAiChatOptions.builder()
+                .responseFormat(ResponseFormat.builder()
+                        .type(ResponseFormat.Type.JSON_SCHEMA)
+                        .jsonSchema(schema)
+                        .build())
+                .build();
+        try {
+            return request.apply(chatClient.prompt(prompt).options(options));
+        } catch (RuntimeException e) {
+            if (!isResponseFormatRejected(e)) {
+                throw e;
+            }
+            log.warn("구조화 출력 요청 거부 - 스키마 없이 재요청: {}", e.getMessage());
+            R result = request.apply(chatClient.prompt(prompt));
+            endpoint.disableStructuredOutput(System.nanoTime(), structuredOutputRetryAfter);
+            log.warn("{} 모델이 구조화 출력을 거부해 {} 동안 응답 스키마를 생략합니다", endpoint.name(), structuredOutputRetryAfter);
+            return result;
+        }
+    }
+
+    // 400 응답이면서 본문이 응답 형식/스키마를 지목하는 경우만 (스트리밍 호출은 WebClientResponseException으로 전달됨)
+    private static boolean isResponseFormatRejected(Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            if (e instanceof WebClientResponseException response) {
+                return response.getStatusCode().value() == 400 && mentionsResponseFormat(response.getResponseBodyAsString());
+            }
+            if (e instanceof NonTransientAiException) {
+                String message = e.getMessage();
+                return message != null && BAD_REQUEST_MESSAGE.matcher(message).find() && mentionsResponseFormat(message);
+            }
+            if (e.getCause() == e) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static boolean mentionsResponseFormat(String body) {
+        if (body == null) {
+            return false;
+        }
+        String lower = body.toLowerCase(Locale.ROOT);
+        return lower.contains("response_format") || lower.contains("schema");
+    }
 
-        return processor.parseResponse(response); // AI 응답 파싱
+    private ChatResponse toChatResponse(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
     }
 
     // 테스트용 메서드로, 실제 서비스에서는 이용되지 않습니다.
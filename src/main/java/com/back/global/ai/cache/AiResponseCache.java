@@ -0,0 +1,151 @@
+package com.back.global.ai.cache;
+
+import com.back.global.ai.processor.AiRequestProcessor;
+import com.back.global.ai.routing.AiRouter;
+import com.back.global.util.TokenEstimator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 프롬프트가 같은 AI 요청의 응답을 재사용하는 2단 캐시입니다.
+ * - 키: 프로세서 종류 + 선호 등급과 그 등급을 제공하는 모델 + temperature + 프롬프트의 SHA-256
+ *   (엔드포인트 설정이 바뀌면 다른 모델의 응답을 재사용하지 않도록 모델을 키에 포함)
+ * - 메모리 계층: 최근 사용 순(LRU)으로 개수 제한
+ * - DB 계층: TTL과 전체 크기 상한으로 정리 (재시작/재배포 후에도 유지)
+ * - 적중/미스 횟수와 절약된 토큰 추정치를 ai.cache.* 지표로 노출합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiResponseCache {
+
+    private final AiResponseCacheStore aiResponseCacheStore;
+    private final MeterRegistry meterRegistry;
+    private final AiRouter aiRouter;
+
+    @Value("${ai.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.cache.memory-max-entries:256}") // 메모리 계층 최대 항목 수
+    private int memoryMaxEntries;
+
+    @Value("${ai.cache.ttl:P7D}") // 이 기간이 지난 응답은 사용하지 않고 삭제
+    private Duration ttl;
+
+    @Value("${ai.cache.max-bytes:52428800}") // DB 계층 전체 크기 상한 (기본 50MB)
+    private long maxBytes;
+
+    @Value("${spring.ai.openai.chat.options.temperature:}")
+    private String temperature;
+
+    private Map<String, MemoryEntry> memory;
+
+    private record MemoryEntry(String response, int estimatedTokens, LocalDateTime createdDate) {
+    }
+
+    @PostConstruct
+    public void init() {
+        memory = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MemoryEntry> eldest) {
+                return size() > memoryMaxEntries;
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 같은 프로세서, 같은 등급과 모델, 같은 프롬프트면 같은 키
+    public String key(AiRequestProcessor<?> processor, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(processor.getClass().getName().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(processor.tier().name().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(String.join(",", aiRouter.models(processor.tier())).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(temperature.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            return HexFormat.of().formatHex(digest.digest(prompt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public Optional<String> get(String key, AiRequestProcessor<?> processor) {
+        String type = processor.getClass().getSimpleName();
+        LocalDateTime notBefore = LocalDateTime.now().minus(ttl);
+
+        MemoryEntry cached = memory.get(key);
+        if (cached != null && !cached.createdDate().isBefore(notBefore)) {
+            recordHit(type, "memory", cached.estimatedTokens());
+            return Optional.of(cached.response());
+        }
+
+        try {
+            Optional<AiResponseCacheEntry> stored = aiResponseCacheStore.find(key, notBefore);
+            if (stored.isPresent()) {
+                AiResponseCacheEntry entry = stored.get();
+                memory.put(key, new MemoryEntry(entry.getResponse(), entry.getEstimatedTokens(), entry.getCreatedDate()));
+                recordHit(type, "persistent", entry.getEstimatedTokens());
+                return Optional.of(entry.getResponse());
+            }
+        } catch (Exception e) {
+            log.warn("AI 응답 캐시 조회 실패 - 캐시 없이 진행: {}", e.getMessage());
+        }
+
+        meterRegistry.counter("ai.cache.miss", "processor", type).increment();
+        return Optional.empty();
+    }
+
+    // 파싱까지 성공한 응답만 저장
+    public void put(String key, AiRequestProcessor<?> processor, String prompt, String response) {
+        int estimatedTokens = TokenEstimator.estimate(prompt) + TokenEstimator.estimate(response);
+        memory.put(key, new MemoryEntry(response, estimatedTokens, LocalDateTime.now()));
+
+        try {
+            aiResponseCacheStore.save(key, processor.getClass().getSimpleName(), response, estimatedTokens);
+        } catch (Exception e) {
+            log.warn("AI 응답 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 파싱에 실패한 캐시 응답은 메모리에서 제거 (DB 항목은 다음 저장 시 교체됨)
+    public void invalidate(String key) {
+        memory.remove(key);
+    }
+
+    @Scheduled(cron = "0 45 4 * * *", zone = "Asia/Seoul")
+    public void evictExpired() {
+        try {
+            int deleted = aiResponseCacheStore.evict(LocalDateTime.now().minus(ttl), maxBytes);
+            log.info("AI 응답 캐시 정리 완료 - 삭제 {}개", deleted);
+        } catch (Exception e) {
+            log.warn("AI 응답 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void recordHit(String type, String tier, int estimatedTokens) {
+        meterRegistry.counter("ai.cache.hit", "processor", type, "tier", tier).increment();
+        meterRegistry.counter("ai.cache.tokens_saved", "processor", type).increment(estimatedTokens);
+    }
+}
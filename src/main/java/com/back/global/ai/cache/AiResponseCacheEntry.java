@@ -0,0 +1,53 @@
+package com.back.global.ai.cache;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+// AI 응답 캐시의 영속 계층 (키 = 프로세서 종류 + 모델 옵션 + 프롬프트의 해시)
+@Entity
+@Getter
+@Table(name = "ai_response_cache", indexes = {
+        @Index(name = "uk_ai_response_cache_key", columnList = "cache_key", unique = true),
+        @Index(name = "idx_ai_response_cache_last_accessed", columnList = "last_accessed_date")
+})
+@NoArgsConstructor
+public class AiResponseCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_key", length = 64, nullable = false)
+    private String cacheKey;
+
+    private String processorType;
+
+    @Lob
+    private String response;
+
+    private int sizeBytes;
+
+    private int estimatedTokens; // 캐시 적중 시 절약되는 토큰 수 (프롬프트 + 응답 추정치)
+
+    private LocalDateTime createdDate;
+
+    private LocalDateTime lastAccessedDate;
+
+    @Builder
+    public AiResponseCacheEntry(String cacheKey, String processorType, String response, int sizeBytes,
+                                int estimatedTokens, LocalDateTime createdDate) {
+        this.cacheKey = cacheKey;
+        this.processorType = processorType;
+        this.response = response;
+        this.sizeBytes = sizeBytes;
+        this.estimatedTokens = estimatedTokens;
+        this.createdDate = createdDate;
+        this.lastAccessedDate = createdDate;
+    }
+}
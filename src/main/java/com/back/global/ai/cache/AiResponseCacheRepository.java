@@ -0,0 +1,38 @@
+package com.back.global.ai.cache;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AiResponseCacheRepository extends JpaRepository<AiResponseCacheEntry, Long> {
+
+    Optional<AiResponseCacheEntry> findByCacheKey(String cacheKey);
+
+    boolean existsByCacheKey(String cacheKey);
+
+    @Modifying
+    @Query("UPDATE AiResponseCacheEntry e SET e.lastAccessedDate = :now WHERE e.cacheKey = :cacheKey")
+    int touch(@Param("cacheKey") String cacheKey, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM AiResponseCacheEntry e WHERE e.createdDate < :cutoff")
+    int deleteByCreatedDateBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT COALESCE(SUM(e.sizeBytes), 0) FROM AiResponseCacheEntry e")
+    long sumSizeBytes();
+
+    // 크기 초과 시 오래 사용되지 않은 순으로 삭제할 대상 [ID, 크기] (응답 본문은 읽지 않음)
+    @Query("SELECT e.id, e.sizeBytes FROM AiResponseCacheEntry e ORDER BY e.lastAccessedDate ASC, e.id ASC")
+    List<Object[]> findLeastRecentlyUsedSizes(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM AiResponseCacheEntry e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,77 @@
+package com.back.global.ai.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AI 응답 캐시의 DB 계층입니다.
+ * 호출한 쪽(배치 등)의 트랜잭션과 분리되도록 쓰기는 별도 트랜잭션으로 수행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiResponseCacheStore {
+
+    private static final int EVICTION_CHUNK = 100;
+
+    private final AiResponseCacheRepository aiResponseCacheRepository;
+
+    // TTL 안의 항목만 반환하고, 반환한 항목은 최근 사용 시각 갱신
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<AiResponseCacheEntry> find(String cacheKey, LocalDateTime notBefore) {
+        Optional<AiResponseCacheEntry> entry = aiResponseCacheRepository.findByCacheKey(cacheKey)
+                .filter(found -> !found.getCreatedDate().isBefore(notBefore));
+        entry.ifPresent(found -> aiResponseCacheRepository.touch(cacheKey, LocalDateTime.now()));
+        return entry;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(String cacheKey, String processorType, String response, int estimatedTokens) {
+        // 만료된 항목이 남아 있으면 교체
+        aiResponseCacheRepository.findByCacheKey(cacheKey).ifPresent(aiResponseCacheRepository::delete);
+        aiResponseCacheRepository.flush();
+
+        aiResponseCacheRepository.save(AiResponseCacheEntry.builder()
+                .cacheKey(cacheKey)
+                .processorType(processorType)
+                .response(response)
+                .sizeBytes(response.getBytes(StandardCharsets.UTF_8).length)
+                .estimatedTokens(estimatedTokens)
+                .createdDate(LocalDateTime.now())
+                .build());
+    }
+
+    // TTL이 지난 항목을 지우고, 전체 크기가 상한을 넘으면 오래 사용되지 않은 항목부터 삭제
+    @Transactional
+    public int evict(LocalDateTime expiredBefore, long maxBytes) {
+        int deleted = aiResponseCacheRepository.deleteByCreatedDateBefore(expiredBefore);
+
+        long totalBytes = aiResponseCacheRepository.sumSizeBytes();
+        while (totalBytes > maxBytes) {
+            List<Object[]> oldest = aiResponseCacheRepository.findLeastRecentlyUsedSizes(PageRequest.of(0, EVICTION_CHUNK));
+            if (oldest.isEmpty()) {
+                break;
+            }
+            List<Long> ids = new ArrayList<>();
+            for (Object[] row : oldest) {
+                if (totalBytes <= maxBytes) {
+                    break;
+                }
+                ids.add((Long) row[0]);
+                totalBytes -= ((Number) row[1]).longValue();
+            }
+            deleted += aiResponseCacheRepository.deleteByIdIn(ids);
+        }
+        return deleted;
+    }
+}
@@ -1,5 +1,6 @@
 package com.back.global.ai.processor;
 
+import com.back.global.ai.routing.AiTier;
 import org.springframework.ai.chat.model.ChatResponse;
 
 /**
@@ -13,4 +14,19 @@ import org.springframework.ai.chat.model.ChatResponse;
 public interface AiRequestProcessor<T> {
     String buildPrompt(); // 요청 프롬프트 생성
     T parseResponse(ChatResponse response); // 응답 파싱
+
+    // 응답 JSON 스키마. 구조화 출력을 지원하는 모델에 함께 전달되며, null이면 프롬프트 지시만 사용
+    default String responseSchema() {
+        return null;
+    }
+
+    // 예상 출력 토큰 수. 호출 전 분당 토큰 한도(TPM)에서 프롬프트 추정치와 함께 예약하고, 호출 후 실제 사용량으로 보정
+    default int expectedOutputTokens() {
+        return 1024;
+    }
+
+    // 선호하는 모델 등급. AiRouter가 이 등급을 제공하는 엔드포인트를 먼저 고름
+    default AiTier tier() {
+        return AiTier.QUALITY;
+    }
 }
@@ -116,4 +116,10 @@ public class DetailQuizProcessor implements AiRequestProcessor<List<DetailQuizDt
         return result;
 
     }
+
+    // 퀴즈 3개 (문제와 선택지 3개씩)
+    @Override
+    public int expectedOutputTokens() {
+        return 600;
+    }
 }
@@ -3,6 +3,7 @@ package com.back.global.ai.processor;
 import com.back.domain.news.fake.dto.FakeNewsDto;
 import com.back.domain.news.real.dto.RealNewsDto;
 import com.back.global.exception.ServiceException;
+import com.back.global.util.TokenEstimator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -166,6 +167,12 @@ public class FakeNewsGeneratorProcessor implements AiRequestProcessor<FakeNewsDt
         }
     }
 
+    // 원문과 비슷한 길이로 작성하도록 요청하므로 원문 본문 토큰 수 + JSON 감싸는 부분
+    @Override
+    public int expectedOutputTokens() {
+        return TokenEstimator.estimate(realNewsDto.content()) + 50;
+    }
+
     private FakeNewsDto createFailureNotice() {
         String failureContent = String.format(
                 "이 뉴스는 AI 생성에 실패하여 자동으로 생성된 안내문입니다. " +
@@ -5,6 +5,7 @@ import com.back.domain.news.common.dto.KeywordGenerationResDto;
 import com.back.domain.news.common.dto.KeywordWithType;
 import com.back.domain.news.common.enums.KeywordType;
 import com.back.domain.news.fake.dto.FakeNewsDto;
+import com.back.global.ai.routing.AiTier;
 import com.back.global.exception.ServiceException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.ai.chat.model.ChatResponse;
@@ -189,6 +190,18 @@ public class KeywordGeneratorProcessor implements AiRequestProcessor<KeywordGene
 
     }
 
+    // 카테고리 5개 x 키워드 몇 개
+    @Override
+    public int expectedOutputTokens() {
+        return 512;
+    }
+
+    // 짧은 키워드 목록이라 빠른 모델로 충분
+    @Override
+    public AiTier tier() {
+        return AiTier.FAST;
+    }
+
     private KeywordGenerationResDto createDefaultCase() {
 
         List<KeywordWithType> societyKeywords = List.of(
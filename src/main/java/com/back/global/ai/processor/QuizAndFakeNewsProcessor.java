@@ -0,0 +1,192 @@
+package com.back.global.ai.processor;
+
+import com.back.domain.news.common.dto.QuizAndFakeNewsDto;
+import com.back.domain.news.fake.dto.FakeNewsDto;
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.quiz.detail.dto.DetailQuizDto;
+import com.back.global.ai.stream.JsonArrayStreamParser;
+import com.back.global.exception.ServiceException;
+import com.back.global.util.TokenEstimator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.model.ChatResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 뉴스 제목과 본문을 한 번만 보내 상세 퀴즈 3개와 가짜 뉴스 본문을 함께 생성하는 AI 요청 Processor 입니다.
+ * 두 결과는 따로 파싱하며, 한쪽만 실패하면 실패한 쪽을 null로 반환해 호출 측에서 그 부분만 다시 요청합니다.
+ * 퀴즈를 먼저 출력하게 해서, 긴 가짜 뉴스 본문에서 응답이 끊겨도 퀴즈는 사용할 수 있습니다.
+ */
+@Slf4j
+public class QuizAndFakeNewsProcessor implements AiRequestProcessor<QuizAndFakeNewsDto> {
+
+    private static final int QUIZ_COUNT = 3;
+    private static final int QUIZ_OUTPUT_TOKENS = 600;
+
+    private static final String RESPONSE_SCHEMA = """
+            {
+              "type": "object",
+              "properties": {
+                "quizzes": {
+                  "type": "array",
+                  "items": {
+                    "type": "object",
+                    "properties": {
+                      "question": { "type": "string" },
+                      "option1": { "type": "string" },
+                      "option2": { "type": "string" },
+                      "option3": { "type": "string" },
+                      "correctOption": { "type": "string", "enum": ["OPTION1", "OPTION2", "OPTION3"] }
+                    },
+                    "required": ["question", "option1", "option2", "option3", "correctOption"]
+                  }
+                },
+                "fakeContent": { "type": "string" }
+              },
+              "required": ["quizzes", "fakeContent"]
+            }
+            """;
+
+    private final RealNewsDto realNewsDto;
+    private final ObjectMapper objectMapper;
+
+    public QuizAndFakeNewsProcessor(RealNewsDto realNewsDto, ObjectMapper objectMapper) {
+        this.realNewsDto = realNewsDto;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String buildPrompt() {
+        int contentLength = realNewsDto.content().length();
+
+        return String.format("""
+                Task: 아래 뉴스로 두 가지 작업을 수행하고 하나의 JSON 객체로 응답하세요.
+
+                === 작업 1. 상세 퀴즈 3개 (quizzes) ===
+                - 뉴스 본문에 명확히 언급된 사실만으로 객관식 퀴즈 3개를 만드세요.
+                - 추론, 상식, 감정적 해석이 필요한 문제는 금지합니다.
+                - 뉴스의 핵심 주제와 중심 내용을 다루고, 지엽적인 내용은 피하세요.
+                - 오답은 본문과 비슷하지만 실제로는 틀린 정보로 구성하세요.
+                - 먼저 ["OPTION1", "OPTION2", "OPTION3"]을 무작위로 섞어 각 퀴즈의 정답 위치를 정한 뒤,
+                  그 위치(option1~3)에 정답이 들어가도록 퀴즈를 만드세요. 세 퀴즈의 정답 위치는 모두 달라야 합니다.
+                - correctOption은 "OPTION1", "OPTION2", "OPTION3" 중 하나의 대문자 문자열입니다.
+
+                === 작업 2. 가짜 뉴스 (fakeContent) ===
+                - **제목만을 바탕으로** 그럴듯한 가짜 뉴스 본문을 창작하세요.
+                - 분량: 반드시 %d자 ± 50자 이내
+                - 원본의 문단 수, 문장 길이, 인용문 형식, 마무리 톤을 모방하되 원본 내용을 복사하지 마세요.
+                - 현실적인 세부사항(날짜, 장소, 인물, 수치)을 포함하고, 비현실적이거나 과장된 내용은 금지합니다.
+                - 제목이나 헤더 없이 첫 문장부터 바로 본문으로 시작하세요.
+                - 문단 구분은 \\n\\n 텍스트로 표현하고, 실제 개행문자는 사용하지 마세요.
+
+                === 응답 형식 ===
+                - JSON 객체 하나만 출력하세요. 코드 블록(```), 설명, 주석은 금지합니다.
+                - quizzes를 먼저, fakeContent를 마지막에 작성하세요.
+                - 내부 따옴표는 \\" 로 이스케이프하세요.
+                {
+                  "quizzes": [
+                    {
+                      "question": "문제 내용",
+                      "option1": "선택지1",
+                      "option2": "선택지2",
+                      "option3": "선택지3",
+                      "correctOption": "OPTION2"
+                    }
+                  ],
+                  "fakeContent": "%d자 ± 50자 이내의 본문"
+                }
+
+                input:
+                {
+                    "title": "%s",
+                    "content": "%s"
+                }
+                """, contentLength, contentLength, cleanText(realNewsDto.title()), cleanText(realNewsDto.content()));
+    }
+
+    // 퀴즈와 가짜 뉴스를 따로 파싱. 둘 다 실패한 경우에만 예외
+    @Override
+    public QuizAndFakeNewsDto parseResponse(ChatResponse response) {
+        String text = response.getResult().getOutput().getText();
+        if (text == null || text.trim().isEmpty()) {
+            throw new ServiceException(500, "AI 응답이 비어있습니다");
+        }
+
+        List<DetailQuizDto> quizzes = parseQuizzes(text);
+        FakeNewsDto fakeNews = parseFakeNews(text);
+
+        if (quizzes == null && fakeNews == null) {
+            throw new ServiceException(500, "AI 응답에서 퀴즈와 가짜 뉴스를 모두 찾을 수 없습니다. 응답: " + text);
+        }
+        if (quizzes == null || fakeNews == null) {
+            log.warn("퀴즈/가짜 뉴스 동시 생성 일부 실패 - 뉴스 ID: {}, 퀴즈: {}, 가짜 뉴스: {}",
+                    realNewsDto.id(), quizzes != null ? "성공" : "실패", fakeNews != null ? "성공" : "실패");
+        }
+        return new QuizAndFakeNewsDto(realNewsDto.id(), quizzes, fakeNews);
+    }
+
+    @Override
+    public String responseSchema() {
+        return RESPONSE_SCHEMA;
+    }
+
+    // 퀴즈 3개 + 원문과 비슷한 길이의 가짜 뉴스 본문
+    @Override
+    public int expectedOutputTokens() {
+        return QUIZ_OUTPUT_TOKENS + TokenEstimator.estimate(realNewsDto.content());
+    }
+
+    // "quizzes" 배열에서 완성된 원소만 꺼냄 (뒤쪽 가짜 뉴스에서 응답이 끊겨도 사용 가능). 3개가 아니면 실패
+    private List<DetailQuizDto> parseQuizzes(String text) {
+        int start = text.indexOf("\"quizzes\"");
+        if (start < 0) {
+            return null;
+        }
+
+        List<DetailQuizDto> quizzes = new ArrayList<>();
+        for (String itemJson : new JsonArrayStreamParser().feed(text.substring(start))) {
+            try {
+                DetailQuizDto quiz = objectMapper.readValue(itemJson, DetailQuizDto.class);
+                if (isBlank(quiz.question()) || isBlank(quiz.option1()) || isBlank(quiz.option2())
+                        || isBlank(quiz.option3()) || quiz.correctOption() == null) {
+                    return null;
+                }
+                quizzes.add(quiz);
+            } catch (Exception e) {
+                log.warn("퀴즈 파싱 실패: {}", e.getMessage());
+                return null;
+            }
+        }
+        return quizzes.size() == QUIZ_COUNT ? quizzes : null;
+    }
+
+    private FakeNewsDto parseFakeNews(String text) {
+        String cleanedJson = text.trim()
+                .replaceAll("(?s)```json\\s*(.*?)\\s*```", "$1")
+                .replaceAll("```", "")
+                .trim();
+        try {
+            JsonNode content = objectMapper.readTree(cleanedJson).get("fakeContent");
+            if (content == null || !content.isTextual() || content.asText().isBlank()) {
+                return null;
+            }
+            return FakeNewsDto.of(realNewsDto.id(), content.asText());
+        } catch (Exception e) {
+            log.warn("가짜 뉴스 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 프롬프트용 텍스트 정리
+    private String cleanText(String text) {
+        if (text == null) return "";
+        return text.replace("\"", "'").trim();
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
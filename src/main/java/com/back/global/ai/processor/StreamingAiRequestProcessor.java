@@ -0,0 +1,20 @@
+package com.back.global.ai.processor;
+
+import java.util.List;
+
+/**
+ * 응답이 JSON 객체 배열인 AI 요청을 스트리밍으로 처리하기 위한 인터페이스입니다.
+ * AiService.processStream은 배열 원소가 완성될 때마다 parseItem으로 변환해 바로 전달하고,
+ * 스트림이 끝나면 completeStream으로 전체 결과를 검증합니다.
+ *
+ * @param <E> 배열 원소 하나를 파싱한 타입
+ */
+public interface StreamingAiRequestProcessor<E> extends AiRequestProcessor<List<E>> {
+
+    E parseItem(String itemJson); // 배열 원소(JSON 객체) 하나 파싱
+
+    // 스트림 종료 시 호출. complete가 false면 응답이 중간에 끊긴 것
+    default List<E> completeStream(List<E> items, boolean complete) {
+        return items;
+    }
+}
@@ -0,0 +1,120 @@
+package com.back.global.ai.routing;
+
+import io.github.bucket4j.Bucket;
+import org.springframework.ai.chat.client.ChatClient;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * AI 호출을 보낼 수 있는 엔드포인트(API 키 + 모델) 하나와 최근 상태입니다.
+ * - 분당 요청 수/토큰 수 버킷은 엔드포인트를 고를 때 남은 한도를 비교하기 위한 이 인스턴스의 추정치입니다.
+ *   (실제 허가는 AiAdmissionScheduler가 전체 한도로 수행)
+ * - 지연 시간과 오류율은 지수 이동 평균으로 유지하고, 연속으로 실패하면 대기 시간을 두 배씩 늘려 잠시 제외합니다.
+ */
+public class AiEndpoint {
+
+    private static final double EWMA_WEIGHT = 0.2; // 최근 호출의 반영 비율
+
+    private final String name;
+    private final String model;
+    private final Set<AiTier> tiers;
+    private final ChatClient chatClient;
+    private final long tokensPerMinute;
+    private final Bucket requestBucket;
+    private final Bucket tokenBucket;
+
+    private double latencyMillis;
+    private double errorRate;
+    private int consecutiveFailures;
+    private long unavailableUntilNanos;
+    private boolean structuredOutputDisabled; // 모델이 스키마 요청을 거부하면 structuredOutputRetryAtNanos까지 프롬프트 지시만 사용
+    private long structuredOutputRetryAtNanos;
+
+    public AiEndpoint(String name, String model, Set<AiTier> tiers, ChatClient chatClient,
+                      long requestsPerMinute, long tokensPerMinute) {
+        this.name = name;
+        this.model = model;
+        this.tiers = tiers;
+        this.chatClient = chatClient;
+        this.tokensPerMinute = tokensPerMinute;
+        this.requestBucket = Bucket.builder()
+                .addLimit(limit -> limit.capacity(requestsPerMinute).refillGreedy(requestsPerMinute, Duration.ofMinutes(1)))
+                .build();
+        this.tokenBucket = Bucket.builder()
+                .addLimit(limit -> limit.capacity(tokensPerMinute).refillGreedy(tokensPerMinute, Duration.ofMinutes(1)))
+                .build();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String model() {
+        return model;
+    }
+
+    public ChatClient chatClient() {
+        return chatClient;
+    }
+
+    public synchronized boolean supportsStructuredOutput(long nowNanos) {
+        return !structuredOutputDisabled || structuredOutputRetryAtNanos - nowNanos <= 0;
+    }
+
+    // 모델 설정이 바뀔 수 있으므로 영구히 끄지 않고 ttl 뒤에 다시 시도
+    public synchronized void disableStructuredOutput(long nowNanos, Duration ttl) {
+        structuredOutputDisabled = true;
+        structuredOutputRetryAtNanos = nowNanos + ttl.toNanos();
+    }
+
+    public boolean serves(AiTier tier) {
+        return tiers.contains(tier);
+    }
+
+    // 이번 분의 남은 한도로 이 호출을 보낼 수 있는지 (차감하지 않음)
+    public boolean hasQuota(long tokens) {
+        return requestBucket.getAvailableTokens() >= 1
+                && tokenBucket.getAvailableTokens() >= Math.min(tokens, tokensPerMinute);
+    }
+
+    // 선택된 호출의 예상 사용량을 차감 (한도를 넘으면 이후 선택에서 뒤로 밀림)
+    public void charge(long tokens) {
+        requestBucket.consumeIgnoringRateLimits(1);
+        if (tokens > 0) {
+            tokenBucket.consumeIgnoringRateLimits(tokens);
+        }
+    }
+
+    public synchronized boolean isCoolingDown(long nowNanos) {
+        return unavailableUntilNanos - nowNanos > 0;
+    }
+
+    // 낮을수록 우선. 오류가 잦은 엔드포인트는 지연 시간을 부풀려 평가
+    public synchronized double score() {
+        return latencyMillis * (1 + 4 * errorRate);
+    }
+
+    public synchronized double latencyMillis() {
+        return latencyMillis;
+    }
+
+    public synchronized double errorRate() {
+        return errorRate;
+    }
+
+    public synchronized void recordSuccess(long latencyNanos) {
+        double millis = latencyNanos / 1_000_000.0;
+        latencyMillis = latencyMillis == 0 ? millis : latencyMillis + EWMA_WEIGHT * (millis - latencyMillis);
+        errorRate -= EWMA_WEIGHT * errorRate;
+        consecutiveFailures = 0;
+        unavailableUntilNanos = 0;
+    }
+
+    public synchronized void recordFailure(long nowNanos, Duration cooldown, Duration maxCooldown) {
+        errorRate += EWMA_WEIGHT * (1 - errorRate);
+        consecutiveFailures++;
+        long backoff = cooldown.toNanos() << Math.min(consecutiveFailures - 1, 20);
+        unavailableUntilNanos = nowNanos + Math.min(backoff, maxCooldown.toNanos());
+    }
+}
@@ -0,0 +1,167 @@
+package com.back.global.ai.routing;
+
+import com.back.global.exception.ServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 여러 AI 엔드포인트(API 키 + 모델) 중 호출을 보낼 곳을 고르고, 실패하면 다른 엔드포인트로 전환합니다.
+ * 고르는 순서: 실패 후 대기 중이 아닌지 → 선호 등급 제공 여부 → 이번 분의 남은 한도 → 최근 지연 시간/오류율 점수
+ * 대기 중이거나 한도가 찬 엔드포인트도 마지막 후보로는 남겨 두어, 엔드포인트가 없어서 실패하지는 않게 합니다.
+ * 지표: ai.routing.calls(endpoint, outcome), ai.routing.latency(endpoint), ai.routing.error_rate(endpoint)
+ */
+@Slf4j
+public class AiRouter {
+
+    // 동기 호출의 4xx는 NonTransientAiException("{상태} - {응답 본문}")으로 변환되어 전달됨
+    private static final Pattern STATUS_MESSAGE = Pattern.compile("^(?:HTTP\\s*)?(\\d{3})\\b");
+
+    private final List<AiEndpoint> endpoints;
+    private final Duration failureCooldown;
+    private final Duration maxCooldown;
+    private final MeterRegistry meterRegistry;
+
+    public AiRouter(List<AiEndpoint> endpoints, Duration failureCooldown, Duration maxCooldown, MeterRegistry meterRegistry) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("AI 엔드포인트가 하나 이상 필요합니다.");
+        }
+        this.endpoints = List.copyOf(endpoints);
+        this.failureCooldown = failureCooldown;
+        this.maxCooldown = maxCooldown;
+        this.meterRegistry = meterRegistry;
+
+        for (AiEndpoint endpoint : this.endpoints) {
+            Gauge.builder("ai.routing.error_rate", endpoint, AiEndpoint::errorRate)
+                    .tag("endpoint", endpoint.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<AiEndpoint> endpoints() {
+        return endpoints;
+    }
+
+    // 이 등급을 제공하는 엔드포인트의 모델 (이름순, 중복 제외)
+    public List<String> models(AiTier tier) {
+        return endpoints.stream()
+                .filter(endpoint -> endpoint.serves(tier))
+                .map(AiEndpoint::model)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 고른 엔드포인트로 호출하고, 다른 엔드포인트에서는 성공할 수 있는 오류(isFailoverable)면
+     * 아직 시도하지 않은 다음 엔드포인트로 다시 호출합니다. 그 밖의 오류는 바로 던집니다.
+     * 모든 엔드포인트가 실패하면 마지막 예외를 그대로 던집니다.
+     *
+     * @param tier   프로세서가 선호하는 모델 등급
+     * @param tokens 호출의 예상 토큰 수 (엔드포인트별 남은 한도 비교에 사용)
+     */
+    public <R> R execute(AiTier tier, long tokens, Function<AiEndpoint, R> call) {
+        List<AiEndpoint> tried = new ArrayList<>();
+        RuntimeException lastError = null;
+
+        while (tried.size() < endpoints.size()) {
+            AiEndpoint endpoint = select(tier, tokens, tried);
+            tried.add(endpoint);
+            endpoint.charge(tokens);
+
+            long start = System.nanoTime();
+            try {
+                R result = call.apply(endpoint);
+                long elapsed = System.nanoTime() - start;
+                endpoint.recordSuccess(elapsed);
+                record(endpoint, "success", elapsed);
+                return result;
+            } catch (RuntimeException e) {
+                long now = System.nanoTime();
+                if (!isFailoverable(e)) {
+                    // 요청 자체의 문제라 엔드포인트를 뒤로 미루지 않음
+                    record(endpoint, "rejected", now - start);
+                    throw e;
+                }
+                endpoint.recordFailure(now, failureCooldown, maxCooldown);
+                record(endpoint, "failure", now - start);
+                log.warn("AI 엔드포인트 {} 호출 실패 ({}회째 시도): {}", endpoint.name(), tried.size(), e.getMessage());
+                lastError = e;
+            }
+        }
+        throw lastError != null ? lastError : new ServiceException(503, "사용 가능한 AI 엔드포인트가 없습니다.");
+    }
+
+    /**
+     * 다른 엔드포인트로 보내면 성공할 수 있는 오류인지 판단합니다.
+     * - 전환: 한도 초과(429), 요청 시간 초과(408), 서버 오류(5xx), 연결 실패/응답 시간 초과
+     * - 전환하지 않음: 그 밖의 4xx(잘못된 요청, 인증 등)와 알 수 없는 오류 (어느 엔드포인트로 보내도 같은 결과)
+     */
+    static boolean isFailoverable(Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            if (e instanceof TransientAiException) {
+                return true;
+            }
+            if (e instanceof NonTransientAiException) {
+                Matcher matcher = STATUS_MESSAGE.matcher(e.getMessage() == null ? "" : e.getMessage());
+                return matcher.find() && isRetryableStatus(Integer.parseInt(matcher.group(1)));
+            }
+            if (e instanceof WebClientResponseException response) {
+                return isRetryableStatus(response.getStatusCode().value());
+            }
+            if (e instanceof RestClientResponseException response) {
+                return isRetryableStatus(response.getStatusCode().value());
+            }
+            if (e instanceof WebClientRequestException || e instanceof ResourceAccessException
+                    || e instanceof IOException || e instanceof TimeoutException) {
+                return true;
+            }
+            if (e.getCause() == e) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRetryableStatus(int status) {
+        return status == 408 || status == 429 || status >= 500;
+    }
+
+    // 아직 시도하지 않은 엔드포인트 중 가장 앞 순위
+    private AiEndpoint select(AiTier tier, long tokens, List<AiEndpoint> excluded) {
+        long now = System.nanoTime();
+        return endpoints.stream()
+                .filter(endpoint -> !excluded.contains(endpoint))
+                .min(Comparator.<AiEndpoint, Boolean>comparing(endpoint -> endpoint.isCoolingDown(now))
+                        .thenComparing(endpoint -> !endpoint.serves(tier))
+                        .thenComparing(endpoint -> !endpoint.hasQuota(tokens))
+                        .thenComparingDouble(AiEndpoint::score))
+                .orElseThrow();
+    }
+
+    private void record(AiEndpoint endpoint, String outcome, long elapsedNanos) {
+        meterRegistry.counter("ai.routing.calls", "endpoint", endpoint.name(), "outcome", outcome).increment();
+        Timer.builder("ai.routing.latency")
+                .tag("endpoint", endpoint.name())
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
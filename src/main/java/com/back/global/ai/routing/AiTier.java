@@ -0,0 +1,7 @@
+package com.back.global.ai.routing;
+
+// 프로세서가 선호하는 모델 등급. 해당 등급을 제공하는 엔드포인트를 먼저 고르고, 모두 사용할 수 없으면 다른 등급으로 전환
+public enum AiTier {
+    FAST,    // 빠르고 저렴한 모델 (뉴스 점수화, 키워드 생성처럼 출력이 짧은 작업)
+    QUALITY  // 더 강한 모델 (퀴즈, 가짜 뉴스 생성)
+}
@@ -0,0 +1,86 @@
+package com.back.global.ai.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍으로 조각조각 도착하는 AI 응답에서 최상위 JSON 배열의 객체 원소를 완성되는 즉시 꺼내는 파서입니다.
+ * - 배열 시작('[') 앞의 텍스트(```json 코드 블록 표시 등)는 무시합니다.
+ * - 문자열 안의 괄호와 이스케이프를 구분해 객체의 닫는 중괄호가 도착한 시점에 원소 하나를 반환합니다.
+ * - 응답이 중간에 끊겨도 그때까지 완성된 원소는 이미 반환된 상태입니다.
+ */
+public class JsonArrayStreamParser {
+
+    private final StringBuilder current = new StringBuilder();
+
+    private boolean inArray;
+    private boolean complete;
+    private int depth;          // 배열 원소 내부의 중첩 깊이 (0이면 원소 사이)
+    private boolean inString;
+    private boolean escaped;
+
+    // 새로 도착한 조각을 처리하고, 이번 조각으로 완성된 원소(JSON 객체 문자열)들을 반환
+    public List<String> feed(CharSequence chunk) {
+        List<String> completed = new ArrayList<>();
+        if (chunk == null || complete) {
+            return completed;
+        }
+
+        for (int i = 0; i < chunk.length(); i++) {
+            char c = chunk.charAt(i);
+
+            if (!inArray) {
+                if (c == '[') {
+                    inArray = true;
+                }
+                continue;
+            }
+
+            if (depth == 0) {
+                // 원소 사이: 쉼표/공백은 건너뛰고, 객체 시작 또는 배열 끝만 처리
+                if (c == '{') {
+                    depth = 1;
+                    current.setLength(0);
+                    current.append(c);
+                } else if (c == ']') {
+                    complete = true;
+                    break;
+                }
+                continue;
+            }
+
+            current.append(c);
+
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> inString = true;
+                case '{', '[' -> depth++;
+                case '}', ']' -> {
+                    depth--;
+                    if (depth == 0) {
+                        completed.add(current.toString());
+                        current.setLength(0);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return completed;
+    }
+
+    // 배열의 닫는 대괄호까지 도착했는지 (false면 응답이 잘린 것)
+    public boolean isComplete() {
+        return complete;
+    }
+}
@@ -12,7 +12,7 @@ public class SchedulerConfig {
     @Bean
     public TaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(2);
+        scheduler.setPoolSize(3); // 일일 배치 실행 중에도 생성 작업 조회가 밀리지 않도록
         scheduler.setThreadNamePrefix("keep-alive-");
         scheduler.initialize();
         return scheduler;
@@ -0,0 +1,9 @@
+package com.back.global.async;
+
+public record AsyncJobDto<T>(
+        String jobId,
+        AsyncJobStatus status,
+        T result,
+        String error
+) {
+}
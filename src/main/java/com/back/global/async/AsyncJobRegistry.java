@@ -0,0 +1,125 @@
+package com.back.global.async;
+
+import com.back.global.exception.ServiceException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 스레드에서 기다리지 않고 처리하는 작업(퀴즈 재생성 등)에 작업 ID를 붙여 상태를 조회할 수 있게 합니다.
+ * - 작업은 이 인스턴스의 메모리에만 있으므로, 조회는 작업을 받은 인스턴스에서만 가능하고 재시작하면 사라집니다.
+ * - 여러 인스턴스로 배포하면 작업 ID 앞에 인스턴스 ID(async-job.instance-id)를 붙이고,
+ *   다른 인스턴스의 작업 조회는 {@link #findOtherInstance}로 찾아 그 인스턴스로 다시 보냅니다. (Fly.io fly-replay)
+ * - 등록 후 async-job.retention이 지난 작업은 끝난 뒤 정리합니다.
+ */
+@Slf4j
+@Component
+public class AsyncJobRegistry {
+
+    // 인스턴스 ID는 Fly.io 머신 ID 형식(16진수)만 허용
+    private static final Pattern INSTANCE_ID = Pattern.compile("[0-9a-f]{1,32}");
+    // 인스턴스 ID가 붙은 작업 ID: {인스턴스 ID}.{UUID}
+    private static final Pattern INSTANCE_JOB_ID = Pattern.compile(
+            "(" + INSTANCE_ID.pattern() + ")\\.[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+    private final ConcurrentHashMap<String, Job<?>> jobs = new ConcurrentHashMap<>();
+
+    @Value("${async-job.retention:PT10M}") // 끝난 작업의 결과 보관 기간
+    private Duration retention;
+
+    @Value("${async-job.max-wait:PT30S}") // 롱 폴링 최대 대기 시간
+    private Duration maxWait;
+
+    @Value("${async-job.instance-id:}") // 작업 ID에 붙이는 이 인스턴스의 ID. 비어 있으면 단일 인스턴스로 봄
+    private String instanceId;
+
+    @PostConstruct
+    public void validateConfig() {
+        if (!instanceId.isBlank() && !INSTANCE_ID.matcher(instanceId).matches()) {
+            throw new IllegalArgumentException("async-job.instance-id는 16진수 32자 이하여야 합니다. 값: " + instanceId);
+        }
+    }
+
+    private record Job<T>(String type, CompletableFuture<T> future, Instant createdAt) {
+    }
+
+    /**
+     * 작업을 등록하고 ID를 발급합니다.
+     *
+     * @param type 작업 종류 (조회 시 다른 종류의 작업 ID를 거르는 데 사용)
+     */
+    public <T> AsyncJobDto<T> submit(String type, CompletableFuture<T> future) {
+        String jobId = instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId + "." + UUID.randomUUID();
+        Job<T> job = new Job<>(type, future, Instant.now());
+        jobs.put(jobId, job);
+        return snapshot(jobId, job);
+    }
+
+    /**
+     * 다른 인스턴스에 등록된 작업이면 그 인스턴스의 ID를 반환합니다.
+     * 단일 인스턴스이거나 작업 ID가 발급 형식이 아니면(클라이언트가 임의로 만든 값 등) 다시 보내지 않습니다.
+     */
+    public Optional<String> findOtherInstance(String jobId) {
+        if (instanceId.isBlank() || jobs.containsKey(jobId)) {
+            return Optional.empty();
+        }
+        Matcher matcher = INSTANCE_JOB_ID.matcher(jobId);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String owner = matcher.group(1);
+        return owner.equals(instanceId) ? Optional.empty() : Optional.of(owner);
+    }
+
+    /**
+     * 작업 상태를 조회합니다. waitSeconds가 있으면 작업이 끝나거나 그 시간이 지날 때까지 스레드를 점유하지 않고 기다립니다.
+     */
+    public CompletableFuture<AsyncJobDto<?>> poll(String type, String jobId, long waitSeconds) {
+        Job<?> job = jobs.get(jobId);
+        if (job == null || !job.type().equals(type)) {
+            throw new ServiceException(404, "해당 id의 작업이 존재하지 않습니다. id: " + jobId);
+        }
+        if (waitSeconds <= 0 || job.future().isDone()) {
+            return CompletableFuture.completedFuture(snapshot(jobId, job));
+        }
+
+        long waitMillis = Math.min(TimeUnit.SECONDS.toMillis(waitSeconds), maxWait.toMillis());
+        return job.future().copy()
+                .handle((result, error) -> (Void) null)
+                .completeOnTimeout(null, waitMillis, TimeUnit.MILLISECONDS)
+                .thenApply(ignored -> snapshot(jobId, job));
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictFinished() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.entrySet().removeIf(entry -> entry.getValue().future().isDone() && entry.getValue().createdAt().isBefore(cutoff));
+    }
+
+    private <T> AsyncJobDto<T> snapshot(String jobId, Job<T> job) {
+        CompletableFuture<T> future = job.future();
+        if (!future.isDone()) {
+            return new AsyncJobDto<>(jobId, AsyncJobStatus.RUNNING, null, null);
+        }
+        try {
+            return new AsyncJobDto<>(jobId, AsyncJobStatus.SUCCEEDED, future.join(), null);
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return new AsyncJobDto<>(jobId, AsyncJobStatus.FAILED, null, cause.getMessage());
+        }
+    }
+}
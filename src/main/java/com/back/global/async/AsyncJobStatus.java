@@ -0,0 +1,7 @@
+package com.back.global.async;
+
+public enum AsyncJobStatus {
+    RUNNING,   // 진행 중
+    SUCCEEDED, // 완료 (result에 결과)
+    FAILED     // 실패 (error에 사유)
+}
@@ -0,0 +1,90 @@
+package com.back.global.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 같은 (프로세서 종류, 엔티티 ID)의 작업이 진행 중이면 새로 시작하지 않고 진행 중인 결과를 함께 받게 합니다.
+ * - 호출마다 진행 중인 future의 사본을 반환하므로, 한 호출자가 취소해도 다른 호출자와 작업에는 영향이 없습니다.
+ * - 작업이 끝나면(성공/실패 모두) 키를 지워 다음 호출은 새로 시작합니다.
+ * - 작업마다 호출자들이 공유하는 상태(호출 우선순위 등)를 둘 수 있고, 합류한 호출자는 그 상태를 바꿀 수 있습니다.
+ * - 지표: single_flight.calls(type, outcome=started|joined)
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Key, Flight<?, ?>> inFlight = new ConcurrentHashMap<>();
+
+    private record Key(Class<?> type, Object id) {
+    }
+
+    private record Flight<S, T>(CompletableFuture<T> future, S state) {
+    }
+
+    /**
+     * @param type 작업을 구분하는 프로세서 종류
+     * @param id   작업 대상 엔티티 ID
+     * @param task 진행 중인 작업이 없을 때만 호출되어 작업을 시작하는 함수
+     */
+    public <T> CompletableFuture<T> run(Class<?> type, Object id, Supplier<CompletableFuture<T>> task) {
+        return run(type, id, null, running -> {
+        }, state -> task.get());
+    }
+
+    /**
+     * 호출자들이 공유하는 상태와 함께 작업을 실행합니다.
+     * 같은 키로 상태 없이 시작한 작업에 합류하면 onJoin은 호출되지 않습니다.
+     *
+     * @param state  새로 시작할 때 작업에 넘길 상태 (진행 중인 작업에 합류하면 버려짐)
+     * @param onJoin 진행 중인 작업에 합류했을 때 그 작업의 상태로 호출되는 함수
+     * @param task   진행 중인 작업이 없을 때만 state로 호출되어 작업을 시작하는 함수
+     */
+    @SuppressWarnings("unchecked")
+    public <S, T> CompletableFuture<T> run(Class<?> type, Object id, S state, Consumer<S> onJoin,
+                                           Function<S, CompletableFuture<T>> task) {
+        Key key = new Key(type, id);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Flight<S, T> flight = new Flight<>(future, state);
+        Flight<S, T> running = (Flight<S, T>) inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            record(type, "joined");
+            if (running.state() != null) {
+                onJoin.accept(running.state());
+            }
+            return running.future().copy();
+        }
+
+        record(type, "started");
+        future.whenComplete((result, error) -> inFlight.remove(key, flight));
+        try {
+            task.apply(state).whenComplete((result, error) -> {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future.copy();
+    }
+
+    // 진행 중인지 확인 (테스트/모니터링용)
+    public boolean isInFlight(Class<?> type, Object id) {
+        return inFlight.containsKey(new Key(type, id));
+    }
+
+    private void record(Class<?> type, String outcome) {
+        meterRegistry.counter("single_flight.calls", "type", type.getSimpleName(), "outcome", outcome).increment();
+    }
+}
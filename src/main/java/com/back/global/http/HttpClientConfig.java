@@ -0,0 +1,112 @@
+package com.back.global.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 HTTP 호출(네이버 검색 API, 기사 크롤링, 헬스체크 ping)이 함께 쓰는 커넥션 풀 기반 클라이언트 설정입니다.
+ * - 호스트(route)별 keep-alive 커넥션을 재사용하고, 연결/응답 타임아웃을 명시합니다.
+ * - gzip/deflate 응답은 클라이언트가 자동으로 요청하고 해제합니다.
+ * - 풀 사용량은 httpcomponents.httpclient.pool.* 지표로,
+ *   RestTemplate 호출 지연은 http.client.requests 지표(client.name = 호스트)로 노출됩니다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${http-client.max-total:50}") // 전체 커넥션 수 상한
+    private int maxTotal;
+
+    @Value("${http-client.max-per-route:10}") // 호스트별 커넥션 수 상한
+    private int maxPerRoute;
+
+    @Value("${http-client.connect-timeout:3000}") // 연결 타임아웃(ms)
+    private long connectTimeout;
+
+    @Value("${http-client.read-timeout:10000}") // 응답 대기 타임아웃(ms)
+    private long readTimeout;
+
+    @Value("${http-client.connection-request-timeout:5000}") // 풀에서 커넥션을 빌릴 때 대기 시간(ms)
+    private long connectionRequestTimeout;
+
+    @Value("${http-client.idle-evict:30000}") // 유휴 커넥션 정리 주기(ms)
+    private long idleEvict;
+
+    @Value("${http-client.time-to-live:300000}") // 커넥션 최대 수명(ms)
+    private long timeToLive;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpConnectionManager(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO) // 최근 사용한 커넥션 우선 재사용 → 유휴 커넥션이 자연스럽게 만료
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .setTimeToLive(TimeValue.ofMilliseconds(timeToLive))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "outbound").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(httpConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .build())
+                .setRetryStrategy(new IoOnlyRetryStrategy())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvict))
+                .build();
+    }
+
+    /**
+     * 끊긴 keep-alive 커넥션 등 I/O 오류만 한 번 다시 보냅니다.
+     * 기본 전략은 429/503 응답도 Retry-After만큼 요청 스레드에서 잠든 뒤 재시도하는데,
+     * 크롤러는 호스트별 간격/backoff(HostPoliteness)로, 검색 API는 호출 한도로 직접 처리하므로 상태 코드 재시도는 하지 않습니다.
+     */
+    static class IoOnlyRetryStrategy extends DefaultHttpRequestRetryStrategy {
+        IoOnlyRetryStrategy() {
+            super(1, TimeValue.ofSeconds(1));
+        }
+
+        @Override
+        public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+            return false;
+        }
+    }
+
+    // RestTemplateBuilder를 거쳐야 http.client.requests 관측(지연 시간 지표)이 자동으로 붙음
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.back.global.jobqueue;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * DB에 저장되는 생성 작업 한 건입니다. 재시작해도 남아 있고, 여러 인스턴스가 나눠서 실행합니다.
+ * 작업자는 가져갈 때 attempts를 올리고 lockedUntil까지 실행을 맡습니다.
+ * 그 시각이 지나도록 끝내지 못하면(프로세스 종료 등) 다른 작업자가 다시 가져가며,
+ * 늦게 끝난 이전 작업자의 결과는 attempts가 달라 반영되지 않습니다.
+ */
+@Entity
+@Getter
+@Table(name = "generation_job", indexes = {
+        @Index(name = "idx_generation_job_claim", columnList = "type, status, next_run_at"),
+        @Index(name = "idx_generation_job_target", columnList = "type, target_id")
+})
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor
+public class GenerationJob {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private GenerationJobType type;
+
+    @Column(name = "target_id")
+    private Long targetId; // 작업 대상 ID (작업 종류별 의미는 GenerationJobType 참고)
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private GenerationJobStatus status;
+
+    private int attempts; // 가져간 횟수 (실행 중인 작업자 확인용)
+
+    @Column(columnDefinition = "integer default 0 not null")
+    private int deferrals; // 선행 작업을 기다리느라 미룬 횟수 (최대 시도 횟수와 backoff 계산에서 제외)
+
+    @Column(name = "next_run_at")
+    private LocalDateTime nextRunAt;
+
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 100)
+    private String lockedBy;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdDate;
+
+    @LastModifiedDate
+    private LocalDateTime modifiedDate;
+
+    public GenerationJob(GenerationJobType type, Long targetId, LocalDateTime runAt) {
+        this.type = type;
+        this.targetId = targetId;
+        this.status = GenerationJobStatus.PENDING;
+        this.nextRunAt = runAt;
+    }
+
+    public void claim(String workerId, LocalDateTime lockedUntil) {
+        this.status = GenerationJobStatus.RUNNING;
+        this.attempts++;
+        this.lockedBy = workerId;
+        this.lockedUntil = lockedUntil;
+    }
+
+    // 가져간 이후 다른 작업자가 다시 가져가지 않았는지 확인
+    public boolean isClaimedBy(String workerId, int attempt) {
+        return status == GenerationJobStatus.RUNNING && attempts == attempt && workerId.equals(lockedBy);
+    }
+
+    public void extendLock(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public void succeed() {
+        this.status = GenerationJobStatus.SUCCEEDED;
+        this.lockedBy = null;
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    // 미룬 횟수를 뺀 실제 시도 횟수
+    public int getFailedAttempts() {
+        return attempts - deferrals;
+    }
+
+    /**
+     * 실패를 기록합니다. 최대 시도 횟수 전이면 backoff 뒤에 다시 실행하고, 넘으면 FAILED로 남깁니다.
+     */
+    public void fail(String message, int maxAttempts, Duration backoff, LocalDateTime now) {
+        this.lastError = truncate(message);
+        this.lockedBy = null;
+        this.lockedUntil = null;
+        if (getFailedAttempts() >= maxAttempts) {
+            this.status = GenerationJobStatus.FAILED;
+            return;
+        }
+        this.status = GenerationJobStatus.PENDING;
+        this.nextRunAt = now.plus(backoff);
+    }
+
+    // 선행 작업을 기다리도록 delay 뒤로 미룸. 시도 횟수에 넣지 않음
+    public void defer(String message, Duration delay, LocalDateTime now) {
+        this.lastError = truncate(message);
+        this.lockedBy = null;
+        this.lockedUntil = null;
+        this.deferrals++;
+        this.status = GenerationJobStatus.PENDING;
+        this.nextRunAt = now.plus(delay);
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    // n번째 실패 후 기다릴 시간: base * 2^(n-1), 최대 max
+    public static Duration backoff(int attempts, Duration base, Duration max) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = base.multipliedBy(1L << exponent);
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+}
@@ -0,0 +1,14 @@
+package com.back.global.jobqueue;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 작업 종류 하나를 실행합니다. 반환한 future가 예외로 끝나면 backoff 뒤에 다시 실행하므로
+ * 같은 대상으로 여러 번 실행되어도 결과가 같도록 작성합니다.
+ */
+public interface GenerationJobHandler {
+
+    GenerationJobType type();
+
+    CompletableFuture<Void> handle(long targetId);
+}
@@ -0,0 +1,12 @@
+package com.back.global.jobqueue;
+
+/**
+ * 선행 작업이 아직 끝나지 않아 지금은 실행할 수 없음을 알립니다.
+ * 작업자는 이 예외로 끝난 작업을 시도 횟수에 넣지 않고 generation-job.not-ready-delay 뒤로 미룹니다.
+ */
+public class GenerationJobNotReadyException extends RuntimeException {
+
+    public GenerationJobNotReadyException(String message) {
+        super(message);
+    }
+}
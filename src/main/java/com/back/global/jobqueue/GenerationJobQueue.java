@@ -0,0 +1,140 @@
+package com.back.global.jobqueue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * generation_job 테이블의 읽기/쓰기입니다.
+ * - enqueue는 호출한 쪽의 트랜잭션에 함께 묶여, 원본 데이터가 커밋될 때만 작업이 남습니다 (outbox).
+ * - 가져가기/결과 기록은 별도 트랜잭션으로 짧게 수행하고, 행 잠금은 가져가는 동안만 유지합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GenerationJobQueue {
+
+    private static final List<GenerationJobStatus> ACTIVE = List.of(GenerationJobStatus.PENDING, GenerationJobStatus.RUNNING);
+    private static final List<GenerationJobStatus> FINISHED = List.of(GenerationJobStatus.SUCCEEDED, GenerationJobStatus.FAILED);
+
+    private final GenerationJobRepository generationJobRepository;
+
+    // 작업자가 가져간 작업. attempt가 다르면 이미 다른 작업자가 다시 가져간 것
+    public record ClaimedJob(long id, GenerationJobType type, long targetId, int attempt) {
+    }
+
+    /**
+     * 대상마다 작업을 추가합니다. 같은 대상의 작업이 대기/실행 중이면 추가하지 않습니다.
+     *
+     * @param delay 첫 실행까지 기다릴 시간 (선행 작업이 끝난 뒤 실행하는 작업용)
+     */
+    @Transactional
+    public void enqueue(GenerationJobType type, Collection<Long> targetIds, Duration delay) {
+        if (targetIds.isEmpty()) {
+            return;
+        }
+        Set<Long> active = new HashSet<>(generationJobRepository.findTargetIds(type, targetIds, ACTIVE));
+        LocalDateTime runAt = LocalDateTime.now().plus(delay);
+        List<GenerationJob> jobs = targetIds.stream()
+                .distinct()
+                .filter(targetId -> !active.contains(targetId))
+                .map(targetId -> new GenerationJob(type, targetId, runAt))
+                .toList();
+        generationJobRepository.saveAll(jobs);
+        log.info("생성 작업 추가 - 종류: {}, {}개 (대기 중인 {}개 제외)", type, jobs.size(), active.size());
+    }
+
+    @Transactional
+    public void enqueue(GenerationJobType type, Collection<Long> targetIds) {
+        enqueue(type, targetIds, Duration.ZERO);
+    }
+
+    // 실행할 차례인 작업을 최대 limit개 가져가 lockFor 동안 실행을 맡음
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<ClaimedJob> claim(GenerationJobType type, int limit, String workerId, Duration lockFor) {
+        LocalDateTime now = LocalDateTime.now();
+        List<GenerationJob> jobs = generationJobRepository.findClaimable(type, GenerationJobStatus.PENDING,
+                GenerationJobStatus.RUNNING, now, PageRequest.of(0, limit));
+        return jobs.stream()
+                .map(job -> {
+                    job.claim(workerId, now.plus(lockFor));
+                    return new ClaimedJob(job.getId(), job.getType(), job.getTargetId(), job.getAttempts());
+                })
+                .toList();
+    }
+
+    // 실행 중인 작업의 기한을 늘림 (실행이 기한보다 오래 걸려도 다른 작업자가 가져가지 않도록)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void extendLocks(Collection<Long> jobIds, String workerId, Duration lockFor) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        generationJobRepository.extendLocks(jobIds, workerId, GenerationJobStatus.RUNNING, LocalDateTime.now().plus(lockFor));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void succeed(ClaimedJob claimed, String workerId) {
+        generationJobRepository.findById(claimed.id())
+                .filter(job -> job.isClaimedBy(workerId, claimed.attempt()))
+                .ifPresentOrElse(GenerationJob::succeed,
+                        () -> log.warn("다른 작업자가 가져간 작업이라 결과를 기록하지 않습니다. 작업 ID: {}", claimed.id()));
+    }
+
+    /**
+     * 실패를 기록합니다. maxAttempts 전이면 backoff(base * 2^(시도-1), 최대 maxBackoff) 뒤에 다시 실행합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fail(ClaimedJob claimed, String workerId, String message, int maxAttempts, Duration baseBackoff, Duration maxBackoff) {
+        generationJobRepository.findById(claimed.id())
+                .filter(job -> job.isClaimedBy(workerId, claimed.attempt()))
+                .ifPresentOrElse(job -> {
+                    job.fail(message, maxAttempts, GenerationJob.backoff(job.getFailedAttempts(), baseBackoff, maxBackoff), LocalDateTime.now());
+                    if (job.getStatus() == GenerationJobStatus.FAILED) {
+                        log.error("생성 작업 최종 실패 - 작업 ID: {}, 종류: {}, 대상 ID: {}, 시도: {}회, 오류: {}",
+                                job.getId(), job.getType(), job.getTargetId(), job.getFailedAttempts(), message);
+                    } else {
+                        log.warn("생성 작업 실패, {}에 재시도 - 작업 ID: {}, 종류: {}, 대상 ID: {}, 시도: {}회, 오류: {}",
+                                job.getNextRunAt(), job.getId(), job.getType(), job.getTargetId(), job.getFailedAttempts(), message);
+                    }
+                }, () -> log.warn("다른 작업자가 가져간 작업이라 실패를 기록하지 않습니다. 작업 ID: {}", claimed.id()));
+    }
+
+    /**
+     * 선행 작업을 기다려야 하는 작업을 delay 뒤로 미룹니다. 시도 횟수에는 넣지 않습니다.
+     * 추가된 지 maxWait가 지난 작업은 미루지 않고 false를 반환합니다. (선행 작업이 끝내 실패한 경우 실패로 처리하도록)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean defer(ClaimedJob claimed, String workerId, String message, Duration delay, Duration maxWait) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<GenerationJob> claimedJob = generationJobRepository.findById(claimed.id())
+                .filter(job -> job.isClaimedBy(workerId, claimed.attempt()));
+        if (claimedJob.isEmpty()) {
+            log.warn("다른 작업자가 가져간 작업이라 미루지 않습니다. 작업 ID: {}", claimed.id());
+            return true;
+        }
+        GenerationJob job = claimedJob.get();
+        if (job.getCreatedDate() != null && job.getCreatedDate().isBefore(now.minus(maxWait))) {
+            return false;
+        }
+        job.defer(message, delay, now);
+        log.info("생성 작업 준비 안 됨, {}에 다시 실행 - 작업 ID: {}, 종류: {}, 대상 ID: {}, 사유: {}",
+                job.getNextRunAt(), job.getId(), job.getType(), job.getTargetId(), message);
+        return true;
+    }
+
+    @Transactional
+    public int deleteFinishedBefore(LocalDateTime cutoff) {
+        return generationJobRepository.deleteFinishedBefore(FINISHED, cutoff);
+    }
+}
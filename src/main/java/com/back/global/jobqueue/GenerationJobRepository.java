@@ -0,0 +1,48 @@
+package com.back.global.jobqueue;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface GenerationJobRepository extends JpaRepository<GenerationJob, Long> {
+
+    // 실행할 차례인 대기 작업과 실행 기한이 지난 작업. 다른 인스턴스가 잠근 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM GenerationJob j WHERE j.type = :type AND ("
+            + "(j.status = :pending AND j.nextRunAt <= :now) OR (j.status = :running AND j.lockedUntil < :now)) "
+            + "ORDER BY j.nextRunAt ASC, j.id ASC")
+    List<GenerationJob> findClaimable(@Param("type") GenerationJobType type,
+                                      @Param("pending") GenerationJobStatus pending,
+                                      @Param("running") GenerationJobStatus running,
+                                      @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+
+    // 이미 대기/실행 중인 대상 ID (같은 작업을 두 번 넣지 않기 위해)
+    @Query("SELECT j.targetId FROM GenerationJob j WHERE j.type = :type AND j.targetId IN :targetIds AND j.status IN :statuses")
+    List<Long> findTargetIds(@Param("type") GenerationJobType type,
+                             @Param("targetIds") Collection<Long> targetIds,
+                             @Param("statuses") Collection<GenerationJobStatus> statuses);
+
+    @Modifying
+    @Query("UPDATE GenerationJob j SET j.lockedUntil = :lockedUntil WHERE j.id IN :ids AND j.lockedBy = :workerId AND j.status = :running")
+    int extendLocks(@Param("ids") Collection<Long> ids,
+                    @Param("workerId") String workerId,
+                    @Param("running") GenerationJobStatus running,
+                    @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("DELETE FROM GenerationJob j WHERE j.status IN :statuses AND j.modifiedDate < :cutoff")
+    int deleteFinishedBefore(@Param("statuses") Collection<GenerationJobStatus> statuses,
+                             @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,8 @@
+package com.back.global.jobqueue;
+
+public enum GenerationJobStatus {
+    PENDING, // 실행 대기 (nextRunAt 이후 실행)
+    RUNNING, // 작업자가 가져가 실행 중 (lockedUntil까지)
+    SUCCEEDED,
+    FAILED // 최대 시도 횟수를 넘겨 더 이상 실행하지 않음
+}
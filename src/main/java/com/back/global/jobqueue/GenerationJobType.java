@@ -0,0 +1,16 @@
+package com.back.global.jobqueue;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 생성 작업 종류. 동시 실행 수는 generation-job.types.<key>.concurrency로 지정
+@Getter
+@RequiredArgsConstructor
+public enum GenerationJobType {
+    DETAIL_QUIZ("detail-quiz", 4), // 실제 뉴스 ID → 상세 퀴즈 (quiz.detail.with-fake-news면 가짜 뉴스도 함께)
+    FACT_QUIZ("fact-quiz", 2), // 실제 뉴스 ID → 팩트 퀴즈 (가짜 뉴스 생성 후)
+    DAILY_QUIZ("daily-quiz", 1); // 오늘의 뉴스 ID → 오늘의 퀴즈 (상세 퀴즈 생성 후)
+
+    private final String key;
+    private final int defaultConcurrency;
+}
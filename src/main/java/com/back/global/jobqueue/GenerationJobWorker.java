@@ -0,0 +1,160 @@
+package com.back.global.jobqueue;
+
+import com.back.global.jobqueue.GenerationJobQueue.ClaimedJob;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * generation_job 테이블을 주기적으로 조회해 실행할 차례인 작업을 가져가 실행합니다.
+ * - 작업 종류별로 이 인스턴스에서 동시에 실행하는 수를 제한하고, 빈 자리만큼만 가져갑니다.
+ * - 여러 인스턴스가 같은 테이블을 조회해도 SKIP LOCKED로 서로 다른 작업을 가져갑니다.
+ * - 실패하면 backoff 뒤에 다시 실행하고, 인스턴스가 중단되면 실행 기한이 지난 뒤 다른 작업자가 가져갑니다.
+ * - 선행 작업을 기다려야 하는 작업(GenerationJobNotReadyException)은 시도 횟수에 넣지 않고 미룹니다.
+ */
+@Slf4j
+@Component
+public class GenerationJobWorker {
+
+    private final GenerationJobQueue generationJobQueue;
+    private final Map<GenerationJobType, GenerationJobHandler> handlers = new EnumMap<>(GenerationJobType.class);
+    private final Map<GenerationJobType, Semaphore> slots = new EnumMap<>(GenerationJobType.class);
+    private final Set<Long> runningJobIds = ConcurrentHashMap.newKeySet();
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Value("${generation-job.enabled:true}") // false면 이 인스턴스는 작업을 가져가지 않음 (추가는 그대로)
+    private boolean enabled;
+
+    @Value("${generation-job.lock-duration:PT10M}") // 가져간 작업의 실행 기한. 실행 중에는 조회 때마다 연장
+    private Duration lockDuration;
+
+    @Value("${generation-job.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${generation-job.backoff:PT30S}") // 첫 실패 후 대기 시간 (이후 두 배씩)
+    private Duration baseBackoff;
+
+    @Value("${generation-job.max-backoff:PT30M}")
+    private Duration maxBackoff;
+
+    @Value("${generation-job.retention:P7D}") // 끝난 작업 보관 기간
+    private Duration retention;
+
+    @Value("${generation-job.not-ready-delay:PT1M}") // 선행 작업을 기다리는 작업을 다시 실행할 때까지 대기 시간
+    private Duration notReadyDelay;
+
+    @Value("${generation-job.not-ready-max-wait:PT6H}") // 작업 추가 후 이 기간이 지나도 준비되지 않으면 실패로 처리
+    private Duration notReadyMaxWait;
+
+    public GenerationJobWorker(GenerationJobQueue generationJobQueue, List<GenerationJobHandler> handlers, Environment environment) {
+        this.generationJobQueue = generationJobQueue;
+        for (GenerationJobHandler handler : handlers) {
+            if (this.handlers.put(handler.type(), handler) != null) {
+                throw new IllegalArgumentException("작업 종류 " + handler.type() + "의 처리기가 두 개 이상입니다.");
+            }
+            int concurrency = environment.getProperty("generation-job.types." + handler.type().getKey() + ".concurrency",
+                    Integer.class, handler.type().getDefaultConcurrency());
+            if (concurrency <= 0) {
+                throw new IllegalArgumentException("generation-job.types." + handler.type().getKey() + ".concurrency는 0보다 커야 합니다.");
+            }
+            slots.put(handler.type(), new Semaphore(concurrency));
+        }
+    }
+
+    @PostConstruct
+    public void validateConfig() {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("generation-job.max-attempts는 0보다 커야 합니다.");
+        }
+        if (lockDuration.isNegative() || lockDuration.isZero()) {
+            throw new IllegalArgumentException("generation-job.lock-duration은 0보다 커야 합니다.");
+        }
+        if (baseBackoff.isNegative() || maxBackoff.compareTo(baseBackoff) < 0) {
+            throw new IllegalArgumentException("generation-job.max-backoff는 generation-job.backoff 이상이어야 합니다.");
+        }
+        if (notReadyDelay.isNegative() || notReadyDelay.isZero()) {
+            throw new IllegalArgumentException("generation-job.not-ready-delay는 0보다 커야 합니다.");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${generation-job.poll-interval:PT5S}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            generationJobQueue.extendLocks(Set.copyOf(runningJobIds), workerId, lockDuration);
+        } catch (Exception e) {
+            log.warn("실행 중인 작업의 기한 연장 실패: {}", e.getMessage());
+        }
+
+        slots.forEach((type, slot) -> {
+            int free = slot.availablePermits();
+            if (free == 0) {
+                return;
+            }
+            try {
+                for (ClaimedJob job : generationJobQueue.claim(type, free, workerId, lockDuration)) {
+                    slot.acquireUninterruptibly();
+                    run(job, slot);
+                }
+            } catch (Exception e) {
+                log.warn("생성 작업 조회 실패 - 종류: {}, 오류: {}", type, e.getMessage());
+            }
+        });
+    }
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul") // 매일 새벽 4시 30분에 끝난 작업 정리
+    public void deleteFinished() {
+        int deleted = generationJobQueue.deleteFinishedBefore(LocalDateTime.now().minus(retention));
+        log.info("끝난 생성 작업 {}개 삭제", deleted);
+    }
+
+    // 실행 결과는 작업이 끝난 스레드에서 기록 (조회 스레드는 기다리지 않음)
+    private void run(ClaimedJob job, Semaphore slot) {
+        runningJobIds.add(job.id());
+        CompletableFuture<Void> result;
+        try {
+            result = handlers.get(job.type()).handle(job.targetId());
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((ignored, error) -> {
+            try {
+                if (error == null) {
+                    generationJobQueue.succeed(job, workerId);
+                } else {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    boolean deferred = cause instanceof GenerationJobNotReadyException
+                            && generationJobQueue.defer(job, workerId, cause.getMessage(), notReadyDelay, notReadyMaxWait);
+                    if (!deferred) {
+                        generationJobQueue.fail(job, workerId, cause.getMessage(), maxAttempts, baseBackoff, maxBackoff);
+                    }
+                }
+            } catch (Exception e) {
+                // 기록하지 못한 작업은 실행 기한이 지나면 다시 실행됨
+                log.error("생성 작업 결과 기록 실패 - 작업 ID: {}, 오류: {}", job.id(), e.getMessage(), e);
+            } finally {
+                runningJobIds.remove(job.id());
+                slot.release();
+            }
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.back.global.rateLimiter;
+
+/**
+ * AI 호출 스케줄러가 차감하는 한도 버킷입니다.
+ * 인스턴스가 하나면 메모리 버킷(LocalAdmissionBucket), 여러 인스턴스가 한도를 나눠 쓰면 DB 공유 버킷(DistributedAdmissionBucket)을 사용합니다.
+ */
+public interface AdmissionBucket {
+
+    // tryConsumeLocal의 반환값: 이 인스턴스의 토큰이 부족해 refill로 외부 저장소에서 가져와야 함
+    long NEEDS_REFILL = -1;
+
+    /**
+     * 토큰을 차감합니다. 필요하면 외부 저장소(DB)에서 토큰을 가져오므로 잠금 안에서 호출하지 않습니다.
+     *
+     * @return 차감했으면 0, 토큰이 부족하면 다시 시도할 때까지 기다릴 나노초 (1 이상)
+     */
+    long tryConsume(long tokens);
+
+    /**
+     * 이 인스턴스에 있는 토큰으로만 차감합니다. 외부 저장소를 호출하지 않으므로 잠금 안에서 호출할 수 있습니다.
+     *
+     * @return 차감했으면 0, 토큰이 부족하면 기다릴 나노초 (1 이상), 외부 저장소에서 가져와야 하면 NEEDS_REFILL
+     */
+    default long tryConsumeLocal(long tokens) {
+        return tryConsume(tokens);
+    }
+
+    /**
+     * tryConsumeLocal이 NEEDS_REFILL을 반환했을 때 tokens를 차감할 수 있을 만큼 외부 저장소에서 가져옵니다. (차감하지 않음)
+     *
+     * @return 가져왔으면 0, 외부 저장소에도 부족하면 다시 시도할 때까지 기다릴 나노초 (1 이상)
+     */
+    default long refill(long tokens) {
+        return 0;
+    }
+
+    // 차감했지만 쓰지 않은 토큰을 돌려줌
+    void addTokens(long tokens);
+
+    // 한도와 관계없이 차감 (예상보다 많이 쓴 토큰 정산). 남은 토큰보다 많으면 이후 허가가 그만큼 늦어짐
+    void consumeIgnoringRateLimits(long tokens);
+}
@@ -0,0 +1,316 @@
+package com.back.global.rateLimiter;
+
+import com.back.global.exception.ServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 호출 허가를 CompletableFuture로 나눠주는 스케줄러입니다.
+ * - 대기 중인 스레드 없이, 토큰이 부족하면 버킷이 알려주는 보충 시각에 맞춰 다시 배분합니다.
+ * - 요청 수(bucket)와 함께 LLM 분당 토큰 한도(aiTokenBucket)에서 호출의 예상 토큰 수를 차감하고,
+ *   호출이 끝나면 {@link #settleTokens}로 실제 사용량과의 차이를 반영합니다.
+ * - 허가할 때 작업 종류의 일일 호출 수(UpstreamQuotaRegistry)를 차감하고, 일일 한도를 넘으면 future를 429로 실패시킵니다.
+ * - 버킷은 설정에 따라 이 인스턴스의 메모리 버킷이거나 여러 인스턴스가 나눠 쓰는 DB 공유 버킷입니다. (RateLimiterConfig)
+ * - 우선순위(INTERACTIVE > ANALYSIS > BACKFILL)가 높은 요청부터 허가하고,
+ *   같은 우선순위 안에서는 작업 종류(AiWorkload)별로 번갈아 허가해 한 작업이 토큰을 독점하지 못하게 합니다.
+ * - 허가된 future의 후속 작업은 배분 스레드에서 실행될 수 있으므로 *Async 메서드로 실행기를 지정해야 합니다.
+ */
+@Component
+public class AiAdmissionScheduler {
+
+    private final AdmissionBucket bucket;
+    private final AdmissionBucket tokenBucket;
+    private final long maxTokensPerCall;
+    private final UpstreamQuotaRegistry quotaRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ai-admission");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 우선순위별 작업 종류 대기열과, 대기열이 빈 작업 종류를 제외한 순환 순서
+    private final Map<AiPriority, Map<AiWorkload, ArrayDeque<Waiter>>> waiters = new EnumMap<>(AiPriority.class);
+    private final Map<AiPriority, ArrayDeque<AiWorkload>> rotation = new EnumMap<>(AiPriority.class);
+    private ScheduledFuture<?> wakeUp;
+    private long wakeUpAtNanos;
+
+    private record Waiter(CompletableFuture<Void> permit, AiPriority priority, AiWorkload workload,
+                          long tokens, long enqueuedAtNanos) {
+    }
+
+    public AiAdmissionScheduler(@Qualifier("bucket") AdmissionBucket bucket,
+                                @Qualifier("aiTokenBucket") AdmissionBucket tokenBucket,
+                                @Value("${ai.rate-limit.tokens-per-minute:250000}") long tokensPerMinute,
+                                UpstreamQuotaRegistry quotaRegistry,
+                                MeterRegistry meterRegistry) {
+        this.bucket = bucket;
+        this.tokenBucket = tokenBucket;
+        this.maxTokensPerCall = tokensPerMinute; // 한도보다 큰 호출도 버킷이 가득 찼을 때는 허가
+        this.quotaRegistry = quotaRegistry;
+        this.meterRegistry = meterRegistry;
+
+        for (AiPriority priority : AiPriority.values()) {
+            waiters.put(priority, new EnumMap<>(AiWorkload.class));
+            rotation.put(priority, new ArrayDeque<>());
+            Gauge.builder("ai.admission.queue", this, scheduler -> scheduler.queueDepth(priority))
+                    .tag("priority", priority.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * LLM 토큰을 쓰지 않는 호출의 허가를 요청합니다.
+     */
+    public CompletableFuture<Void> acquire(AiPriority priority, AiWorkload workload) {
+        return acquire(priority, workload, 0);
+    }
+
+    /**
+     * 호출 허가를 요청합니다. 허가되면 future가 완료되며, 대기를 포기하려면 future를 취소하면 됩니다.
+     *
+     * @param tokens 호출의 예상 입력+출력 토큰 수 (AiService.estimateTokens). 허가 시 분당 토큰 한도에서 차감
+     */
+    public CompletableFuture<Void> acquire(AiPriority priority, AiWorkload workload, long tokens) {
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        long charged = Math.min(Math.max(tokens, 0), maxTokensPerCall);
+        synchronized (this) {
+            enqueue(new Waiter(permit, priority, workload, charged, System.nanoTime()));
+        }
+        dispatcher.execute(this::dispatch);
+        return permit;
+    }
+
+    /**
+     * 허가를 기다리는 요청을 더 높은 우선순위의 대기열 맨 뒤로 옮깁니다. (진행 중인 배치 작업에 사용자 요청이 합류한 경우 등)
+     * 이미 허가/취소되었거나 같거나 높은 우선순위로 기다리는 중이면 아무것도 하지 않습니다.
+     */
+    public void promote(CompletableFuture<Void> permit, AiPriority priority) {
+        synchronized (this) {
+            Waiter waiter = remove(permit, priority);
+            if (waiter == null) {
+                return;
+            }
+            enqueue(new Waiter(permit, priority, waiter.workload(), waiter.tokens(), waiter.enqueuedAtNanos()));
+        }
+        dispatcher.execute(this::dispatch);
+    }
+
+    // 토큰이 있는 동안 우선순위 순으로 허가하고, 부족하면 보충 시각에 다시 실행되도록 예약
+    // 잠금 안에서는 이 인스턴스의 토큰만 차감하고, 공유 버킷(DB)에서 토큰을 가져오는 일은 잠금 밖에서 수행
+    private void dispatch() {
+        List<Waiter> granted = new ArrayList<>();
+        List<Waiter> rejected = new ArrayList<>();
+        AdmissionBucket toRefill = null;
+        long refillTokens = 0;
+        synchronized (this) {
+            while (true) {
+                Waiter next = peekNext();
+                if (next == null) {
+                    break;
+                }
+
+                if (next.tokens() > 0) {
+                    long nanosToWait = tokenBucket.tryConsumeLocal(next.tokens());
+                    if (nanosToWait == AdmissionBucket.NEEDS_REFILL) {
+                        toRefill = tokenBucket;
+                        refillTokens = next.tokens();
+                        break;
+                    }
+                    if (nanosToWait > 0) {
+                        scheduleWakeUp(nanosToWait);
+                        break;
+                    }
+                }
+                long nanosToWait = bucket.tryConsumeLocal(1);
+                if (nanosToWait != 0) {
+                    if (next.tokens() > 0) {
+                        tokenBucket.addTokens(next.tokens()); // 요청 수 한도에 걸리면 차감한 토큰은 되돌림
+                    }
+                    if (nanosToWait == AdmissionBucket.NEEDS_REFILL) {
+                        toRefill = bucket;
+                        refillTokens = 1;
+                    } else {
+                        scheduleWakeUp(nanosToWait);
+                    }
+                    break;
+                }
+                if (!quotaRegistry.tryConsumeDaily(next.workload().quotaDomain())) {
+                    // 작업 종류의 일일 한도 초과: 차감한 토큰을 되돌리고 요청을 실패 처리
+                    bucket.addTokens(1);
+                    if (next.tokens() > 0) {
+                        tokenBucket.addTokens(next.tokens());
+                    }
+                    rejected.add(pollNext());
+                    continue;
+                }
+                granted.add(pollNext());
+            }
+        }
+
+        for (Waiter waiter : rejected) {
+            waiter.permit().completeExceptionally(
+                    new ServiceException(429, waiter.workload().quotaDomain().key() + " 일일 호출 한도를 초과했습니다."));
+        }
+
+        // future의 후속 작업이 잠금 안에서 실행되지 않도록 잠금 밖에서 완료
+        long now = System.nanoTime();
+        for (Waiter waiter : granted) {
+            Timer.builder("ai.admission.wait")
+                    .tag("priority", waiter.priority().name())
+                    .tag("workload", waiter.workload().name())
+                    .register(meterRegistry)
+                    .record(now - waiter.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+            if (!waiter.permit().complete(null)) {
+                // 토큰을 가져간 뒤 취소된 요청: 토큰을 돌려주고 다음 요청에 배분
+                bucket.addTokens(1);
+                if (waiter.tokens() > 0) {
+                    tokenBucket.addTokens(waiter.tokens());
+                }
+                dispatcher.execute(this::dispatch);
+            }
+        }
+
+        // 공유 버킷의 임대 토큰이 떨어졌으면 잠금 밖에서 보충한 뒤 다시 배분 (DB 왕복 동안 acquire/settleTokens가 기다리지 않도록)
+        if (toRefill != null) {
+            long nanosToWait = toRefill.refill(refillTokens);
+            if (nanosToWait > 0) {
+                synchronized (this) {
+                    scheduleWakeUp(nanosToWait);
+                }
+            } else {
+                dispatcher.execute(this::dispatch);
+            }
+        }
+    }
+
+    /**
+     * 호출이 끝난 뒤 예약한 토큰 수를 실제 사용량으로 정산합니다.
+     * 더 많이 썼으면 한도를 넘더라도 차감해 이후 허가를 늦추고, 덜 썼으면 남은 토큰을 돌려줘 대기 중인 요청에 배분합니다.
+     *
+     * @param reserved 허가 시 차감한 예상 토큰 수
+     * @param used     실제 사용한 토큰 수 (캐시 응답처럼 호출하지 않았으면 0)
+     */
+    public void settleTokens(long reserved, long used) {
+        meterRegistry.counter("ai.tokens", "type", "reserved").increment(reserved);
+        meterRegistry.counter("ai.tokens", "type", "used").increment(used);
+
+        long delta = used - Math.min(reserved, maxTokensPerCall);
+        if (delta > 0) {
+            tokenBucket.consumeIgnoringRateLimits(delta);
+        } else if (delta < 0) {
+            tokenBucket.addTokens(-delta);
+            dispatcher.execute(this::dispatch);
+        }
+    }
+
+    private void enqueue(Waiter waiter) {
+        ArrayDeque<Waiter> queue = waiters.get(waiter.priority()).computeIfAbsent(waiter.workload(), w -> new ArrayDeque<>());
+        if (queue.isEmpty()) {
+            rotation.get(waiter.priority()).addLast(waiter.workload());
+        }
+        queue.addLast(waiter);
+    }
+
+    // above보다 낮은 우선순위 대기열에서 permit의 요청을 꺼냄 (대기열이 비면 순환 순서에서도 제외)
+    private Waiter remove(CompletableFuture<Void> permit, AiPriority above) {
+        for (AiPriority priority : AiPriority.values()) {
+            if (priority.compareTo(above) <= 0) {
+                continue;
+            }
+            for (Map.Entry<AiWorkload, ArrayDeque<Waiter>> entry : waiters.get(priority).entrySet()) {
+                ArrayDeque<Waiter> queue = entry.getValue();
+                for (Waiter waiter : queue) {
+                    if (waiter.permit() != permit) {
+                        continue;
+                    }
+                    queue.remove(waiter);
+                    if (queue.isEmpty()) {
+                        rotation.get(priority).remove(entry.getKey());
+                    }
+                    return waiter.permit().isDone() ? null : waiter;
+                }
+            }
+        }
+        return null;
+    }
+
+    // 가장 높은 우선순위에서 순환 순서상 다음 작업 종류의 요청 (취소된 요청은 버림)
+    private Waiter peekNext() {
+        for (AiPriority priority : AiPriority.values()) {
+            ArrayDeque<AiWorkload> order = rotation.get(priority);
+            while (!order.isEmpty()) {
+                ArrayDeque<Waiter> queue = waiters.get(priority).get(order.peekFirst());
+                while (!queue.isEmpty() && queue.peekFirst().permit().isDone()) {
+                    queue.pollFirst();
+                }
+                if (!queue.isEmpty()) {
+                    return queue.peekFirst();
+                }
+                order.pollFirst();
+            }
+        }
+        return null;
+    }
+
+    // peekNext가 반환한 요청을 꺼내고, 해당 작업 종류를 순환 순서의 맨 뒤로 보냄
+    private Waiter pollNext() {
+        for (AiPriority priority : AiPriority.values()) {
+            ArrayDeque<AiWorkload> order = rotation.get(priority);
+            if (order.isEmpty()) {
+                continue;
+            }
+            AiWorkload workload = order.pollFirst();
+            ArrayDeque<Waiter> queue = waiters.get(priority).get(workload);
+            Waiter waiter = queue.pollFirst();
+            if (!queue.isEmpty()) {
+                order.addLast(workload);
+            }
+            return waiter;
+        }
+        return null;
+    }
+
+    private void scheduleWakeUp(long delayNanos) {
+        long now = System.nanoTime();
+        long at = now + delayNanos;
+        // 실행 중인 예약(지난 시각)은 무시하고, 아직 오지 않은 같거나 더 이른 예약이 있을 때만 건너뜀
+        if (wakeUp != null && !wakeUp.isDone() && wakeUpAtNanos > now && wakeUpAtNanos <= at) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        wakeUpAtNanos = at;
+        wakeUp = dispatcher.schedule(this::dispatch, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private synchronized int queueDepth(AiPriority priority) {
+        return waiters.get(priority).values().stream().mapToInt(ArrayDeque::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        synchronized (this) {
+            waiters.values().forEach(byWorkload -> byWorkload.values().forEach(queue ->
+                    queue.forEach(waiter -> waiter.permit().cancel(false))));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.back.global.rateLimiter;
+
+// AI 호출 허가 우선순위 (선언 순서가 높은 우선순위)
+public enum AiPriority {
+    INTERACTIVE, // 사용자가 기다리는 요청 (퀴즈 재생성 등)
+    ANALYSIS,    // 야간 뉴스 수집/분석 배치
+    BACKFILL     // 저장된 뉴스의 퀴즈/가짜 뉴스 생성
+}
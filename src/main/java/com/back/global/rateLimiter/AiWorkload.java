@@ -0,0 +1,20 @@
+package com.back.global.rateLimiter;
+
+// AI 호출 허가를 나눠 쓰는 작업 종류 (같은 우선순위 안에서는 작업 종류별로 번갈아 허가)
+public enum AiWorkload {
+    KEYWORD_GENERATION(QuotaDomain.LLM_KEYWORD_GENERATION),
+    NEWS_ANALYSIS(QuotaDomain.LLM_NEWS_ANALYSIS),
+    FAKE_NEWS(QuotaDomain.LLM_FAKE_NEWS),
+    DETAIL_QUIZ(QuotaDomain.LLM_DETAIL_QUIZ);
+
+    private final QuotaDomain quotaDomain;
+
+    AiWorkload(QuotaDomain quotaDomain) {
+        this.quotaDomain = quotaDomain;
+    }
+
+    // 일일 호출 수를 집계할 한도 단위
+    public QuotaDomain quotaDomain() {
+        return quotaDomain;
+    }
+}
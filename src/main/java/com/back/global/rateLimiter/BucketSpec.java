@@ -0,0 +1,11 @@
+package com.back.global.rateLimiter;
+
+import java.time.Duration;
+
+// DB 공유 버킷의 이름과 한도 (refillPeriod마다 refillTokens개씩, 최대 capacity개)
+public record BucketSpec(String name, long capacity, long refillTokens, Duration refillPeriod) {
+
+    public long refillPeriodMillis() {
+        return refillPeriod.toMillis();
+    }
+}
@@ -0,0 +1,139 @@
+package com.back.global.rateLimiter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 여러 인스턴스가 DB의 공유 버킷(RateLimitBucketStore)에서 한도를 나눠 쓰는 버킷입니다.
+ * - 호출마다 DB를 읽지 않도록 leaseSize만큼 토큰을 미리 가져와(임대) 이 인스턴스에서 차감합니다.
+ * - 임대한 토큰은 다른 인스턴스가 쓸 수 없으므로 leaseSize는 한도의 일부로만 잡고, 종료 시 남은 토큰을 돌려줍니다.
+ * - 재시작해도 DB의 버킷 상태는 유지되므로 배치 도중 재시작으로 한도가 초기화되지 않습니다.
+ */
+@Slf4j
+public class DistributedAdmissionBucket implements AdmissionBucket, AutoCloseable {
+
+    private static final int MAX_CONFLICT_RETRIES = 5; // 동시 수정 충돌 시 다시 시도하는 횟수
+    private static final long RETRY_AFTER_FAILURE_NANOS = TimeUnit.SECONDS.toNanos(1); // DB 오류 시 다시 시도할 때까지의 시간
+
+    private final RateLimitBucketStore store;
+    private final BucketSpec spec;
+    private final long leaseSize;
+    private long leased; // 이 인스턴스가 가져와서 아직 쓰지 않은 토큰
+
+    public DistributedAdmissionBucket(RateLimitBucketStore store, BucketSpec spec, long leaseSize) {
+        this.store = store;
+        this.spec = spec;
+        this.leaseSize = Math.max(leaseSize, 1);
+    }
+
+    @Override
+    public long tryConsume(long tokens) {
+        while (true) {
+            long nanosToWait = tryConsumeLocal(tokens);
+            if (nanosToWait != NEEDS_REFILL) {
+                return nanosToWait;
+            }
+            nanosToWait = refill(tokens);
+            if (nanosToWait > 0) {
+                return nanosToWait;
+            }
+        }
+    }
+
+    @Override
+    public synchronized long tryConsumeLocal(long tokens) {
+        if (leased >= tokens) {
+            leased -= tokens;
+            return 0;
+        }
+        return NEEDS_REFILL;
+    }
+
+    // 공유 버킷에서 임대. DB를 읽고 쓰는 동안에는 잠금을 잡지 않아 addTokens/tryConsumeLocal이 기다리지 않음
+    @Override
+    public long refill(long tokens) {
+        long missing;
+        synchronized (this) {
+            missing = tokens - leased;
+        }
+        if (missing <= 0) {
+            return 0;
+        }
+
+        RateLimitBucketStore.Reservation reservation;
+        try {
+            reservation = retryOnConflict(() -> store.reserve(spec, Math.max(missing, leaseSize), missing));
+        } catch (RuntimeException e) {
+            log.warn("공유 버킷 {} 토큰 임대 실패 - 잠시 후 다시 시도: {}", spec.name(), e.getMessage());
+            return RETRY_AFTER_FAILURE_NANOS;
+        }
+        if (reservation.granted() == 0) {
+            return Math.max(TimeUnit.MILLISECONDS.toNanos(reservation.millisToWait()), 1);
+        }
+        synchronized (this) {
+            leased += reservation.granted();
+        }
+        return 0;
+    }
+
+    // 돌려받은 토큰은 임대분에 더해 이 인스턴스의 다음 요청에 사용
+    @Override
+    public synchronized void addTokens(long tokens) {
+        leased += tokens;
+    }
+
+    // 임대분에서 먼저 차감하고 모자란 만큼만 공유 버킷에서 차감. DB 쓰기는 잠금 밖에서 수행해 허가 배분이 기다리지 않음
+    @Override
+    public void consumeIgnoringRateLimits(long tokens) {
+        long shortfall;
+        synchronized (this) {
+            long fromLease = Math.min(leased, tokens);
+            leased -= fromLease;
+            shortfall = tokens - fromLease;
+        }
+        if (shortfall > 0) {
+            update(() -> store.forceTake(spec, shortfall), "초과 사용량 정산");
+        }
+    }
+
+    // 쓰지 않은 임대 토큰을 공유 버킷에 반납
+    @Override
+    public void close() {
+        long returned;
+        synchronized (this) {
+            returned = leased;
+            leased = 0;
+        }
+        if (returned > 0) {
+            update(() -> store.giveBack(spec, returned), "임대 토큰 반납");
+        }
+    }
+
+    // 동시 수정 충돌(버전 불일치, 행 동시 생성)이면 다시 읽어서 시도
+    private <T> T retryOnConflict(Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                if (attempt >= MAX_CONFLICT_RETRIES) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void update(Runnable write, String action) {
+        try {
+            retryOnConflict(() -> {
+                write.run();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("공유 버킷 {} {} 실패: {}", spec.name(), action, e.getMessage());
+        }
+    }
+}
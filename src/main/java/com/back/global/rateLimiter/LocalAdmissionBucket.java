@@ -0,0 +1,30 @@
+package com.back.global.rateLimiter;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+
+// 이 인스턴스의 메모리에만 있는 bucket4j 버킷 (재시작하면 한도가 초기화됨)
+public class LocalAdmissionBucket implements AdmissionBucket {
+
+    private final Bucket bucket;
+
+    public LocalAdmissionBucket(Bucket bucket) {
+        this.bucket = bucket;
+    }
+
+    @Override
+    public long tryConsume(long tokens) {
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(tokens);
+        return probe.isConsumed() ? 0 : Math.max(probe.getNanosToWaitForRefill(), 1);
+    }
+
+    @Override
+    public void addTokens(long tokens) {
+        bucket.addTokens(tokens);
+    }
+
+    @Override
+    public void consumeIgnoringRateLimits(long tokens) {
+        bucket.consumeIgnoringRateLimits(tokens);
+    }
+}
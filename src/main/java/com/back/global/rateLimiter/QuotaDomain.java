@@ -0,0 +1,46 @@
+package com.back.global.rateLimiter;
+
+import java.time.ZoneId;
+
+/**
+ * 호출 한도를 따로 관리하는 외부 API 단위입니다.
+ * 한도는 upstream.quota.{key}.per-second / daily 로 설정하며, 값이 없으면 아래 기본값을 사용합니다. (0이면 제한 없음)
+ * LLM 작업들은 Gemini의 분당 요청/토큰 한도를 AiAdmissionScheduler에서 함께 나눠 쓰므로 일일 한도만 따로 둡니다.
+ */
+public enum QuotaDomain {
+    NAVER_SEARCH("naver-search", 10, 25_000, "Asia/Seoul"), // 네이버 검색 API: 하루 25,000회
+    ARTICLE_CRAWLER("article-crawler", 20, 0, "Asia/Seoul"), // 기사 원문 크롤링 (호스트별 간격은 NewsCrawler가 따로 조절)
+    LLM_KEYWORD_GENERATION("llm-keyword-generation", 0, 0, "America/Los_Angeles"), // Gemini 일일 한도는 태평양 시간 자정에 초기화
+    LLM_NEWS_ANALYSIS("llm-news-analysis", 0, 0, "America/Los_Angeles"),
+    LLM_FAKE_NEWS("llm-fake-news", 0, 0, "America/Los_Angeles"),
+    LLM_DETAIL_QUIZ("llm-detail-quiz", 0, 0, "America/Los_Angeles");
+
+    private final String key;
+    private final long defaultPerSecond;
+    private final long defaultDaily;
+    private final ZoneId resetZone;
+
+    QuotaDomain(String key, long defaultPerSecond, long defaultDaily, String resetZone) {
+        this.key = key;
+        this.defaultPerSecond = defaultPerSecond;
+        this.defaultDaily = defaultDaily;
+        this.resetZone = ZoneId.of(resetZone);
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public long defaultPerSecond() {
+        return defaultPerSecond;
+    }
+
+    public long defaultDaily() {
+        return defaultDaily;
+    }
+
+    // 일일 한도가 초기화되는 시간대
+    public ZoneId resetZone() {
+        return resetZone;
+    }
+}
@@ -0,0 +1,101 @@
+package com.back.global.rateLimiter;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 인스턴스가 함께 쓰는 토큰 버킷의 상태입니다.
+ * 토큰은 마지막 보충 시각부터 지난 시간만큼 계산해서 채우고(greedy),
+ * 동시에 같은 행을 고치면 @Version 비교로 한쪽이 실패해 다시 읽습니다.
+ */
+@Entity
+@Getter
+@Table(name = "rate_limit_bucket")
+@NoArgsConstructor
+public class RateLimitBucket {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    private long capacity;
+
+    private long refillTokens; // refillPeriodMillis마다 채워지는 토큰 수
+
+    private long refillPeriodMillis;
+
+    private long tokens; // 남은 토큰. 한도를 넘겨 정산한 만큼 음수가 될 수 있음
+
+    private long lastRefillMillis;
+
+    @Version
+    private Long version;
+
+    public RateLimitBucket(String name, long capacity, long refillTokens, long refillPeriodMillis, long nowMillis) {
+        this.name = name;
+        this.tokens = capacity;
+        this.lastRefillMillis = nowMillis;
+        configure(capacity, refillTokens, refillPeriodMillis);
+    }
+
+    // 설정이 바뀌어 다시 시작한 경우 새 한도를 반영
+    public void configure(long capacity, long refillTokens, long refillPeriodMillis) {
+        this.capacity = capacity;
+        this.refillTokens = refillTokens;
+        this.refillPeriodMillis = refillPeriodMillis;
+        this.tokens = Math.min(tokens, capacity);
+    }
+
+    /**
+     * 남은 토큰이 minimum 이상이면 wanted까지 가능한 만큼 가져갑니다.
+     *
+     * @return 가져간 토큰 수 (minimum 미만이면 0)
+     */
+    public long take(long wanted, long minimum, long nowMillis) {
+        refill(nowMillis);
+        if (tokens < minimum) {
+            return 0;
+        }
+        long taken = Math.min(wanted, tokens);
+        tokens -= taken;
+        return taken;
+    }
+
+    public void giveBack(long returned, long nowMillis) {
+        refill(nowMillis);
+        tokens = Math.min(tokens + returned, capacity);
+    }
+
+    public void forceTake(long taken, long nowMillis) {
+        refill(nowMillis);
+        tokens -= taken;
+    }
+
+    // 남은 토큰이 needed가 될 때까지 기다릴 시간(ms)
+    public long millisUntil(long needed, long nowMillis) {
+        refill(nowMillis);
+        if (tokens >= needed) {
+            return 0;
+        }
+        long millis = Math.ceilDiv((needed - tokens) * refillPeriodMillis, refillTokens) - (nowMillis - lastRefillMillis);
+        return Math.max(millis, 1);
+    }
+
+    private void refill(long nowMillis) {
+        long elapsed = nowMillis - lastRefillMillis;
+        if (elapsed <= 0) {
+            return;
+        }
+        long deficit = capacity - tokens;
+        long added = Math.min(deficit, elapsed * refillTokens / refillPeriodMillis);
+        if (added >= deficit) {
+            tokens = Math.max(tokens, capacity);
+            lastRefillMillis = nowMillis;
+            return;
+        }
+        // 토큰 1개가 채워지지 않은 나머지 시간은 다음 보충으로 넘김
+        tokens += added;
+        lastRefillMillis += added * refillPeriodMillis / refillTokens;
+    }
+}
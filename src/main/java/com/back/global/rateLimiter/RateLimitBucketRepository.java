@@ -0,0 +1,6 @@
+package com.back.global.rateLimiter;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, String> {
+}
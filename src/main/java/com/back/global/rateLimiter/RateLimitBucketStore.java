@@ -0,0 +1,54 @@
+package com.back.global.rateLimiter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB 공유 버킷(rate_limit_bucket)의 읽기/쓰기입니다.
+ * 호출한 쪽의 트랜잭션과 분리되도록 별도 트랜잭션으로 수행하고, 커밋 시 @Version이 달라졌으면
+ * ObjectOptimisticLockingFailureException이 발생하므로 호출 측에서 다시 시도합니다.
+ * 시각은 각 인스턴스의 시계를 사용하므로 인스턴스 간 시계 차이만큼 보충 시각이 어긋날 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RateLimitBucketStore {
+
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+
+    // granted: 가져간 토큰 수, millisToWait: 가져가지 못했을 때 minimum만큼 채워질 때까지의 시간
+    public record Reservation(long granted, long millisToWait) {
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Reservation reserve(BucketSpec spec, long wanted, long minimum) {
+        long now = System.currentTimeMillis();
+        RateLimitBucket bucket = load(spec, now);
+        long granted = bucket.take(wanted, minimum, now);
+        return new Reservation(granted, granted > 0 ? 0 : bucket.millisUntil(minimum, now));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void giveBack(BucketSpec spec, long tokens) {
+        long now = System.currentTimeMillis();
+        load(spec, now).giveBack(tokens, now);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void forceTake(BucketSpec spec, long tokens) {
+        long now = System.currentTimeMillis();
+        load(spec, now).forceTake(tokens, now);
+    }
+
+    // 행이 없으면 가득 찬 버킷으로 생성 (동시에 생성하면 한쪽은 키 중복으로 실패하고 다시 시도)
+    private RateLimitBucket load(BucketSpec spec, long now) {
+        return rateLimitBucketRepository.findById(spec.name())
+                .map(bucket -> {
+                    bucket.configure(spec.capacity(), spec.refillTokens(), spec.refillPeriodMillis());
+                    return bucket;
+                })
+                .orElseGet(() -> rateLimitBucketRepository.save(new RateLimitBucket(
+                        spec.name(), spec.capacity(), spec.refillTokens(), spec.refillPeriodMillis(), now)));
+    }
+}
@@ -1,43 +1,36 @@
 package com.back.global.rateLimiter;
 
-import io.github.bucket4j.Bucket;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 동기 코드에서 AI 호출 허가를 기다리기 위한 어댑터 (대기는 AiAdmissionScheduler의 보충 시각 예약으로 처리)
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class RateLimiter {
-    private final Bucket bucket;
+    private final AiAdmissionScheduler admissionScheduler;
 
     private static final long MAX_WAIT_TIME = 60000;
-    private static final long WAIT_INTERVAL = 2000;
-
-    public RateLimiter(@Qualifier("bucket") Bucket bucket) {
-        this.bucket = bucket;
-    }
-
-    public void waitForRateLimit() throws InterruptedException {
-        int attempts = 0;
-        long startTime = System.currentTimeMillis();
-
-        while (!bucket.tryConsume(1)) {
-            attempts++;
-
-            if (System.currentTimeMillis() - startTime > MAX_WAIT_TIME) {
-                throw new RuntimeException("Rate limit 대기 시간 1분 초과");
-            }
-
-            log.debug("Rate limit 대기 중... 시도 횟수: {}", attempts);
-            Thread.sleep(WAIT_INTERVAL); // 대기
-
-            if (attempts % 10 == 0) {
-                log.warn("Rate limit 대기가 길어지고 있습니다. 대기 횟수: {}", attempts);
-            }
-        }
 
-        if (attempts > 0) {
-            log.debug("Rate limit 토큰 획득 - 대기 횟수: {}", attempts);
+    // tokens: LLM 호출의 예상 토큰 수 (AiService.estimateTokens)
+    public void waitForRateLimit(AiPriority priority, AiWorkload workload, long tokens) throws InterruptedException {
+        CompletableFuture<Void> permit = admissionScheduler.acquire(priority, workload, tokens);
+        try {
+            permit.get(MAX_WAIT_TIME, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            permit.cancel(false); // 대기열에서 제거
+            throw new RuntimeException("Rate limit 대기 시간 1분 초과");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Rate limit 허가 실패", e.getCause());
+        } catch (InterruptedException e) {
+            permit.cancel(false);
+            throw e;
         }
     }
 }
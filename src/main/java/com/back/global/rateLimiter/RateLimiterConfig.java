@@ -1,18 +1,63 @@
 package com.back.global.rateLimiter;
 
 import io.github.bucket4j.Bucket;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
 
+// AI 호출 한도 버킷. ai.rate-limit.distributed.enabled면 여러 인스턴스가 DB의 공유 버킷에서 한도를 나눠 씀
 @Configuration
 public class RateLimiterConfig {
+    @Value("${ai.rate-limit.requests-per-minute:12}") // 분당 AI 요청 수 (엔드포인트가 여럿이면 전체 합계)
+    private long requestsPerMinute;
+
+    @Value("${ai.rate-limit.distributed.enabled:false}")
+    private boolean distributed;
+
+    @Value("${ai.rate-limit.distributed.lease-ratio:0.1}") // 한 번에 미리 가져오는 토큰 수 (한도 대비 비율)
+    private double leaseRatio;
+
+    @PostConstruct
+    public void validateConfig() {
+        if (requestsPerMinute <= 0) {
+            throw new IllegalArgumentException("ai.rate-limit.requests-per-minute는 0보다 커야 합니다.");
+        }
+        if (leaseRatio <= 0 || leaseRatio > 1) {
+            throw new IllegalArgumentException("ai.rate-limit.distributed.lease-ratio는 0보다 크고 1 이하여야 합니다.");
+        }
+    }
+
     @Bean
-    public Bucket bucket() {
-        return Bucket.builder()
+    public AdmissionBucket bucket(RateLimitBucketStore rateLimitBucketStore) {
+        if (distributed) {
+            return distributedBucket(rateLimitBucketStore,
+                    new BucketSpec("ai-requests", requestsPerMinute, requestsPerMinute, Duration.ofMinutes(1)));
+        }
+        return new LocalAdmissionBucket(Bucket.builder()
                 .addLimit(limit ->
-                        limit.capacity(12).refillIntervally(1, Duration.ofSeconds(5))) // 5초마다 1개 토큰 보충 (1분에 12개)
-                .build();
+                        limit.capacity(requestsPerMinute).refillIntervally(1, Duration.ofMinutes(1).dividedBy(requestsPerMinute))) // 분당 한도를 나눈 간격마다 1개 토큰 보충 (12개면 5초)
+                .build());
+    }
+
+    // LLM 분당 토큰 한도(TPM). 호출마다 예상 입력+출력 토큰을 차감하고, 응답의 실제 사용량으로 보정
+    @Bean
+    public AdmissionBucket aiTokenBucket(RateLimitBucketStore rateLimitBucketStore,
+                                         @Value("${ai.rate-limit.tokens-per-minute:250000}") long tokensPerMinute) {
+        if (distributed) {
+            return distributedBucket(rateLimitBucketStore,
+                    new BucketSpec("ai-tokens", tokensPerMinute, tokensPerMinute, Duration.ofMinutes(1)));
+        }
+        return new LocalAdmissionBucket(Bucket.builder()
+                .addLimit(limit ->
+                        limit.capacity(tokensPerMinute).refillGreedy(tokensPerMinute, Duration.ofMinutes(1)))
+                .build());
+    }
+
+    // 종료 시(close) 쓰지 않은 임대 토큰을 공유 버킷에 반납
+    private AdmissionBucket distributedBucket(RateLimitBucketStore rateLimitBucketStore, BucketSpec spec) {
+        return new DistributedAdmissionBucket(rateLimitBucketStore, spec, (long) (spec.capacity() * leaseRatio));
     }
 }
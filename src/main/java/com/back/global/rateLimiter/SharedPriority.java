@@ -0,0 +1,40 @@
+package com.back.global.rateLimiter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 여러 호출자가 함께 기다리는 작업(SingleFlight)의 AI 호출 우선순위입니다.
+ * 더 급한 호출자가 합류하면 raise로 올리고, 그때 허가를 기다리는 중이면 대기열도 옮깁니다.
+ * 이후의 허가 요청은 올라간 우선순위로 보냅니다.
+ */
+public class SharedPriority {
+
+    private AiPriority priority;
+    private AiAdmissionScheduler scheduler;
+    private CompletableFuture<Void> waiting; // 마지막으로 요청한 허가
+
+    public SharedPriority(AiPriority priority) {
+        this.priority = priority;
+    }
+
+    public synchronized AiPriority get() {
+        return priority;
+    }
+
+    public synchronized CompletableFuture<Void> acquire(AiAdmissionScheduler scheduler, AiWorkload workload, long tokens) {
+        this.scheduler = scheduler;
+        this.waiting = scheduler.acquire(priority, workload, tokens);
+        return waiting;
+    }
+
+    // 지금보다 높은 우선순위일 때만 올림
+    public synchronized void raise(AiPriority priority) {
+        if (priority.compareTo(this.priority) >= 0) {
+            return;
+        }
+        this.priority = priority;
+        if (waiting != null && !waiting.isDone()) {
+            scheduler.promote(waiting, priority);
+        }
+    }
+}
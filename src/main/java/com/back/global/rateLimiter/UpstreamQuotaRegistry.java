@@ -0,0 +1,150 @@
+package com.back.global.rateLimiter;
+
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 외부 API(QuotaDomain)별 호출 한도를 관리합니다.
+ * - 도메인마다 별도의 초당 한도 버킷과 일일 호출 수 카운터를 두어, 한 API의 호출이 다른 API의 한도를 쓰지 않게 합니다.
+ * - 일일 카운터는 도메인의 초기화 시간대 기준 자정에 0으로 돌아갑니다. (메모리 집계이므로 재시작 시 초기화)
+ * - 지표: upstream.quota.requests(domain, outcome), upstream.quota.daily.used(domain)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UpstreamQuotaRegistry {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<QuotaDomain, Quota> quotas = new EnumMap<>(QuotaDomain.class);
+
+    @Value("${upstream.quota.max-wait:60000}") // 초당 한도가 찼을 때 기다리는 최대 시간(ms)
+    private long maxWaitMs;
+
+    @PostConstruct
+    public void validateConfig() {
+        if (maxWaitMs < 0) {
+            throw new IllegalArgumentException("upstream.quota.max-wait는 0 이상이어야 합니다.");
+        }
+
+        for (QuotaDomain domain : QuotaDomain.values()) {
+            String prefix = "upstream.quota." + domain.key();
+            long perSecond = environment.getProperty(prefix + ".per-second", Long.class, domain.defaultPerSecond());
+            long daily = environment.getProperty(prefix + ".daily", Long.class, domain.defaultDaily());
+            if (perSecond < 0 || daily < 0) {
+                throw new IllegalArgumentException(prefix + ".* 값은 0 이상이어야 합니다.");
+            }
+
+            Bucket rate = perSecond == 0 ? null : Bucket.builder()
+                    .addLimit(limit -> limit.capacity(perSecond).refillGreedy(perSecond, Duration.ofSeconds(1)))
+                    .build();
+            Quota quota = new Quota(rate, daily, domain.resetZone());
+            quotas.put(domain, quota);
+
+            Gauge.builder("upstream.quota.daily.used", quota, Quota::used)
+                    .tag("domain", domain.key())
+                    .register(meterRegistry);
+            log.info("호출 한도 - {}: 초당 {}, 일일 {}", domain.key(),
+                    perSecond == 0 ? "제한 없음" : perSecond, daily == 0 ? "제한 없음" : daily);
+        }
+    }
+
+    /**
+     * 초당 한도가 있으면 최대 max-wait 동안 기다린 뒤 일일 한도에서 1회를 차감합니다.
+     *
+     * @return 호출해도 되면 true, 대기 시간 초과/일일 한도 초과/인터럽트면 false
+     */
+    public boolean tryAcquire(QuotaDomain domain) {
+        Quota quota = quotas.get(domain);
+        if (quota.rate() != null) {
+            try {
+                if (!quota.rate().asBlocking().tryConsume(1, Duration.ofMillis(maxWaitMs))) {
+                    record(domain, "rate_timeout");
+                    log.warn("{} 초당 한도 대기 시간 초과", domain.key());
+                    return false;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return tryConsumeDaily(domain);
+    }
+
+    /**
+     * 일일 한도에서 1회를 차감합니다. 속도 제한은 호출 측(AiAdmissionScheduler 등)이 따로 적용할 때 사용합니다.
+     *
+     * @return 일일 한도가 남아 있으면 true
+     */
+    public boolean tryConsumeDaily(QuotaDomain domain) {
+        if (!quotas.get(domain).tryConsumeDaily()) {
+            record(domain, "daily_exhausted");
+            log.warn("{} 일일 호출 한도 초과", domain.key());
+            return false;
+        }
+        record(domain, "granted");
+        return true;
+    }
+
+    // 오늘(도메인 초기화 시간대 기준) 사용한 호출 수
+    public long dailyUsed(QuotaDomain domain) {
+        return quotas.get(domain).used();
+    }
+
+    private void record(QuotaDomain domain, String outcome) {
+        meterRegistry.counter("upstream.quota.requests", "domain", domain.key(), "outcome", outcome).increment();
+    }
+
+    private static final class Quota {
+        private final Bucket rate;
+        private final long dailyLimit;
+        private final ZoneId resetZone;
+        private LocalDate day;
+        private long used;
+
+        private Quota(Bucket rate, long dailyLimit, ZoneId resetZone) {
+            this.rate = rate;
+            this.dailyLimit = dailyLimit;
+            this.resetZone = resetZone;
+        }
+
+        private Bucket rate() {
+            return rate;
+        }
+
+        private synchronized boolean tryConsumeDaily() {
+            rollOver();
+            if (dailyLimit > 0 && used >= dailyLimit) {
+                return false;
+            }
+            used++;
+            return true;
+        }
+
+        private synchronized long used() {
+            rollOver();
+            return used;
+        }
+
+        private void rollOver() {
+            LocalDate today = LocalDate.now(resetZone);
+            if (!today.equals(day)) {
+                day = today;
+                used = 0;
+            }
+        }
+    }
+}
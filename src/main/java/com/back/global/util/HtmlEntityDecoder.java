@@ -1,39 +1,34 @@
 package com.back.global.util;
 
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * 네이버 API 응답의 제목/요약/날짜 문자열을 한 번의 순회로 정리하는 디코더입니다.
+ * - HTML 엔티티(&lt; &amp; &hellip; ...)와 숫자 엔티티(&#NNN; &#xHH;), \\uXXXX 이스케이프를 디코딩
+ * - 디코딩 결과를 포함해 <...> 형태의 태그 제거
+ * - 연속된 공백을 하나로 합치고 앞뒤 공백 제거
+ * 엔티티는 한 번만 디코딩하므로(&amp;lt; → &lt;) 결과가 매핑 순서에 따라 달라지지 않습니다.
+ */
 public class HtmlEntityDecoder {
 
-    // HTML 엔티티 매핑 테이블
-    private static final Map<String, String> HTML_ENTITIES = new HashMap<>();
+    // 엔티티 이름 트라이 ('&' 다음부터 ';'까지)
+    private static final TrieNode ENTITIES = new TrieNode();
 
     static {
         // 기본 HTML 엔티티들
-        HTML_ENTITIES.put("&lt;", "<");
-        HTML_ENTITIES.put("&gt;", ">");
-        HTML_ENTITIES.put("&amp;", "&");
-        HTML_ENTITIES.put("&quot;", "\"");
-        HTML_ENTITIES.put("&apos;", "'");
-        HTML_ENTITIES.put("&#39;", "'");
-        HTML_ENTITIES.put("&nbsp;", " ");
-
-        // HTML 태그들
-        HTML_ENTITIES.put("&lt;b&gt;", "");
-        HTML_ENTITIES.put("&lt;/b&gt;", "");
-        HTML_ENTITIES.put("\\u003Cb\\u003E", "");
-        HTML_ENTITIES.put("\\u003C/b\\u003E", "");
-        HTML_ENTITIES.put("\\u003C", "<");
-        HTML_ENTITIES.put("\\u003E", ">");
+        addEntity("lt;", "<");
+        addEntity("gt;", ">");
+        addEntity("amp;", "&");
+        addEntity("quot;", "\"");
+        addEntity("apos;", "'");
+        addEntity("nbsp;", " ");
 
         // 자주 사용되는 특수문자들
-        HTML_ENTITIES.put("&mdash;", "—");
-        HTML_ENTITIES.put("&ndash;", "–");
-        HTML_ENTITIES.put("&lsquo;", "'");
-        HTML_ENTITIES.put("&rsquo;", "'");
-        HTML_ENTITIES.put("&ldquo;", "\"");
-        HTML_ENTITIES.put("&rdquo;", "\"");
-        HTML_ENTITIES.put("&hellip;", "…");
+        addEntity("mdash;", "—");
+        addEntity("ndash;", "–");
+        addEntity("lsquo;", "'");
+        addEntity("rsquo;", "'");
+        addEntity("ldquo;", "\"");
+        addEntity("rdquo;", "\"");
+        addEntity("hellip;", "…");
     }
 
 
@@ -42,47 +37,183 @@ public class HtmlEntityDecoder {
             return encodedText;
         }
 
-        String result = encodedText;
+        Output out = new Output(encodedText.length());
+        int length = encodedText.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = encodedText.charAt(i);
 
-        // HTML 엔티티 디코딩
-        for (Map.Entry<String, String> entry : HTML_ENTITIES.entrySet()) {
-            result = result.replace(entry.getKey(), entry.getValue());
+            if (c == '&') {
+                int consumed = decodeEntity(encodedText, i, out);
+                if (consumed > 0) {
+                    i += consumed;
+                    continue;
+                }
+            } else if (c == '\\' && i + 1 < length && encodedText.charAt(i + 1) == 'u') {
+                int codeUnit = parseHex(encodedText, i + 2, i + 6);
+                if (codeUnit >= 0) {
+                    out.accept((char) codeUnit);
+                    i += 6;
+                    continue;
+                }
+            }
+
+            out.accept(c);
+            i++;
         }
 
-        // 남아있는 HTML 태그 제거 (정규식 사용)
-        result = result.replaceAll("<[^>]+>", "");
+        return out.finish();
+    }
 
-        // 연속된 공백을 하나로 합치고 앞뒤 공백 제거
-        result = result.replaceAll("\\s+", " ").trim();
+    // '&'로 시작하는 엔티티를 디코딩하고 소비한 길이 반환. 엔티티가 아니면 0
+    private static int decodeEntity(String text, int start, Output out) {
+        int length = text.length();
 
-        // 남아있는 유니코드 이스케이프 처리
-        result = decodeUnicodeEscapes(result);
+        if (start + 1 < length && text.charAt(start + 1) == '#') {
+            return decodeNumericEntity(text, start, out);
+        }
 
-        return result;
+        TrieNode node = ENTITIES;
+        for (int i = start + 1; i < length; i++) {
+            node = node.child(text.charAt(i));
+            if (node == null) {
+                return 0;
+            }
+            if (node.value != null) {
+                for (int k = 0; k < node.value.length(); k++) {
+                    out.accept(node.value.charAt(k));
+                }
+                return i - start + 1;
+            }
+        }
+        return 0;
     }
 
+    // &#NNN; 또는 &#xHH;
+    private static int decodeNumericEntity(String text, int start, Output out) {
+        int i = start + 2;
+        boolean hex = i < text.length() && (text.charAt(i) == 'x' || text.charAt(i) == 'X');
+        if (hex) i++;
+
+        int digitsStart = i;
+        int codePoint = 0;
+        while (i < text.length() && i - digitsStart < 8) {
+            int digit = Character.digit(text.charAt(i), hex ? 16 : 10);
+            if (digit < 0) break;
+            codePoint = codePoint * (hex ? 16 : 10) + digit;
+            i++;
+        }
 
-    private static String decodeUnicodeEscapes(String text) {
-        StringBuilder result = new StringBuilder();
-        int i = 0;
+        if (i == digitsStart || i >= text.length() || text.charAt(i) != ';' || !Character.isValidCodePoint(codePoint)) {
+            return 0;
+        }
 
-        while (i < text.length()) {
-            if (text.startsWith("\\u", i) && i + 5 < text.length()) {
-                try {
-                    String hex = text.substring(i + 2, i + 6);
-                    int codePoint = Integer.parseInt(hex, 16);
-                    result.append((char) codePoint);
-                    i += 6;
-                } catch (NumberFormatException e) {
-                    result.append(text.charAt(i));
-                    i++;
+        for (char c : Character.toChars(codePoint)) {
+            out.accept(c);
+        }
+        return i - start + 1;
+    }
+
+    private static int parseHex(String text, int from, int to) {
+        if (to > text.length()) return -1;
+
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = Character.digit(text.charAt(i), 16);
+            if (digit < 0) return -1;
+            value = value * 16 + digit;
+        }
+        return value;
+    }
+
+    private static void addEntity(String name, String value) {
+        TrieNode node = ENTITIES;
+        for (int i = 0; i < name.length(); i++) {
+            node = node.childOrCreate(name.charAt(i));
+        }
+        node.value = value;
+    }
+
+    private static class TrieNode {
+        private final TrieNode[] children = new TrieNode[128]; // 엔티티 이름은 ASCII
+        private String value;
+
+        TrieNode child(char c) {
+            return c < 128 ? children[c] : null;
+        }
+
+        TrieNode childOrCreate(char c) {
+            if (children[c] == null) {
+                children[c] = new TrieNode();
+            }
+            return children[c];
+        }
+    }
+
+    /**
+     * 디코딩된 문자를 받아 태그 제거와 공백 정리를 동시에 수행합니다.
+     * '<' 이후 문자는 '>'가 나올 때까지 보류했다가, 한 글자 이상 있으면 태그로 보고 버립니다.
+     * 끝까지 '>'가 없으면 보류한 문자를 그대로 출력합니다. (정규식 <[^>]+> 와 동일)
+     */
+    private static class Output {
+        private final StringBuilder result;
+        private final StringBuilder pendingTag = new StringBuilder();
+        private boolean inTag;
+        private boolean pendingSpace;
+
+        Output(int capacity) {
+            this.result = new StringBuilder(capacity);
+        }
+
+        void accept(char c) {
+            if (inTag) {
+                if (c != '>') {
+                    pendingTag.append(c);
+                    return;
                 }
-            } else {
-                result.append(text.charAt(i));
-                i++;
+                inTag = false;
+                if (!pendingTag.isEmpty()) {
+                    pendingTag.setLength(0); // 태그 제거
+                    return;
+                }
+                emit('<'); // "<>" 는 태그가 아님
+                emit('>');
+                return;
+            }
+
+            if (c == '<') {
+                inTag = true;
+                return;
+            }
+            emit(c);
+        }
+
+        String finish() {
+            if (inTag) {
+                emit('<');
+                for (int i = 0; i < pendingTag.length(); i++) {
+                    emit(pendingTag.charAt(i));
+                }
+            }
+            return result.toString();
+        }
+
+        // 연속 공백은 하나로, 앞뒤 공백은 제거
+        private void emit(char c) {
+            if (isWhitespace(c)) {
+                pendingSpace = !result.isEmpty();
+                return;
+            }
+            if (pendingSpace) {
+                result.append(' ');
+                pendingSpace = false;
             }
+            result.append(c);
         }
 
-        return result.toString();
+        private static boolean isWhitespace(char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.back.global.util;
+
+import org.openkoreantext.processor.KoreanTokenJava;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.openkoreantext.processor.OpenKoreanTextProcessorJava.*;
+
+// 형태소 분석으로 뉴스 제목/요약의 키워드 집합을 추출하는 유틸 (중복 뉴스 판별용)
+public class KeywordExtractor {
+
+    public static Set<String> extract(String text) {
+        try {
+            Set<String> keywords = new HashSet<>();
+            // OpenKoreanTextProcessor로 중복 체크
+            String normalized = normalize(text).toString();
+            List<KoreanTokenJava> tokenList = tokensToJavaKoreanTokenList(
+                    tokenize(normalized)
+            );
+
+            for (KoreanTokenJava token : tokenList) {
+                String pos = token.getPos().toString();
+
+                // 조사, 어미, 구두점만 제외하고 나머지는 모두 포함
+                if (!pos.contains("Josa") && !pos.contains("Eomi") &&
+                        !pos.contains("Punctuation") && !pos.contains("Space")) {
+
+                    if(pos.equals("Adjective") || pos.equals("Verb")) {
+                        // Adjective, Verb 이고 기본형이 있는 경우
+                        String stem = token.getStem();
+                        if (stem != null) {
+                            keywords.add(stem);
+                            continue;
+                        }
+                    }
+
+                    keywords.add(token.getText());
+                }
+            }
+            return keywords;
+
+        } catch (Exception e) {
+            // 형태소 분석 실패 시 단순 공백 기준 분리 (조사 포함)
+            return Set.of(text.split("\\s+"));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.back.global.util;
+
+// 문자열의 LLM 토큰 수를 대략 추정하는 유틸 (캐시 절감량, 배치 토큰 예산 계산용)
+// - 영문/숫자/기호는 약 4자당 1토큰, 한글 등 비ASCII 문자는 약 1.5자당 1토큰으로 계산
+public class TokenEstimator {
+
+    private static final double ASCII_CHARS_PER_TOKEN = 4.0;
+    private static final double NON_ASCII_CHARS_PER_TOKEN = 1.5;
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+
+        int ascii = 0;
+        int nonAscii = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < 0x80) {
+                ascii++;
+            } else {
+                nonAscii++;
+            }
+        }
+
+        return (int) Math.ceil(ascii / ASCII_CHARS_PER_TOKEN + nonAscii / NON_ASCII_CHARS_PER_TOKEN);
+    }
+}
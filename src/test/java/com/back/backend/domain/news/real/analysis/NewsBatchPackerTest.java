@@ -0,0 +1,65 @@
+package com.back.backend.domain.news.real.analysis;
+
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.analysis.NewsBatchPacker;
+import com.back.domain.news.real.dto.RealNewsDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsBatchPackerTest {
+
+    private static RealNewsDto news(String title, int contentLength) {
+        return RealNewsDto.of(null, title, "가".repeat(contentLength), "", "https://n.news.naver.com/" + title,
+                "", LocalDateTime.now(), LocalDateTime.now(), "", "", "", NewsCategory.NOT_FILTERED);
+    }
+
+    @Test
+    @DisplayName("긴 기사부터 입력 토큰 예산 안에서 묶는다")
+    void packLongestFirst() {
+        // 한글 1.5자 ≈ 1토큰 → 3000자 ≈ 2000토큰, 600자 ≈ 400토큰 (프롬프트 고정 분량 1000토큰 별도)
+        NewsBatchPacker packer = new NewsBatchPacker(8, 3400, 100_000);
+        List<RealNewsDto> input = List.of(news("short1", 600), news("long", 3000), news("short2", 600));
+
+        List<List<RealNewsDto>> batches = packer.pack(input);
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).extracting(RealNewsDto::title).containsExactly("long");
+        assertThat(batches.get(1)).extracting(RealNewsDto::title).containsExactlyInAnyOrder("short1", "short2");
+    }
+
+    @Test
+    @DisplayName("짧은 기사는 최대 개수까지 한 요청에 담는다")
+    void packShortUpToMaxItems() {
+        NewsBatchPacker packer = new NewsBatchPacker(3, 100_000, 100_000);
+        List<RealNewsDto> input = List.of(news("a", 100), news("b", 100), news("c", 100), news("d", 100));
+
+        assertThat(packer.pack(input)).extracting(List::size).containsExactly(3, 1);
+    }
+
+    @Test
+    @DisplayName("출력은 기사 수에 비례하므로 출력 예산이 요청당 기사 수를 제한한다")
+    void outputBudgetLimitsItemCount() {
+        NewsBatchPacker packer = new NewsBatchPacker(8, 100_000, 100);
+        List<RealNewsDto> input = List.of(news("a", 3000), news("b", 30), news("c", 30), news("d", 30));
+
+        assertThat(packer.pack(input)).extracting(List::size).containsExactly(3, 1);
+    }
+
+    @Test
+    @DisplayName("혼자서 예산을 넘는 기사는 단독 배치로 보낸다")
+    void oversizedAlone() {
+        NewsBatchPacker packer = new NewsBatchPacker(8, 1500, 100_000);
+        List<RealNewsDto> input = List.of(news("huge", 3000), news("small", 150));
+
+        List<List<RealNewsDto>> batches = packer.pack(input);
+
+        assertThat(batches).hasSize(2);
+        assertThat(packer.fits(List.of(), news("huge", 3000))).isTrue();
+        assertThat(packer.fits(List.of(news("small", 150)), news("huge", 3000))).isFalse();
+    }
+}
@@ -0,0 +1,57 @@
+package com.back.backend.domain.news.real.analysis;
+
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.analysis.NewsCategoryClassifier;
+import com.back.domain.news.real.analysis.NewsCategoryClassifier.Prediction;
+import com.back.domain.news.real.analysis.NewsCategoryClassifier.Sample;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsCategoryClassifierTest {
+
+    private final NewsCategoryClassifier classifier = NewsCategoryClassifier.train(samples());
+
+    private static List<Sample> samples() {
+        List<Sample> samples = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            samples.add(new Sample(Set.of("금리", "한국은행", "인상", "물가"), NewsCategory.ECONOMY));
+            samples.add(new Sample(Set.of("국회", "여당", "법안", "표결"), NewsCategory.POLITICS));
+            samples.add(new Sample(Set.of("반도체", "AI", "모델", "출시"), NewsCategory.IT));
+        }
+        samples.add(new Sample(Set.of("금리"), NewsCategory.NOT_FILTERED)); // 분류 전 뉴스는 학습 제외
+        return samples;
+    }
+
+    @Test
+    @DisplayName("학습한 카테고리의 단어가 많은 기사는 높은 확신도로 분류한다")
+    void classifiesWithHighConfidence() {
+        Prediction prediction = classifier.predict(Set.of("한국은행", "금리", "동결"), null);
+
+        assertThat(classifier.trainingSize()).isEqualTo(15);
+        assertThat(prediction.category()).isEqualTo(NewsCategory.ECONOMY);
+        assertThat(prediction.confidence()).isGreaterThan(0.8);
+    }
+
+    @Test
+    @DisplayName("학습에 없는 단어뿐이면 확신도가 낮고, 출처 키워드 카테고리 쪽으로 기운다")
+    void unknownTokensFallBackToProvenance() {
+        Prediction prediction = classifier.predict(Set.of("날씨", "태풍"), NewsCategory.IT);
+
+        assertThat(prediction.category()).isEqualTo(NewsCategory.IT);
+        assertThat(prediction.confidence()).isLessThan(0.8);
+    }
+
+    @Test
+    @DisplayName("학습 문서가 없으면 확신도 0")
+    void untrainedClassifierHasNoConfidence() {
+        Prediction prediction = NewsCategoryClassifier.train(List.of()).predict(Set.of("금리"), NewsCategory.ECONOMY);
+
+        assertThat(prediction.confidence()).isZero();
+    }
+}
@@ -0,0 +1,73 @@
+package com.back.backend.domain.news.real.analysis;
+
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.analysis.NewsPreRanker;
+import com.back.domain.news.real.analysis.NewsPreRanker.Candidate;
+import com.back.domain.news.real.dto.RealNewsDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsPreRankerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 1, 0, 0);
+
+    private final NewsPreRanker ranker = new NewsPreRanker(
+            2,
+            NewsPreRanker.mediaPrior(Map.of("연합뉴스", 100L, "지역일보", 1L)),
+            12,
+            NOW
+    );
+
+    private static Candidate<String> candidate(String id, NewsCategory category, int length, int hoursAgo,
+                                               String media, int duplicates, boolean pinned) {
+        RealNewsDto news = RealNewsDto.of(null, id, "가".repeat(length), "", "https://news/" + id, "",
+                NOW.minusHours(hoursAgo), NOW, media, "", "", NewsCategory.NOT_FILTERED);
+        return new Candidate<>(id, news, category, category == null, duplicates, pinned);
+    }
+
+    @Test
+    @DisplayName("분량, 최신성, 언론사, 보도 규모가 높은 기사가 높은 점수를 받는다")
+    void scoresSignals() {
+        Candidate<String> base = candidate("base", NewsCategory.IT, 1500, 0, "연합뉴스", 2, false);
+
+        assertThat(ranker.score(base)).isGreaterThan(ranker.score(candidate("short", NewsCategory.IT, 200, 0, "연합뉴스", 2, false)));
+        assertThat(ranker.score(base)).isGreaterThan(ranker.score(candidate("old", NewsCategory.IT, 1500, 24, "연합뉴스", 2, false)));
+        assertThat(ranker.score(base)).isGreaterThan(ranker.score(candidate("local", NewsCategory.IT, 1500, 0, "지역일보", 2, false)));
+        assertThat(ranker.score(base)).isGreaterThan(ranker.score(candidate("alone", NewsCategory.IT, 1500, 0, "연합뉴스", 0, false)));
+    }
+
+    @Test
+    @DisplayName("카테고리별로 상위 K개만 남기고, 고정 키워드로 찾은 기사는 따로 묶는다")
+    void selectsTopKPerCategory() {
+        List<Candidate<String>> candidates = List.of(
+                candidate("it-weak", NewsCategory.IT, 400, 30, "지역일보", 0, false),
+                candidate("it-best", NewsCategory.IT, 2000, 1, "연합뉴스", 5, false),
+                candidate("it-good", NewsCategory.IT, 1500, 2, "연합뉴스", 1, false),
+                candidate("eco", NewsCategory.ECONOMY, 400, 30, "지역일보", 0, false),
+                candidate("breaking-1", null, 1000, 1, "연합뉴스", 0, false),
+                candidate("breaking-2", null, 1000, 2, "연합뉴스", 0, false),
+                candidate("breaking-3", null, 300, 20, "지역일보", 0, false)
+        );
+
+        assertThat(ranker.select(candidates)).extracting(Candidate::source)
+                .containsExactlyInAnyOrder("it-best", "it-good", "eco", "breaking-1", "breaking-2");
+    }
+
+    @Test
+    @DisplayName("이전 실행에서 선택된 기사는 점수와 무관하게 남고 자리를 차지한다")
+    void keepsPinned() {
+        List<Candidate<String>> candidates = List.of(
+                candidate("best", NewsCategory.SOCIETY, 2000, 1, "연합뉴스", 5, false),
+                candidate("good", NewsCategory.SOCIETY, 1500, 2, "연합뉴스", 1, false),
+                candidate("pinned", NewsCategory.SOCIETY, 300, 30, "지역일보", 0, true)
+        );
+
+        assertThat(ranker.select(candidates)).extracting(Candidate::source).containsExactly("pinned", "best");
+    }
+}
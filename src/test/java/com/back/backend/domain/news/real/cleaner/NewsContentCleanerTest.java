@@ -0,0 +1,107 @@
+package com.back.backend.domain.news.real.cleaner;
+
+import com.back.domain.news.real.cleaner.NewsContentCleaner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 정제 결과를 이전에 AI가 정제한 본문(회귀 코퍼스)과 문장 단위로 비교합니다.
+ * 코퍼스: src/test/resources/news-cleaner/{이름}.raw.txt (크롤링 원문), {이름}.ai.txt (AI 정제 결과)
+ */
+class NewsContentCleanerTest {
+
+    private static final double MIN_OVERLAP = 0.9; // AI 정제 결과와 겹쳐야 하는 문장 비율
+
+    @ParameterizedTest
+    @ValueSource(strings = {"economy-tariff", "politics-special-counsel", "it-coding-model", "society-copyright-lawsuit"})
+    @DisplayName("회귀 코퍼스: 로컬 정제 결과가 AI 정제 결과와 같은 문장을 남긴다")
+    void matchesAiCleanedCorpus(String name) throws IOException {
+        String cleaned = NewsContentCleaner.clean(read(name + ".raw.txt"));
+        Set<String> local = sentences(cleaned);
+        Set<String> ai = sentences(read(name + ".ai.txt"));
+
+        assertThat(overlap(ai, local)).as("AI 결과 중 로컬 결과에 남은 문장 비율\n%s", cleaned)
+                .isGreaterThanOrEqualTo(MIN_OVERLAP);
+        assertThat(overlap(local, ai)).as("로컬 결과 중 AI 결과에도 있는 문장 비율\n%s", cleaned)
+                .isGreaterThanOrEqualTo(MIN_OVERLAP);
+        assertThat(cleaned).doesNotContain("@", "기자 =", "무단", "▶", "▲");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "저작권자 단체는 이번 판결이 창작자 보호의 전기가 될 것이라고 밝혔다.",
+            "관련 기사를 쓴 기자는 징계를 받았다.",
+            "기사 제보가 잇따르자 경찰이 수사에 착수했다.",
+            "유튜브 채널 구독 신청이 몰리면서 서버가 한때 멈췄다.",
+            "법원은 Copyright 침해 여부를 다시 따져봐야 한다고 판단했다.",
+            "네이버 채널 개편 이후 언론사 구독자 수가 늘었다."
+    })
+    @DisplayName("안내 문구의 단어가 들어간 본문 문장은 남긴다")
+    void keepsBodySentencesWithNoticeWords(String sentence) {
+        String content = "첫 문장입니다.\n" + sentence;
+
+        assertThat(NewsContentCleaner.clean(content)).isEqualTo("첫 문장입니다.\n\n" + sentence);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[관련기사]",
+            "관련 기사: 오픈 소스 AI 경쟁 가속",
+            "네이버 채널에서 연합뉴스를 구독하기",
+            "독자 여러분의 소중한 제보를 기다립니다.",
+            "Copyright © NEWSIS.COM, 무단 전재 및 재배포 금지",
+            "<저작권자(c) 연합뉴스, 무단 전재-재배포, AI 학습 및 활용 금지>"
+    })
+    @DisplayName("안내 문구 줄은 제거한다")
+    void removesNoticeLines(String notice) {
+        assertThat(NewsContentCleaner.clean("첫 문장입니다.\n" + notice)).isEqualTo("첫 문장입니다.");
+    }
+
+    @Test
+    @DisplayName("문단은 빈 줄 하나로 구분하고 줄 안의 공백을 정리한다")
+    void normalizesParagraphs() {
+        String cleaned = NewsContentCleaner.clean("첫 문장입니다.\r\n\r\n\r\n두  번째\t문장입니다.\n   \n세 번째 문장입니다.");
+
+        assertThat(cleaned).isEqualTo("첫 문장입니다.\n\n두 번째 문장입니다.\n\n세 번째 문장입니다.");
+    }
+
+    @Test
+    @DisplayName("본문이 한 줄뿐이면 리드문으로 보지 않는다")
+    void keepsSingleLine() {
+        assertThat(NewsContentCleaner.clean("속보 정부 긴급 브리핑")).isEqualTo("속보 정부 긴급 브리핑");
+    }
+
+    private static String read(String fileName) throws IOException {
+        try (InputStream in = NewsContentCleanerTest.class.getResourceAsStream("/news-cleaner/" + fileName)) {
+            assertThat(in).as(fileName).isNotNull();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    // 문단/줄 구분과 무관하게 비교하기 위해 문장 단위로 분리
+    private static Set<String> sentences(String text) {
+        return Arrays.stream(text.split("(?<=[.!?][\"'”’)]?)\\s+|\\n+"))
+                .map(sentence -> sentence.replaceAll("\\s+", " ").trim())
+                .filter(sentence -> !sentence.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static double overlap(Set<String> expected, Set<String> actual) {
+        if (expected.isEmpty()) {
+            return 1.0;
+        }
+        return expected.stream().filter(actual::contains).count() / (double) expected.size();
+    }
+}
@@ -0,0 +1,40 @@
+package com.back.backend.domain.news.real.dedup;
+
+import com.back.domain.news.real.dedup.JaccardDeduplicator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JaccardDeduplicatorTest {
+
+    @Test
+    @DisplayName("앞에 남은 뉴스와 유사한 뒤 뉴스만 제거한다")
+    void keepFirstUnique() {
+        List<Set<String>> sets = List.of(
+                Set.of("정부", "금리", "인상"),
+                Set.of("정부", "금리", "동결"),        // 0과 유사(0.5) → 제거
+                Set.of("금리", "동결", "시장"),        // 1과 유사하지만 1이 제거되었으므로 0과만 비교(0.2) → 유지
+                Set.of("축구", "대표팀", "승리")
+        );
+
+        boolean[] kept = JaccardDeduplicator.keepFirstUnique(sets, 0.3);
+
+        assertThat(kept).containsExactly(true, false, true, true);
+    }
+
+    @Test
+    @DisplayName("임계값과 같은 유사도는 중복으로 보지 않는다")
+    void thresholdIsExclusive() {
+        List<Set<String>> sets = List.of(
+                Set.of("a", "b"),
+                Set.of("b", "c")   // Jaccard = 1/3
+        );
+
+        assertThat(JaccardDeduplicator.keepFirstUnique(sets, 1.0 / 3)).containsExactly(true, true);
+        assertThat(JaccardDeduplicator.keepFirstUnique(sets, 0.3)).containsExactly(true, false);
+    }
+}
@@ -0,0 +1,90 @@
+package com.back.backend.domain.news.real.dedup;
+
+import com.back.domain.news.real.dedup.MinHasher;
+import com.back.domain.news.real.dedup.NewsDedupIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsDedupIndexTest {
+
+    private static final double TITLE_THRESHOLD = 0.2;
+    private static final double DESCRIPTION_THRESHOLD = 0.15;
+    private static final int BANDS = 200;
+    private static final int ROWS = 2;
+
+    // prefix로 구분되는 겹치지 않는 키워드 size개, 앞의 shared개는 두 집합이 공유
+    private static Set<String> tokens(String prefix, int pair, int shared, int size) {
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            tokens.add(i < shared ? "공통" + pair + "_" + i : prefix + pair + "_" + i);
+        }
+        return tokens;
+    }
+
+    @Test
+    @DisplayName("임계값을 조금 넘는 유사도의 요약도 LSH 후보로 잡혀 중복으로 판정된다")
+    void recallNearThreshold() {
+        NewsDedupIndex index = new NewsDedupIndex(BANDS, ROWS, TITLE_THRESHOLD, DESCRIPTION_THRESHOLD);
+
+        int detected = 0;
+        int pairs = 200;
+        for (int pair = 0; pair < pairs; pair++) {
+            // 10개 중 3개 공유 → Jaccard = 3/17 ≈ 0.176
+            Set<String> first = tokens("가", pair, 3, 10);
+            Set<String> second = tokens("나", pair, 3, 10);
+            index.addOrCount(Set.of("제목가" + pair), first);
+            if (index.addOrCount(Set.of("제목나" + pair), second) < 0) {
+                detected++;
+            }
+        }
+
+        assertThat(detected).isEqualTo(pairs);
+    }
+
+    @Test
+    @DisplayName("임계값 아래의 유사도는 중복으로 보지 않는다")
+    void keepsBelowThreshold() {
+        NewsDedupIndex index = new NewsDedupIndex(BANDS, ROWS, TITLE_THRESHOLD, DESCRIPTION_THRESHOLD);
+
+        // 10개 중 2개 공유 → Jaccard = 2/18 ≈ 0.11
+        index.addOrCount(Set.of("제목가"), tokens("가", 0, 2, 10));
+
+        assertThat(index.addOrCount(Set.of("제목나"), tokens("나", 0, 2, 10))).isNotNegative();
+    }
+
+    @Test
+    @DisplayName("키워드가 없는 요약은 저장된 뉴스의 빈 요약과 중복으로 판정하지 않는다")
+    void ignoresEmptyTokenSets() {
+        NewsDedupIndex index = new NewsDedupIndex(BANDS, ROWS, TITLE_THRESHOLD, DESCRIPTION_THRESHOLD);
+        MinHasher minHasher = new MinHasher(BANDS * ROWS);
+        index.addStored(minHasher.signature(Set.of("저장", "뉴스")), minHasher.signature(Set.of()));
+
+        assertThat(MinHasher.estimateSimilarity(minHasher.signature(Set.of()), minHasher.signature(Set.of()))).isZero();
+        assertThat(index.addOrCount(Set.of("새", "기사"), Set.of())).isNotNegative();
+        assertThat(index.addOrCount(Set.of("다른", "소식"), Set.of())).isNotNegative();
+    }
+
+    @Test
+    @DisplayName("흔한 키워드 하나만 겹치는 무관한 뉴스는 대부분 LSH 후보에서 빠진다")
+    void boundsCandidatesForUnrelatedNews() {
+        NewsDedupIndex index = new NewsDedupIndex(BANDS, ROWS, TITLE_THRESHOLD, DESCRIPTION_THRESHOLD);
+
+        int stored = 1000;
+        for (int i = 0; i < stored; i++) {
+            // 20개 중 "정부" 하나만 공유 → Jaccard ≈ 1/39
+            Set<String> description = tokens("저장", i, 0, 19);
+            description.add("정부");
+            index.addOrCount(tokens("제목", i, 0, 6), description);
+        }
+
+        Set<String> description = tokens("새", 0, 0, 19);
+        description.add("정부");
+
+        assertThat(index.candidateCount(tokens("새제목", 0, 0, 6), description)).isLessThan(stored / 10);
+    }
+}
@@ -0,0 +1,29 @@
+package com.back.backend.domain.news.real.dedup;
+
+import com.back.domain.news.real.dedup.NewsUrlCanonicalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsUrlCanonicalizerTest {
+
+    @Test
+    @DisplayName("네이버 뉴스는 경로 형태와 쿼리에 관계없이 언론사/기사 번호로 정규화한다")
+    void naverArticle() {
+        String expected = "https://n.news.naver.com/mnews/article/001/0014800000";
+
+        assertThat(NewsUrlCanonicalizer.canonicalize("https://n.news.naver.com/mnews/article/001/0014800000?sid=101")).isEqualTo(expected);
+        assertThat(NewsUrlCanonicalizer.canonicalize("http://N.NEWS.NAVER.COM/article/001/0014800000?sid=100&ntype=RANKING")).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("그 외 URL은 추적용 파라미터를 빼고 파라미터 순서를 맞춘다")
+    void otherArticle() {
+        assertThat(NewsUrlCanonicalizer.canonicalize("https://www.example.com/news/view/?b=2&utm_source=naver&a=1#top"))
+                .isEqualTo(NewsUrlCanonicalizer.canonicalize("HTTPS://WWW.EXAMPLE.COM/news/view?a=1&b=2&fbclid=abc"))
+                .isEqualTo("https://www.example.com/news/view?a=1&b=2");
+        assertThat(NewsUrlCanonicalizer.canonicalize("https://www.example.com/news?utm_medium=social"))
+                .isEqualTo("https://www.example.com/news");
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -169,7 +170,7 @@ class DetailQuizControllerTest {
     }
 
     @Test
-    @DisplayName("POST /api/quiz/detail/news/{newsId}/regenerate - 뉴스 ID로 상세 퀴즈 생성")
+    @DisplayName("POST /api/quiz/detail/news/{newsId}/regenerate - 뉴스 ID로 상세 퀴즈 생성 요청")
     void t7() throws Exception {
         // Given
         Long newsId = 1L;
@@ -180,12 +181,12 @@ class DetailQuizControllerTest {
 
         // Then
         resultActions
-                .andExpect(status().isCreated())
+                .andExpect(status().isAccepted())
                 .andExpect(handler().methodName("generateDetailQuizzes"))
-                .andExpect(jsonPath("$.code").value(201))
-                .andExpect(jsonPath("$.message").value("상세 퀴즈 생성 성공"))
-                .andExpect(jsonPath("$.data.length()").value(3))
-                .andExpect(jsonPath("$.data[0].question").isNotEmpty());
+                .andExpect(jsonPath("$.code").value(202))
+                .andExpect(jsonPath("$.message").value("상세 퀴즈 생성 요청 접수"))
+                .andExpect(jsonPath("$.data.jobId").isNotEmpty())
+                .andExpect(jsonPath("$.data.status").value("RUNNING"));
     }
 
     @Test
@@ -260,4 +261,44 @@ class DetailQuizControllerTest {
                 .andExpect(jsonPath("$.data.gainExp").value(0))
                 .andExpect(jsonPath("$.data.quizType").value("DETAIL"));
     }
+
+    @Test
+    @DisplayName("GET /api/quiz/detail/jobs/{jobId} - 상세 퀴즈 생성 작업 조회")
+    void t11() throws Exception {
+        // Given
+        Long newsId = 1L;
+        String response = mvc.perform(post("/api/quiz/detail/news/{newsId}/regenerate", newsId))
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(response).path("data").path("jobId").asText();
+
+        // When
+        MvcResult mvcResult = mvc.perform(get("/api/quiz/detail/jobs/{jobId}", jobId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions resultActions = mvc.perform(asyncDispatch(mvcResult))
+                .andDo(print());
+
+        // Then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().methodName("getRegenerateJob"))
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.message").value("상세 퀴즈 생성 작업 조회 성공"))
+                .andExpect(jsonPath("$.data.jobId").value(jobId))
+                .andExpect(jsonPath("$.data.status").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("GET /api/quiz/detail/jobs/{jobId} - 존재하지 않는 작업 조회")
+    void t12() throws Exception {
+        // When
+        ResultActions resultActions = mvc.perform(get("/api/quiz/detail/jobs/{jobId}", "unknown"))
+                .andDo(print());
+
+        // Then
+        resultActions
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(404))
+                .andExpect(jsonPath("$.message").value("해당 id의 작업이 존재하지 않습니다. id: unknown"));
+    }
 }
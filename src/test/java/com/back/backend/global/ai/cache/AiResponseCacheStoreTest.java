@@ -0,0 +1,73 @@
+package com.back.backend.global.ai.cache;
+
+import com.back.global.ai.cache.AiResponseCacheEntry;
+import com.back.global.ai.cache.AiResponseCacheRepository;
+import com.back.global.ai.cache.AiResponseCacheStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+        "NAVER_CLIENT_ID=test_client_id",
+        "NAVER_CLIENT_SECRET=test_client_secret",
+        "GEMINI_API_KEY=api_key"
+})
+public class AiResponseCacheStoreTest {
+
+    @Autowired
+    private AiResponseCacheStore aiResponseCacheStore;
+
+    @Autowired
+    private AiResponseCacheRepository aiResponseCacheRepository;
+
+    private void saveEntry(String cacheKey, int sizeBytes, LocalDateTime createdDate) {
+        aiResponseCacheRepository.save(AiResponseCacheEntry.builder()
+                .cacheKey(cacheKey)
+                .processorType("TestProcessor")
+                .response("x".repeat(sizeBytes))
+                .sizeBytes(sizeBytes)
+                .estimatedTokens(10)
+                .createdDate(createdDate)
+                .build());
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목을 지우고, 크기 상한을 넘으면 오래 사용되지 않은 항목부터 삭제한다")
+    void evictsExpiredThenLeastRecentlyUsed() {
+        LocalDateTime now = LocalDateTime.now();
+        saveEntry("expired", 100, now.minusDays(10));
+        saveEntry("oldest", 100, now.minusHours(3));
+        saveEntry("older", 100, now.minusHours(2));
+        saveEntry("newest", 100, now.minusHours(1));
+
+        int deleted = aiResponseCacheStore.evict(now.minusDays(7), 150);
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(aiResponseCacheRepository.existsByCacheKey("expired")).isFalse();
+        assertThat(aiResponseCacheRepository.existsByCacheKey("oldest")).isFalse();
+        assertThat(aiResponseCacheRepository.existsByCacheKey("older")).isFalse();
+        assertThat(aiResponseCacheRepository.existsByCacheKey("newest")).isTrue();
+    }
+
+    @Test
+    @DisplayName("크기 상한 안이면 TTL이 지나지 않은 항목은 지우지 않는다")
+    void keepsEntriesWithinLimit() {
+        LocalDateTime now = LocalDateTime.now();
+        saveEntry("first", 100, now.minusHours(2));
+        saveEntry("second", 100, now.minusHours(1));
+
+        assertThat(aiResponseCacheStore.evict(now.minusDays(7), 200)).isZero();
+        assertThat(aiResponseCacheRepository.count()).isEqualTo(2);
+    }
+}
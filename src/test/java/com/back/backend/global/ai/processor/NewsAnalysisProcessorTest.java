@@ -0,0 +1,110 @@
+package com.back.backend.global.ai.processor;
+
+import com.back.domain.news.common.dto.AnalyzedNewsDto;
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.global.ai.processor.NewsAnalysisProcessor;
+import com.back.global.exception.ServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NewsAnalysisProcessorTest {
+
+    private final NewsAnalysisProcessor processor = new NewsAnalysisProcessor(
+            IntStream.rangeClosed(1, 3).mapToObj(NewsAnalysisProcessorTest::news).toList(),
+            new ObjectMapper()
+    );
+
+    @Test
+    @DisplayName("개수가 맞지 않거나 일부 원소가 깨져도 형식이 맞는 원소는 newsIndex로 매칭해 사용한다")
+    void keepsWellFormedItems() {
+        List<AnalyzedNewsDto> result = processor.parseResponse(response("""
+                ```json
+                [
+                  {"newsIndex": 3, "qualityScore": 80, "category": "IT"},
+                  {"newsIndex": 9, "qualityScore": 70, "category": "IT"},
+                  {"newsIndex": 1, "qualityScore": "높음", "category": "IT"},
+                  {"newsIndex": 3, "qualityScore": 10, "category": "IT"},
+                  {"newsIndex": 2, "qualityScore": 60, "category": "ECONOMY"}
+                ]
+                ```"""));
+
+        assertThat(result).extracting(news -> news.realNewsDto().link())
+                .containsExactly("https://news/3", "https://news/2");
+        assertThat(result.get(0).score()).isEqualTo(80);
+        assertThat(result.get(1).category()).isEqualTo(NewsCategory.ECONOMY);
+        assertThat(result.get(1).realNewsDto().content()).isEqualTo("본문2"); // 본문은 크롤링 단계에서 정제한 것을 그대로 사용
+    }
+
+    @Test
+    @DisplayName("응답이 중간에 끊기면 완성된 원소만 사용한다")
+    void keepsItemsBeforeTruncation() {
+        List<AnalyzedNewsDto> result = processor.parseResponse(response("""
+                [{"newsIndex": 2, "qualityScore": 60, "category": "SOCIETY"},
+                 {"newsIndex": 1, "qualityScore": 50, "categ"""));
+
+        assertThat(result).extracting(news -> news.realNewsDto().link()).containsExactly("https://news/2");
+    }
+
+    @Test
+    @DisplayName("응답 스키마는 최상위가 객체이고, results 속성으로 감싼 응답도 파싱한다")
+    void parsesWrappedResponse() throws Exception {
+        assertThat(new ObjectMapper().readTree(processor.responseSchema()).get("type").asText()).isEqualTo("object");
+
+        List<AnalyzedNewsDto> result = processor.parseResponse(response("""
+                {"results": [
+                  {"newsIndex": 1, "qualityScore": 90, "category": "POLITICS"},
+                  {"newsIndex": 2, "qualityScore": 40, "category": "CULTURE"}
+                ]}"""));
+
+        assertThat(result).extracting(news -> news.realNewsDto().link())
+                .containsExactly("https://news/1", "https://news/2");
+    }
+
+    @Test
+    @DisplayName("사용할 수 있는 원소가 하나도 없으면 예외")
+    void failsWhenNothingUsable() {
+        assertThatThrownBy(() -> processor.parseResponse(response("분석할 수 없습니다")))
+                .isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    @DisplayName("로컬 분류기가 확정한 카테고리는 유지하고, 분류가 필요한 뉴스에 카테고리가 없으면 누락으로 본다")
+    void keepsLocallyClassifiedCategory() {
+        NewsAnalysisProcessor mixed = new NewsAnalysisProcessor(
+                List.of(news(1, NewsCategory.ECONOMY), news(2)), new ObjectMapper());
+
+        assertThat(mixed.buildPrompt()).contains("카테고리: ECONOMY (확정)", "카테고리: 분류 필요");
+
+        List<AnalyzedNewsDto> result = mixed.parseResponse(response("""
+                [{"newsIndex": 1, "qualityScore": 70},
+                 {"newsIndex": 2, "qualityScore": 60}]"""));
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).category()).isEqualTo(NewsCategory.ECONOMY);
+        assertThat(result.get(0).realNewsDto().newsCategory()).isEqualTo(NewsCategory.ECONOMY);
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    private static RealNewsDto news(int i) {
+        return news(i, NewsCategory.NOT_FILTERED);
+    }
+
+    private static RealNewsDto news(int i, NewsCategory category) {
+        return RealNewsDto.of((long) i, "제목" + i, "본문" + i, "요약" + i, "https://news/" + i,
+                null, null, null, "언론사", "기자", null, category);
+    }
+}
@@ -0,0 +1,77 @@
+package com.back.backend.global.ai.processor;
+
+import com.back.domain.news.common.dto.QuizAndFakeNewsDto;
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.quiz.detail.entity.Option;
+import com.back.global.ai.processor.QuizAndFakeNewsProcessor;
+import com.back.global.exception.ServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuizAndFakeNewsProcessorTest {
+
+    private static final String QUIZZES = """
+            "quizzes": [
+              {"question": "질문1", "option1": "가", "option2": "나", "option3": "다", "correctOption": "OPTION1"},
+              {"question": "질문2", "option1": "가", "option2": "나", "option3": "다", "correctOption": "OPTION3"},
+              {"question": "질문3", "option1": "가", "option2": "나", "option3": "다", "correctOption": "OPTION2"}
+            ]""";
+
+    private final QuizAndFakeNewsProcessor processor = new QuizAndFakeNewsProcessor(
+            RealNewsDto.of(7L, "제목", "본문", "요약", "https://news/7", null, null, null,
+                    "언론사", "기자", null, NewsCategory.IT),
+            new ObjectMapper()
+    );
+
+    @Test
+    @DisplayName("퀴즈 3개와 가짜 뉴스를 한 응답에서 함께 파싱한다")
+    void parsesBoth() {
+        QuizAndFakeNewsDto result = processor.parseResponse(response("```json\n{" + QUIZZES + ", \"fakeContent\": \"가짜 본문\"}\n```"));
+
+        assertThat(result.quizzes()).extracting(quiz -> quiz.correctOption())
+                .containsExactly(Option.OPTION1, Option.OPTION3, Option.OPTION2);
+        assertThat(result.fakeNews().realNewsId()).isEqualTo(7L);
+        assertThat(result.fakeNews().content()).isEqualTo("가짜 본문");
+    }
+
+    @Test
+    @DisplayName("가짜 뉴스 본문에서 응답이 끊기면 퀴즈만 사용하고 가짜 뉴스는 비워둔다")
+    void keepsQuizzesWhenFakeNewsTruncated() {
+        QuizAndFakeNewsDto result = processor.parseResponse(response("{" + QUIZZES + ", \"fakeContent\": \"가짜 본"));
+
+        assertThat(result.hasQuizzes()).isTrue();
+        assertThat(result.hasFakeNews()).isFalse();
+    }
+
+    @Test
+    @DisplayName("퀴즈가 3개가 아니면 퀴즈만 비워둔다")
+    void dropsQuizzesWhenCountMismatch() {
+        QuizAndFakeNewsDto result = processor.parseResponse(response("""
+                {"quizzes": [{"question": "질문1", "option1": "가", "option2": "나", "option3": "다", "correctOption": "OPTION1"}],
+                 "fakeContent": "가짜 본문"}"""));
+
+        assertThat(result.hasQuizzes()).isFalse();
+        assertThat(result.fakeNews().content()).isEqualTo("가짜 본문");
+    }
+
+    @Test
+    @DisplayName("둘 다 실패하면 예외")
+    void failsWhenNothingUsable() {
+        assertThatThrownBy(() -> processor.parseResponse(response("생성할 수 없습니다")))
+                .isInstanceOf(ServiceException.class);
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+}
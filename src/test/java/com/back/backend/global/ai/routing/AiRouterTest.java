@@ -0,0 +1,121 @@
+package com.back.backend.global.ai.routing;
+
+import com.back.global.ai.routing.AiEndpoint;
+import com.back.global.ai.routing.AiRouter;
+import com.back.global.ai.routing.AiTier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiRouterTest {
+
+    private final AiEndpoint fast = endpoint("fast", EnumSet.of(AiTier.FAST), 10);
+    private final AiEndpoint quality = endpoint("quality", EnumSet.of(AiTier.QUALITY), 10);
+    private final List<String> called = new ArrayList<>();
+
+    private static AiEndpoint endpoint(String name, Set<AiTier> tiers, long requestsPerMinute) {
+        return new AiEndpoint(name, name + "-model", tiers, null, requestsPerMinute, 100_000);
+    }
+
+    private AiRouter router(AiEndpoint... endpoints) {
+        return new AiRouter(List.of(endpoints), Duration.ofMinutes(1), Duration.ofMinutes(10), new SimpleMeterRegistry());
+    }
+
+    private String succeed(AiEndpoint endpoint) {
+        called.add(endpoint.name());
+        return endpoint.name();
+    }
+
+    private String fail(AiEndpoint endpoint) {
+        called.add(endpoint.name());
+        throw new TransientAiException(endpoint.name() + " 실패");
+    }
+
+    private String reject(AiEndpoint endpoint) {
+        called.add(endpoint.name());
+        throw new NonTransientAiException("400 - " + endpoint.name() + " 잘못된 요청");
+    }
+
+    @Test
+    @DisplayName("프로세서가 선호하는 등급의 엔드포인트로 보낸다")
+    void routesByTier() {
+        AiRouter router = router(quality, fast);
+
+        assertThat(router.execute(AiTier.FAST, 100, this::succeed)).isEqualTo("fast");
+        assertThat(router.execute(AiTier.QUALITY, 100, this::succeed)).isEqualTo("quality");
+    }
+
+    @Test
+    @DisplayName("호출이 실패하면 다른 엔드포인트로 전환하고, 실패한 엔드포인트는 잠시 뒤로 미룬다")
+    void failsOver() {
+        AiRouter router = router(fast, quality);
+
+        assertThat(router.execute(AiTier.FAST, 100, endpoint ->
+                endpoint == fast ? fail(endpoint) : succeed(endpoint))).isEqualTo("quality");
+        assertThat(router.execute(AiTier.FAST, 100, this::succeed)).isEqualTo("quality");
+        assertThat(called).containsExactly("fast", "quality", "quality");
+        assertThat(fast.errorRate()).isPositive();
+    }
+
+    @Test
+    @DisplayName("같은 등급에서는 이번 분의 한도가 남은 엔드포인트를 고른다")
+    void prefersRemainingQuota() {
+        AiEndpoint first = endpoint("first", EnumSet.of(AiTier.QUALITY), 1);
+        AiEndpoint second = endpoint("second", EnumSet.of(AiTier.QUALITY), 1);
+        AiRouter router = router(first, second);
+
+        router.execute(AiTier.QUALITY, 100, this::succeed);
+        router.execute(AiTier.QUALITY, 100, this::succeed);
+
+        assertThat(called).containsExactlyInAnyOrder("first", "second");
+    }
+
+    @Test
+    @DisplayName("모든 엔드포인트가 실패하면 각각 한 번씩 시도한 뒤 마지막 오류를 던진다")
+    void throwsWhenAllFail() {
+        AiRouter router = router(fast, quality);
+
+        assertThatThrownBy(() -> router.execute(AiTier.QUALITY, 100, this::fail))
+                .isInstanceOf(TransientAiException.class)
+                .hasMessage("fast 실패");
+        assertThat(called).containsExactly("quality", "fast");
+    }
+
+    @Test
+    @DisplayName("잘못된 요청(400)은 다른 엔드포인트로 전환하지 않고 바로 던지며, 엔드포인트를 뒤로 미루지 않는다")
+    void doesNotFailOverOnBadRequest() {
+        AiRouter router = router(fast, quality);
+
+        assertThatThrownBy(() -> router.execute(AiTier.FAST, 100, this::reject))
+                .isInstanceOf(NonTransientAiException.class);
+        assertThat(router.execute(AiTier.FAST, 100, this::succeed)).isEqualTo("fast");
+        assertThat(called).containsExactly("fast", "fast");
+        assertThat(fast.errorRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도 초과(429)는 다른 엔드포인트로 전환한다")
+    void failsOverOnQuotaExceeded() {
+        AiRouter router = router(fast, quality);
+
+        assertThat(router.execute(AiTier.FAST, 100, endpoint -> {
+            if (endpoint == fast) {
+                called.add(endpoint.name());
+                throw new NonTransientAiException("429 - 한도 초과");
+            }
+            return succeed(endpoint);
+        })).isEqualTo("quality");
+        assertThat(called).containsExactly("fast", "quality");
+    }
+}
@@ -0,0 +1,50 @@
+package com.back.backend.global.ai.stream;
+
+import com.back.global.ai.stream.JsonArrayStreamParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonArrayStreamParserTest {
+
+    private static final String RESPONSE = """
+            ```json
+            [
+              {"newsIndex": 1, "cleanedContent": "괄호 } ] 와 \\"따옴표\\" 포함"},
+              {"newsIndex": 2, "tags": [1, {"x": 2}]}
+            ]
+            ```""";
+
+    @Test
+    @DisplayName("조각 크기와 무관하게 원소가 완성되는 즉시 꺼낸다")
+    void emitsCompletedObjects() {
+        for (int step : new int[]{1, 3, 17, RESPONSE.length()}) {
+            JsonArrayStreamParser parser = new JsonArrayStreamParser();
+            List<String> items = new ArrayList<>();
+            for (int i = 0; i < RESPONSE.length(); i += step) {
+                items.addAll(parser.feed(RESPONSE.substring(i, Math.min(RESPONSE.length(), i + step))));
+            }
+
+            assertThat(items).containsExactly(
+                    "{\"newsIndex\": 1, \"cleanedContent\": \"괄호 } ] 와 \\\"따옴표\\\" 포함\"}",
+                    "{\"newsIndex\": 2, \"tags\": [1, {\"x\": 2}]}"
+            );
+            assertThat(parser.isComplete()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("응답이 잘려도 완성된 원소는 반환하고 미완성으로 표시한다")
+    void truncatedResponse() {
+        JsonArrayStreamParser parser = new JsonArrayStreamParser();
+
+        List<String> items = parser.feed("[{\"newsIndex\": 1}, {\"newsIndex\": 2, \"cleaned");
+
+        assertThat(items).containsExactly("{\"newsIndex\": 1}");
+        assertThat(parser.isComplete()).isFalse();
+    }
+}
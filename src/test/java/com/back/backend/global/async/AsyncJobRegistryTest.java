@@ -0,0 +1,64 @@
+package com.back.backend.global.async;
+
+import com.back.global.async.AsyncJobRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncJobRegistryTest {
+
+    private static AsyncJobRegistry registry(String instanceId) {
+        AsyncJobRegistry registry = new AsyncJobRegistry();
+        ReflectionTestUtils.setField(registry, "instanceId", instanceId);
+        registry.validateConfig();
+        return registry;
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 발급한 작업 ID면 그 인스턴스 ID를 반환한다")
+    void findsOwnerOfOtherInstanceJob() {
+        AsyncJobRegistry registry = registry("3d8d9930b16789");
+
+        assertThat(registry.findOtherInstance("148e272b4d2589." + UUID.randomUUID())).contains("148e272b4d2589");
+    }
+
+    @Test
+    @DisplayName("이 인스턴스가 발급한 작업 ID는 다시 보내지 않는다")
+    void keepsOwnJobs() {
+        AsyncJobRegistry registry = registry("3d8d9930b16789");
+        String jobId = registry.submit("test", new CompletableFuture<>()).jobId();
+
+        assertThat(registry.findOtherInstance(jobId)).isEmpty();
+        assertThat(registry.findOtherInstance("3d8d9930b16789." + UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("발급 형식이 아닌 작업 ID는 다른 인스턴스로 보내지 않는다")
+    void ignoresMalformedJobIds() {
+        AsyncJobRegistry registry = registry("3d8d9930b16789");
+
+        assertThat(registry.findOtherInstance("evil.example.com." + UUID.randomUUID())).isEmpty();
+        assertThat(registry.findOtherInstance("148e272b4d2589.not-a-uuid")).isEmpty();
+        assertThat(registry.findOtherInstance("148e272b4d2589")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인스턴스 ID가 없으면(단일 인스턴스) 어떤 작업 ID도 다른 인스턴스로 보내지 않는다")
+    void singleInstanceNeverReplays() {
+        AsyncJobRegistry registry = registry("");
+
+        assertThat(registry.findOtherInstance("148e272b4d2589." + UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인스턴스 ID가 형식에 맞지 않으면 기동하지 않는다")
+    void rejectsMalformedInstanceId() {
+        assertThatThrownBy(() -> registry("machine 1")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
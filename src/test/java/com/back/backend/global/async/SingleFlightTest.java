@@ -0,0 +1,80 @@
+package com.back.backend.global.async;
+
+import com.back.global.async.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+    private final AtomicInteger started = new AtomicInteger();
+
+    private CompletableFuture<String> start(CompletableFuture<String> work) {
+        started.incrementAndGet();
+        return work;
+    }
+
+    @Test
+    @DisplayName("진행 중인 작업이 있으면 새로 시작하지 않고 같은 결과를 받는다")
+    void joinsInFlightTask() {
+        CompletableFuture<String> work = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.run(String.class, 1L, () -> start(work));
+        CompletableFuture<String> second = singleFlight.run(String.class, 1L, () -> start(new CompletableFuture<>()));
+        work.complete("done");
+
+        assertThat(started.get()).isEqualTo(1);
+        assertThat(first.join()).isEqualTo("done");
+        assertThat(second.join()).isEqualTo("done");
+        assertThat(singleFlight.isInFlight(String.class, 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("종류나 ID가 다르면 따로 실행하고, 끝난 뒤에는 다시 시작한다")
+    void separatesKeysAndRestartsAfterCompletion() {
+        singleFlight.run(String.class, 1L, () -> start(new CompletableFuture<>()));
+        singleFlight.run(String.class, 2L, () -> start(new CompletableFuture<>()));
+        singleFlight.run(Integer.class, 1L, () -> start(new CompletableFuture<>()));
+        singleFlight.run(Long.class, 1L, () -> start(CompletableFuture.failedFuture(new IllegalStateException())));
+        singleFlight.run(Long.class, 1L, () -> start(CompletableFuture.completedFuture("retry")));
+
+        assertThat(started.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("한 호출자가 취소해도 진행 중인 작업과 다른 호출자에게는 영향이 없다")
+    void cancellingOneCallerKeepsFlight() {
+        CompletableFuture<String> work = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.run(String.class, 1L, () -> start(work));
+        CompletableFuture<String> second = singleFlight.run(String.class, 1L, () -> start(work));
+
+        first.cancel(false);
+        work.complete("done");
+
+        assertThat(second.join()).isEqualTo("done");
+        assertThat(work.isCancelled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("진행 중인 작업에 합류하면 그 작업을 시작한 호출자의 상태를 받아 바꿀 수 있다")
+    void joinerUpdatesFlightState() {
+        CompletableFuture<String> work = new CompletableFuture<>();
+        AtomicReference<String> first = new AtomicReference<>("배치");
+        AtomicReference<String> second = new AtomicReference<>("사용자");
+
+        singleFlight.run(String.class, 1L, first, running -> running.set("합류"), state -> start(work));
+        singleFlight.run(String.class, 1L, second, running -> running.set("합류"), state -> start(work));
+        work.complete("done");
+
+        assertThat(started.get()).isEqualTo(1);
+        assertThat(first.get()).isEqualTo("합류");
+        assertThat(second.get()).isEqualTo("사용자");
+    }
+}
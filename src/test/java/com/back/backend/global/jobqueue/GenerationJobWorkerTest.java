@@ -0,0 +1,199 @@
+package com.back.backend.global.jobqueue;
+
+import com.back.global.jobqueue.GenerationJob;
+import com.back.global.jobqueue.GenerationJobHandler;
+import com.back.global.jobqueue.GenerationJobNotReadyException;
+import com.back.global.jobqueue.GenerationJobQueue;
+import com.back.global.jobqueue.GenerationJobStatus;
+import com.back.global.jobqueue.GenerationJobType;
+import com.back.global.jobqueue.GenerationJobWorker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationJobWorkerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    // DB 대신 대기 작업 목록을 들고 있는 큐
+    private static class FakeQueue extends GenerationJobQueue {
+        private final List<Long> pending = new ArrayList<>();
+        private final List<Long> succeeded = new ArrayList<>();
+        private final List<String> failed = new ArrayList<>();
+        private final List<String> deferred = new ArrayList<>();
+
+        FakeQueue() {
+            super(null);
+        }
+
+        @Override
+        public List<ClaimedJob> claim(GenerationJobType type, int limit, String workerId, Duration lockFor) {
+            List<ClaimedJob> claimed = new ArrayList<>();
+            while (claimed.size() < limit && !pending.isEmpty()) {
+                claimed.add(new ClaimedJob(claimed.size() + 1, type, pending.removeFirst(), 1));
+            }
+            return claimed;
+        }
+
+        @Override
+        public void extendLocks(Collection<Long> jobIds, String workerId, Duration lockFor) {
+        }
+
+        @Override
+        public void succeed(ClaimedJob claimed, String workerId) {
+            succeeded.add(claimed.targetId());
+        }
+
+        @Override
+        public void fail(ClaimedJob claimed, String workerId, String message, int maxAttempts, Duration baseBackoff, Duration maxBackoff) {
+            failed.add(message);
+        }
+
+        @Override
+        public boolean defer(ClaimedJob claimed, String workerId, String message, Duration delay, Duration maxWait) {
+            deferred.add(message);
+            return true;
+        }
+    }
+
+    private static class PendingHandler implements GenerationJobHandler {
+        private final List<CompletableFuture<Void>> started = new ArrayList<>();
+
+        @Override
+        public GenerationJobType type() {
+            return GenerationJobType.DETAIL_QUIZ;
+        }
+
+        @Override
+        public CompletableFuture<Void> handle(long targetId) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            started.add(future);
+            return future;
+        }
+    }
+
+    private final FakeQueue queue = new FakeQueue();
+    private final PendingHandler handler = new PendingHandler();
+
+    private GenerationJobWorker worker(int concurrency) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("generation-job.types.detail-quiz.concurrency", String.valueOf(concurrency));
+        GenerationJobWorker worker = new GenerationJobWorker(queue, List.of(handler), environment);
+        ReflectionTestUtils.setField(worker, "enabled", true);
+        ReflectionTestUtils.setField(worker, "lockDuration", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        ReflectionTestUtils.setField(worker, "baseBackoff", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(worker, "maxBackoff", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(worker, "notReadyDelay", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(worker, "notReadyMaxWait", Duration.ofHours(6));
+        return worker;
+    }
+
+    @Test
+    @DisplayName("작업 종류별 동시 실행 수만큼만 가져가고, 끝난 자리만큼 다시 가져간다")
+    void limitsConcurrencyPerType() {
+        GenerationJobWorker worker = worker(2);
+        queue.pending.addAll(List.of(1L, 2L, 3L, 4L));
+
+        worker.poll();
+        assertThat(handler.started).hasSize(2);
+        assertThat(queue.pending).containsExactly(3L, 4L);
+
+        worker.poll();
+        assertThat(handler.started).hasSize(2);
+
+        handler.started.getFirst().complete(null);
+        worker.poll();
+        assertThat(handler.started).hasSize(3);
+        assertThat(queue.succeeded).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 원인 메시지와 함께 실패로 기록한다")
+    void recordsFailure() {
+        GenerationJobWorker worker = worker(1);
+        queue.pending.add(1L);
+
+        worker.poll();
+        handler.started.getFirst().completeExceptionally(new IllegalStateException("AI 호출 실패"));
+
+        assertThat(queue.failed).containsExactly("AI 호출 실패");
+        assertThat(queue.succeeded).isEmpty();
+    }
+
+    @Test
+    @DisplayName("선행 작업을 기다리는 작업은 실패로 기록하지 않고 미룬다")
+    void defersNotReadyJob() {
+        GenerationJobWorker worker = worker(1);
+        queue.pending.add(1L);
+
+        worker.poll();
+        handler.started.getFirst().completeExceptionally(new GenerationJobNotReadyException("상세 퀴즈 없음"));
+
+        assertThat(queue.deferred).containsExactly("상세 퀴즈 없음");
+        assertThat(queue.failed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("미룬 횟수는 최대 시도 횟수에 넣지 않는다")
+    void deferralsDoNotCountAsAttempts() {
+        GenerationJob job = new GenerationJob(GenerationJobType.DAILY_QUIZ, 1L, NOW);
+
+        for (int i = 0; i < 3; i++) {
+            job.claim("worker", NOW.plusMinutes(10));
+            job.defer("상세 퀴즈 없음", Duration.ofMinutes(1), NOW);
+        }
+        assertThat(job.getStatus()).isEqualTo(GenerationJobStatus.PENDING);
+        assertThat(job.getNextRunAt()).isEqualTo(NOW.plusMinutes(1));
+
+        job.claim("worker", NOW.plusMinutes(10));
+        job.fail("오류", 2, GenerationJob.backoff(job.getFailedAttempts(), Duration.ofSeconds(30), Duration.ofMinutes(5)), NOW);
+        assertThat(job.getStatus()).isEqualTo(GenerationJobStatus.PENDING);
+        assertThat(job.getNextRunAt()).isEqualTo(NOW.plusSeconds(30));
+    }
+
+    @Test
+    @DisplayName("실패할 때마다 대기 시간이 두 배로 늘고, 최대 시도 횟수를 넘으면 FAILED로 남는다")
+    void backsOffAndGivesUp() {
+        GenerationJob job = new GenerationJob(GenerationJobType.DETAIL_QUIZ, 1L, NOW);
+        Duration base = Duration.ofSeconds(30);
+        Duration max = Duration.ofMinutes(5);
+
+        assertThat(GenerationJob.backoff(1, base, max)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(GenerationJob.backoff(3, base, max)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(GenerationJob.backoff(10, base, max)).isEqualTo(max);
+
+        job.claim("worker", NOW.plusMinutes(10));
+        job.fail("오류", 2, GenerationJob.backoff(job.getAttempts(), base, max), NOW);
+        assertThat(job.getStatus()).isEqualTo(GenerationJobStatus.PENDING);
+        assertThat(job.getNextRunAt()).isEqualTo(NOW.plusSeconds(30));
+
+        job.claim("worker", NOW.plusMinutes(10));
+        job.fail("오류", 2, GenerationJob.backoff(job.getAttempts(), base, max), NOW);
+        assertThat(job.getStatus()).isEqualTo(GenerationJobStatus.FAILED);
+        assertThat(job.getLastError()).isEqualTo("오류");
+    }
+
+    @Test
+    @DisplayName("기한이 지나 다른 작업자가 다시 가져간 작업의 결과는 이전 작업자가 기록하지 않는다")
+    void ignoresStaleWorker() {
+        GenerationJob job = new GenerationJob(GenerationJobType.DETAIL_QUIZ, 1L, NOW);
+
+        job.claim("first", NOW.plusMinutes(10));
+        int firstAttempt = job.getAttempts();
+        job.claim("second", NOW.plusMinutes(20));
+
+        assertThat(job.isClaimedBy("first", firstAttempt)).isFalse();
+        assertThat(job.isClaimedBy("second", job.getAttempts())).isTrue();
+    }
+}
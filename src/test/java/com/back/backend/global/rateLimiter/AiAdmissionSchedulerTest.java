@@ -0,0 +1,258 @@
+package com.back.backend.global.rateLimiter;
+
+import com.back.global.exception.ServiceException;
+import com.back.global.rateLimiter.AdmissionBucket;
+import com.back.global.rateLimiter.AiAdmissionScheduler;
+import com.back.global.rateLimiter.AiPriority;
+import com.back.global.rateLimiter.AiWorkload;
+import com.back.global.rateLimiter.LocalAdmissionBucket;
+import com.back.global.rateLimiter.UpstreamQuotaRegistry;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiAdmissionSchedulerTest {
+
+    private static final long TOKENS_PER_MINUTE = 1000;
+
+    private final Bucket tokenBucket = Bucket.builder()
+            .addLimit(limit -> limit.capacity(TOKENS_PER_MINUTE).refillIntervally(TOKENS_PER_MINUTE, Duration.ofMinutes(1)))
+            .build();
+    // 요청 수 버킷은 처음엔 토큰이 없고 100ms마다 1개씩 보충: 쌓인 요청을 하나씩 허가
+    private final AiAdmissionScheduler scheduler = new AiAdmissionScheduler(
+            new LocalAdmissionBucket(Bucket.builder()
+                    .addLimit(limit -> limit.capacity(1).refillIntervally(1, Duration.ofMillis(100)).initialTokens(0))
+                    .build()),
+            new LocalAdmissionBucket(tokenBucket),
+            TOKENS_PER_MINUTE,
+            quotaRegistry(new MockEnvironment().withProperty("upstream.quota.llm-fake-news.daily", "1")),
+            new SimpleMeterRegistry());
+
+    private static UpstreamQuotaRegistry quotaRegistry(MockEnvironment environment) {
+        UpstreamQuotaRegistry registry = new UpstreamQuotaRegistry(environment, new SimpleMeterRegistry());
+        registry.validateConfig();
+        return registry;
+    }
+
+    private final List<String> granted = Collections.synchronizedList(new ArrayList<>());
+    private final List<CompletableFuture<Void>> permits = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    private void acquire(AiPriority priority, AiWorkload workload, String name) {
+        acquire(priority, workload, 0, name);
+    }
+
+    private void acquire(AiPriority priority, AiWorkload workload, long tokens, String name) {
+        permits.add(scheduler.acquire(priority, workload, tokens).thenRun(() -> granted.add(name)));
+    }
+
+    // 배분 스레드를 붙잡아 두고 요청을 모두 쌓은 뒤 놓아줌 (허가 순서가 요청 시점의 토큰 보충에 좌우되지 않도록)
+    private CountDownLatch holdDispatcher() throws Exception {
+        Thread testThread = Thread.currentThread();
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        do {
+            // 콜백을 붙이기 전에 허가되면 테스트 스레드에서 실행되므로, 배분 스레드에서 실행될 때까지 다시 요청
+            scheduler.acquire(AiPriority.INTERACTIVE, AiWorkload.KEYWORD_GENERATION).thenRun(() -> {
+                if (Thread.currentThread() == testThread) {
+                    return;
+                }
+                held.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        } while (!held.await(1, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private void awaitAll() throws Exception {
+        CompletableFuture.allOf(permits.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("우선순위가 높은 요청부터 허가한다")
+    void grantsByPriority() throws Exception {
+        CountDownLatch release = holdDispatcher();
+        acquire(AiPriority.BACKFILL, AiWorkload.DETAIL_QUIZ, "backfill");
+        acquire(AiPriority.ANALYSIS, AiWorkload.NEWS_ANALYSIS, "analysis");
+        acquire(AiPriority.INTERACTIVE, AiWorkload.DETAIL_QUIZ, "interactive");
+        release.countDown();
+
+        awaitAll();
+
+        assertThat(granted).containsExactly("interactive", "analysis", "backfill");
+    }
+
+    @Test
+    @DisplayName("같은 우선순위에서는 작업 종류별로 번갈아 허가한다")
+    void alternatesWorkloadsWithinPriority() throws Exception {
+        CountDownLatch release = holdDispatcher();
+        acquire(AiPriority.ANALYSIS, AiWorkload.NEWS_ANALYSIS, "analysis-1");
+        acquire(AiPriority.ANALYSIS, AiWorkload.NEWS_ANALYSIS, "analysis-2");
+        acquire(AiPriority.ANALYSIS, AiWorkload.NEWS_ANALYSIS, "analysis-3");
+        acquire(AiPriority.ANALYSIS, AiWorkload.KEYWORD_GENERATION, "keyword");
+        release.countDown();
+
+        awaitAll();
+
+        assertThat(granted).containsExactly("analysis-1", "keyword", "analysis-2", "analysis-3");
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청의 우선순위를 올리면 더 낮은 우선순위의 요청보다 먼저 허가한다")
+    void grantsPromotedRequestFirst() throws Exception {
+        CountDownLatch release = holdDispatcher();
+        acquire(AiPriority.BACKFILL, AiWorkload.DETAIL_QUIZ, "backfill");
+        acquire(AiPriority.ANALYSIS, AiWorkload.NEWS_ANALYSIS, "analysis");
+        CompletableFuture<Void> promoted = scheduler.acquire(AiPriority.BACKFILL, AiWorkload.DETAIL_QUIZ, 0);
+        permits.add(promoted.thenRun(() -> granted.add("promoted")));
+        scheduler.promote(promoted, AiPriority.INTERACTIVE);
+        release.countDown();
+
+        awaitAll();
+
+        assertThat(granted).containsExactly("promoted", "analysis", "backfill");
+    }
+
+    @Test
+    @DisplayName("취소된 요청은 토큰을 받지 않고 건너뛴다")
+    void skipsCancelledRequests() throws Exception {
+        CompletableFuture<Void> cancelled = scheduler.acquire(AiPriority.INTERACTIVE, AiWorkload.DETAIL_QUIZ);
+        acquire(AiPriority.BACKFILL, AiWorkload.FAKE_NEWS, "backfill");
+        cancelled.cancel(false);
+
+        awaitAll();
+
+        assertThat(granted).containsExactly("backfill");
+        assertThat(cancelled.isCancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("분당 토큰 한도를 넘는 요청은 보충될 때까지 기다리고, 정산으로 돌려받은 토큰으로 허가된다")
+    void waitsForTokenBudgetAndGrantsOnRefund() throws Exception {
+        acquire(AiPriority.ANALYSIS, AiWorkload.NEWS_ANALYSIS, 800, "first");
+        awaitAll();
+
+        CompletableFuture<Void> second = scheduler.acquire(AiPriority.ANALYSIS, AiWorkload.NEWS_ANALYSIS, 800);
+        Thread.sleep(300); // 요청 수 한도는 보충됐지만 남은 토큰(200)이 부족
+        assertThat(second.isDone()).isFalse();
+
+        scheduler.settleTokens(800, 100); // 첫 호출이 실제로는 100 토큰만 사용
+
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(tokenBucket.getAvailableTokens()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("작업 종류의 일일 한도를 넘은 요청은 429로 실패하고, 다른 작업 종류는 계속 허가된다")
+    void rejectsWhenDailyQuotaExhausted() throws Exception {
+        acquire(AiPriority.BACKFILL, AiWorkload.FAKE_NEWS, "fake-news-1");
+        CompletableFuture<Void> overQuota = scheduler.acquire(AiPriority.BACKFILL, AiWorkload.FAKE_NEWS);
+        acquire(AiPriority.BACKFILL, AiWorkload.DETAIL_QUIZ, "quiz");
+
+        awaitAll();
+
+        assertThat(granted).containsExactly("fake-news-1", "quiz");
+        assertThatThrownBy(() -> overQuota.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ServiceException.class);
+    }
+
+    // 임대분이 없으면 보충이 필요하다고 알리고, 보충(공유 버킷 조회)은 release가 열릴 때까지 끝나지 않는 버킷
+    private static class SlowRefillBucket implements AdmissionBucket {
+        private final CountDownLatch refilling = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private long leased;
+
+        @Override
+        public long tryConsume(long tokens) {
+            long nanosToWait = tryConsumeLocal(tokens);
+            return nanosToWait == NEEDS_REFILL ? refill(tokens) : nanosToWait;
+        }
+
+        @Override
+        public synchronized long tryConsumeLocal(long tokens) {
+            if (leased >= tokens) {
+                leased -= tokens;
+                return 0;
+            }
+            return NEEDS_REFILL;
+        }
+
+        @Override
+        public long refill(long tokens) {
+            refilling.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (this) {
+                leased += 10;
+            }
+            return 0;
+        }
+
+        @Override
+        public synchronized void addTokens(long tokens) {
+            leased += tokens;
+        }
+
+        @Override
+        public synchronized void consumeIgnoringRateLimits(long tokens) {
+            leased -= tokens;
+        }
+    }
+
+    @Test
+    @DisplayName("공유 버킷에서 토큰을 가져오는 동안에도 새 요청은 잠금을 기다리지 않고 대기열에 들어간다")
+    void refillsOutsideLock() throws Exception {
+        SlowRefillBucket requestBucket = new SlowRefillBucket();
+        AiAdmissionScheduler distributed = new AiAdmissionScheduler(
+                requestBucket,
+                new LocalAdmissionBucket(tokenBucket),
+                TOKENS_PER_MINUTE,
+                quotaRegistry(new MockEnvironment()),
+                new SimpleMeterRegistry());
+        try {
+            CompletableFuture<Void> first = distributed.acquire(AiPriority.ANALYSIS, AiWorkload.NEWS_ANALYSIS, 10);
+            assertThat(requestBucket.refilling.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 보충이 끝나지 않은 상태에서 요청 추가와 정산이 바로 반환되어야 함
+            CompletableFuture<CompletableFuture<Void>> second = CompletableFuture.supplyAsync(() -> {
+                distributed.settleTokens(10, 10);
+                return distributed.acquire(AiPriority.INTERACTIVE, AiWorkload.DETAIL_QUIZ, 10);
+            });
+            CompletableFuture<Void> secondPermit = second.get(1, TimeUnit.SECONDS);
+            assertThat(first.isDone()).isFalse();
+
+            requestBucket.release.countDown();
+            CompletableFuture.allOf(first, secondPermit).get(5, TimeUnit.SECONDS);
+        } finally {
+            requestBucket.release.countDown();
+            distributed.shutdown();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.back.backend.global.rateLimiter;
+
+import com.back.global.rateLimiter.AdmissionBucket;
+import com.back.global.rateLimiter.AiAdmissionScheduler;
+import com.back.global.rateLimiter.AiPriority;
+import com.back.global.rateLimiter.AiWorkload;
+import com.back.global.rateLimiter.BucketSpec;
+import com.back.global.rateLimiter.DistributedAdmissionBucket;
+import com.back.global.rateLimiter.RateLimitBucket;
+import com.back.global.rateLimiter.RateLimitBucketStore;
+import com.back.global.rateLimiter.UpstreamQuotaRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DistributedAdmissionBucketTest {
+
+    // 분당 60개 = 1초에 1개 보충
+    private static final BucketSpec SPEC = new BucketSpec("test", 10, 60, Duration.ofMinutes(1));
+
+    // DB 대신 하나의 RateLimitBucket을 공유하는 저장소 (시각은 테스트에서 지정)
+    private static class FakeStore extends RateLimitBucketStore {
+        private final RateLimitBucket shared = new RateLimitBucket(SPEC.name(), SPEC.capacity(), SPEC.refillTokens(),
+                SPEC.refillPeriodMillis(), 0);
+        private long now;
+        private int reserveCalls;
+        private int conflictsToThrow;
+        private CountDownLatch forceTakeEntered; // 지정하면 forceTake가 releaseForceTake까지 멈춤 (느린 DB 쓰기)
+        private CountDownLatch releaseForceTake;
+
+        FakeStore() {
+            super(null);
+        }
+
+        @Override
+        public Reservation reserve(BucketSpec spec, long wanted, long minimum) {
+            reserveCalls++;
+            if (conflictsToThrow > 0) {
+                conflictsToThrow--;
+                throw new ObjectOptimisticLockingFailureException(RateLimitBucket.class, spec.name());
+            }
+            long granted = shared.take(wanted, minimum, now);
+            return new Reservation(granted, granted > 0 ? 0 : shared.millisUntil(minimum, now));
+        }
+
+        @Override
+        public void giveBack(BucketSpec spec, long tokens) {
+            shared.giveBack(tokens, now);
+        }
+
+        @Override
+        public void forceTake(BucketSpec spec, long tokens) {
+            if (forceTakeEntered != null) {
+                forceTakeEntered.countDown();
+                try {
+                    releaseForceTake.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            shared.forceTake(tokens, now);
+        }
+
+        long available() {
+            return shared.getTokens();
+        }
+    }
+
+    private final FakeStore store = new FakeStore();
+
+    @Test
+    @DisplayName("임대한 토큰을 다 쓸 때까지는 공유 버킷을 다시 조회하지 않는다")
+    void consumesFromLease() {
+        DistributedAdmissionBucket bucket = new DistributedAdmissionBucket(store, SPEC, 4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(bucket.tryConsume(1)).isZero();
+        }
+        assertThat(store.reserveCalls).isEqualTo(1);
+        assertThat(store.available()).isEqualTo(6);
+
+        assertThat(bucket.tryConsume(1)).isZero();
+        assertThat(store.reserveCalls).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("임대분만으로 차감할 때는 공유 버킷을 조회하지 않고, 부족하면 보충이 필요하다고 알린다")
+    void consumesLocallyWithoutStore() {
+        DistributedAdmissionBucket bucket = new DistributedAdmissionBucket(store, SPEC, 4);
+
+        assertThat(bucket.tryConsumeLocal(1)).isEqualTo(AdmissionBucket.NEEDS_REFILL);
+        assertThat(store.reserveCalls).isZero();
+
+        assertThat(bucket.refill(1)).isZero();
+        for (int i = 0; i < 4; i++) {
+            assertThat(bucket.tryConsumeLocal(1)).isZero();
+        }
+        assertThat(bucket.tryConsumeLocal(1)).isEqualTo(AdmissionBucket.NEEDS_REFILL);
+        assertThat(store.reserveCalls).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인스턴스들이 한도를 나눠 쓰고, 한도가 차면 보충 시각까지 기다린다")
+    void sharesLimitAcrossInstances() {
+        DistributedAdmissionBucket first = new DistributedAdmissionBucket(store, SPEC, 5);
+        DistributedAdmissionBucket second = new DistributedAdmissionBucket(store, SPEC, 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(first.tryConsume(1)).isZero();
+            assertThat(second.tryConsume(1)).isZero();
+        }
+
+        assertThat(first.tryConsume(1)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        store.now = 1000;
+        assertThat(first.tryConsume(1)).isZero();
+        assertThat(second.tryConsume(1)).isPositive();
+    }
+
+    @Test
+    @DisplayName("쓰지 않은 임대 토큰과 초과 사용량은 공유 버킷에 반영된다")
+    void settlesWithSharedBucket() {
+        DistributedAdmissionBucket bucket = new DistributedAdmissionBucket(store, SPEC, 5);
+        assertThat(bucket.tryConsume(2)).isZero();
+
+        bucket.close();
+        assertThat(store.available()).isEqualTo(8);
+
+        bucket.consumeIgnoringRateLimits(10);
+        assertThat(store.available()).isEqualTo(-2);
+        assertThat(bucket.tryConsume(1)).isEqualTo(TimeUnit.SECONDS.toNanos(3));
+    }
+
+    @Test
+    @DisplayName("동시 수정 충돌이면 다시 시도한다")
+    void retriesOnConflict() {
+        DistributedAdmissionBucket bucket = new DistributedAdmissionBucket(store, SPEC, 1);
+        store.conflictsToThrow = 2;
+
+        assertThat(bucket.tryConsume(1)).isZero();
+        assertThat(store.reserveCalls).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("초과 사용량을 공유 버킷에 쓰는 동안에도 호출 허가는 기다리지 않는다")
+    void admitsWhileSettlingWithSharedBucket() throws Exception {
+        UpstreamQuotaRegistry quotaRegistry = new UpstreamQuotaRegistry(new MockEnvironment(), new SimpleMeterRegistry());
+        quotaRegistry.validateConfig();
+        DistributedAdmissionBucket tokenBucket = new DistributedAdmissionBucket(store, SPEC, 5);
+        AiAdmissionScheduler scheduler = new AiAdmissionScheduler(
+                new DistributedAdmissionBucket(new FakeStore(), SPEC, 5), tokenBucket, SPEC.capacity(),
+                quotaRegistry, new SimpleMeterRegistry());
+        try {
+            scheduler.acquire(AiPriority.ANALYSIS, AiWorkload.NEWS_ANALYSIS, 2).get(1, TimeUnit.SECONDS);
+
+            // 예상보다 8개 더 썼음: 임대분 3개를 넘는 5개는 공유 버킷에 써야 하는데 DB 쓰기가 멈춰 있음
+            store.forceTakeEntered = new CountDownLatch(1);
+            store.releaseForceTake = new CountDownLatch(1);
+            Thread.ofVirtual().start(() -> scheduler.settleTokens(2, 10));
+            assertThat(store.forceTakeEntered.await(1, TimeUnit.SECONDS)).isTrue();
+
+            scheduler.acquire(AiPriority.INTERACTIVE, AiWorkload.NEWS_ANALYSIS, 1).get(1, TimeUnit.SECONDS);
+        } finally {
+            store.releaseForceTake.countDown();
+            scheduler.shutdown();
+        }
+    }
+}
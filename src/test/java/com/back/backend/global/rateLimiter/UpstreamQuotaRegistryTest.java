@@ -0,0 +1,48 @@
+package com.back.backend.global.rateLimiter;
+
+import com.back.global.rateLimiter.QuotaDomain;
+import com.back.global.rateLimiter.UpstreamQuotaRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpstreamQuotaRegistryTest {
+
+    // max-wait는 주입되지 않아 0: 초당 한도가 차면 기다리지 않고 바로 false
+    private UpstreamQuotaRegistry registry(MockEnvironment environment) {
+        UpstreamQuotaRegistry registry = new UpstreamQuotaRegistry(environment, new SimpleMeterRegistry());
+        registry.validateConfig();
+        return registry;
+    }
+
+    @Test
+    @DisplayName("일일 한도를 넘으면 거부하고, 다른 도메인의 한도에는 영향을 주지 않는다")
+    void dailyQuotaIsPerDomain() {
+        UpstreamQuotaRegistry registry = registry(new MockEnvironment()
+                .withProperty("upstream.quota.naver-search.per-second", "0")
+                .withProperty("upstream.quota.naver-search.daily", "2"));
+
+        assertThat(registry.tryAcquire(QuotaDomain.NAVER_SEARCH)).isTrue();
+        assertThat(registry.tryAcquire(QuotaDomain.NAVER_SEARCH)).isTrue();
+        assertThat(registry.tryAcquire(QuotaDomain.NAVER_SEARCH)).isFalse();
+
+        assertThat(registry.tryAcquire(QuotaDomain.ARTICLE_CRAWLER)).isTrue();
+        assertThat(registry.dailyUsed(QuotaDomain.NAVER_SEARCH)).isEqualTo(2);
+        assertThat(registry.dailyUsed(QuotaDomain.ARTICLE_CRAWLER)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("초당 한도가 찬 상태에서 대기 시간을 넘기면 거부하고 일일 카운터는 늘리지 않는다")
+    void perSecondLimit() {
+        UpstreamQuotaRegistry registry = registry(new MockEnvironment()
+                .withProperty("upstream.quota.naver-search.per-second", "2"));
+
+        assertThat(registry.tryAcquire(QuotaDomain.NAVER_SEARCH)).isTrue();
+        assertThat(registry.tryAcquire(QuotaDomain.NAVER_SEARCH)).isTrue();
+        assertThat(registry.tryAcquire(QuotaDomain.NAVER_SEARCH)).isFalse();
+        assertThat(registry.dailyUsed(QuotaDomain.NAVER_SEARCH)).isEqualTo(2);
+    }
+}
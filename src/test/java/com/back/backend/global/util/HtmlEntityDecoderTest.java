@@ -0,0 +1,35 @@
+package com.back.backend.global.util;
+
+import com.back.global.util.HtmlEntityDecoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HtmlEntityDecoderTest {
+
+    @Test
+    @DisplayName("엔티티 디코딩, 태그 제거, 공백 정리를 한 번에 처리한다")
+    void decode() {
+        assertThat(HtmlEntityDecoder.decode("&quot;<b>정부</b>&quot;,  기준금리\n동결&hellip; "))
+                .isEqualTo("\"정부\", 기준금리 동결…");
+        assertThat(HtmlEntityDecoder.decode("&lt;b&gt;물가&lt;/b&gt; 상승"))
+                .isEqualTo("물가 상승");
+        assertThat(HtmlEntityDecoder.decode("\\u003Cb\\u003E속보\\u003C/b\\u003E 발표"))
+                .isEqualTo("속보 발표");
+    }
+
+    @Test
+    @DisplayName("숫자 엔티티를 디코딩한다")
+    void numericEntities() {
+        assertThat(HtmlEntityDecoder.decode("&#39;인용&#39; &#x41;&#66;")).isEqualTo("'인용' AB");
+    }
+
+    @Test
+    @DisplayName("엔티티는 한 번만 디코딩하고, 태그가 아니거나 알 수 없는 엔티티는 그대로 둔다")
+    void decodeOnce() {
+        assertThat(HtmlEntityDecoder.decode("&amp;lt;")).isEqualTo("&lt;");
+        assertThat(HtmlEntityDecoder.decode("a <> b < c")).isEqualTo("a <> b < c");
+        assertThat(HtmlEntityDecoder.decode("&unknown; &")).isEqualTo("&unknown; &");
+    }
+}